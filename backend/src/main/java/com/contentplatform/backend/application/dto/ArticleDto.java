@@ -12,6 +12,8 @@ public class ArticleDto {
     private final String content;
     private final ContentStatus status;
     private final Instant publishedAt;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
     private final Instant createdAt;
     private final Instant updatedAt;
 
@@ -22,6 +24,8 @@ public class ArticleDto {
                       String content,
                       ContentStatus status,
                       Instant publishedAt,
+                      Instant publishAt,
+                      Instant unpublishAt,
                       Instant createdAt,
                       Instant updatedAt) {
         this.id = id;
@@ -31,6 +35,8 @@ public class ArticleDto {
         this.content = content;
         this.status = status;
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -63,6 +69,14 @@ public class ArticleDto {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
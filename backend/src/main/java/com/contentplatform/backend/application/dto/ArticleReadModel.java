@@ -0,0 +1,16 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public record ArticleReadModel(String id,
+                               String applicationId,
+                               String title,
+                               String slug,
+                               String content,
+                               ContentStatus status,
+                               Instant publishedAt,
+                               Instant createdAt,
+                               Instant updatedAt) {
+}
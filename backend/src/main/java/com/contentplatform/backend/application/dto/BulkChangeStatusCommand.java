@@ -0,0 +1,29 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.util.List;
+
+public class BulkChangeStatusCommand {
+    private final String applicationId;
+    private final List<String> ids;
+    private final ContentStatus status;
+
+    public BulkChangeStatusCommand(String applicationId, List<String> ids, ContentStatus status) {
+        this.applicationId = applicationId;
+        this.ids = ids;
+        this.status = status;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+}
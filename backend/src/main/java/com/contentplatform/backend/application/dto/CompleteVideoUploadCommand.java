@@ -0,0 +1,50 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+public class CompleteVideoUploadCommand {
+    private final String applicationId;
+    private final String objectKey;
+    private final String uploadToken;
+    private final String title;
+    private final String description;
+    private final ContentStatus status;
+
+    public CompleteVideoUploadCommand(String applicationId,
+                                      String objectKey,
+                                      String uploadToken,
+                                      String title,
+                                      String description,
+                                      ContentStatus status) {
+        this.applicationId = applicationId;
+        this.objectKey = objectKey;
+        this.uploadToken = uploadToken;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public String getUploadToken() {
+        return uploadToken;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,8 @@
+package com.contentplatform.backend.application.dto;
+
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface ContentExport<T> {
+    void forEach(Consumer<? super T> consumer);
+}
@@ -0,0 +1,15 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public record ContentSummaryReadModel(String id,
+                                      String applicationId,
+                                      String title,
+                                      String slug,
+                                      ContentStatus status,
+                                      Instant publishedAt,
+                                      Instant updatedAt,
+                                      String excerpt) {
+}
@@ -0,0 +1,7 @@
+package com.contentplatform.backend.application.dto;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
@@ -0,0 +1,27 @@
+package com.contentplatform.backend.application.dto;
+
+import java.util.List;
+
+public class CursorPageResult<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final int size;
+
+    public CursorPageResult(List<T> items, String nextCursor, int size) {
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
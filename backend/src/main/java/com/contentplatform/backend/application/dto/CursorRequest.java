@@ -0,0 +1,21 @@
+package com.contentplatform.backend.application.dto;
+
+public class CursorRequest {
+    private static final int MAX_SIZE = 100;
+
+    private final ContentCursor cursor;
+    private final int size;
+
+    public CursorRequest(String cursor, int size) {
+        this.cursor = cursor == null || cursor.isBlank() ? null : ContentCursor.decode(cursor.trim());
+        this.size = Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    public ContentCursor getCursor() {
+        return cursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
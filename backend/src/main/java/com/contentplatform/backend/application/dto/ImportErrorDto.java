@@ -0,0 +1,4 @@
+package com.contentplatform.backend.application.dto;
+
+public record ImportErrorDto(long lineNumber, String message) {
+}
@@ -0,0 +1,11 @@
+package com.contentplatform.backend.application.dto;
+
+public record ImportItem<T>(long lineNumber, T command, String error) {
+    public static <T> ImportItem<T> of(long lineNumber, T command) {
+        return new ImportItem<>(lineNumber, command, null);
+    }
+
+    public static <T> ImportItem<T> failed(long lineNumber, String error) {
+        return new ImportItem<>(lineNumber, null, error);
+    }
+}
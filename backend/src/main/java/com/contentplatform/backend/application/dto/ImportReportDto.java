@@ -0,0 +1,10 @@
+package com.contentplatform.backend.application.dto;
+
+import java.util.List;
+
+public record ImportReportDto(long received,
+                              long imported,
+                              long failed,
+                              List<ImportErrorDto> errors,
+                              boolean errorsTruncated) {
+}
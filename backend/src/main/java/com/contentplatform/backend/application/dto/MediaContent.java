@@ -0,0 +1,9 @@
+package com.contentplatform.backend.application.dto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@FunctionalInterface
+public interface MediaContent {
+    void transferTo(Path target) throws IOException;
+}
@@ -3,10 +3,16 @@ package com.contentplatform.backend.application.dto;
 public class PageRequest {
     private final int page;
     private final int size;
+    private final CountMode countMode;
 
     public PageRequest(int page, int size) {
+        this(page, size, CountMode.EXACT);
+    }
+
+    public PageRequest(int page, int size, CountMode countMode) {
         this.page = Math.max(page, 0);
         this.size = Math.max(size, 1);
+        this.countMode = countMode == null ? CountMode.EXACT : countMode;
     }
 
     public int getPage() {
@@ -16,4 +22,8 @@ public class PageRequest {
     public int getSize() {
         return size;
     }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
 }
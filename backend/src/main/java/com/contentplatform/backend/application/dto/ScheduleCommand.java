@@ -0,0 +1,33 @@
+package com.contentplatform.backend.application.dto;
+
+import java.time.Instant;
+
+public class ScheduleCommand {
+    private final String id;
+    private final String applicationId;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
+
+    public ScheduleCommand(String id, String applicationId, Instant publishAt, Instant unpublishAt) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public record ScheduledFiringDto(String id,
+                                 String applicationId,
+                                 ContentStatus previousStatus,
+                                 ContentStatus status,
+                                 Instant scheduledAt,
+                                 Instant firedAt) {
+}
@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.dto;
+
+public enum StatusChangeOutcome {
+    UPDATED,
+    NOT_FOUND
+}
@@ -0,0 +1,15 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public record StatusChangeResultDto(String id,
+                                    StatusChangeOutcome outcome,
+                                    ContentStatus previousStatus,
+                                    ContentStatus status,
+                                    Instant publishedAt) {
+    public static StatusChangeResultDto notFound(String id) {
+        return new StatusChangeResultDto(id, StatusChangeOutcome.NOT_FOUND, null, null, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+public class SubmitVideoCommand {
+    private final String applicationId;
+    private final String title;
+    private final String description;
+    private final ContentStatus status;
+    private final String originalFileName;
+    private final String contentType;
+    private final MediaContent content;
+
+    public SubmitVideoCommand(String applicationId,
+                              String title,
+                              String description,
+                              ContentStatus status,
+                              String originalFileName,
+                              String contentType,
+                              MediaContent content) {
+        this.applicationId = applicationId;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.originalFileName = originalFileName;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public String getOriginalFileName() {
+        return originalFileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaContent getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,16 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.UploadSessionState;
+
+import java.util.List;
+
+public record UploadSessionDto(String id,
+                               String applicationId,
+                               String objectKey,
+                               UploadSessionState state,
+                               long totalSizeBytes,
+                               long chunkSizeBytes,
+                               int totalParts,
+                               List<UploadedRangeDto> receivedRanges,
+                               String videoId) {
+}
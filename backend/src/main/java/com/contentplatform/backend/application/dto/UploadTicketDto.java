@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.dto;
+
+import java.time.Instant;
+
+public record UploadTicketDto(String objectKey, String uploadUrl, String uploadToken, Instant expiresAt) {
+}
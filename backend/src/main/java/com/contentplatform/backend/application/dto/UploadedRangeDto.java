@@ -0,0 +1,4 @@
+package com.contentplatform.backend.application.dto;
+
+public record UploadedRangeDto(int partNumber, long offset, long sizeBytes) {
+}
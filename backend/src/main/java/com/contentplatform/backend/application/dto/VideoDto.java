@@ -1,6 +1,7 @@
 package com.contentplatform.backend.application.dto;
 
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 
 import java.time.Instant;
 
@@ -11,9 +12,12 @@ public class VideoDto {
     private final String description;
     private final ContentStatus status;
     private final Instant publishedAt;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
     private final String objectKey;
     private final String contentType;
     private final long sizeBytes;
+    private final ProcessingState processingState;
     private final Instant createdAt;
     private final Instant updatedAt;
 
@@ -23,9 +27,12 @@ public class VideoDto {
                     String description,
                     ContentStatus status,
                     Instant publishedAt,
+                    Instant publishAt,
+                    Instant unpublishAt,
                     String objectKey,
                     String contentType,
                     long sizeBytes,
+                    ProcessingState processingState,
                     Instant createdAt,
                     Instant updatedAt) {
         this.id = id;
@@ -34,9 +41,12 @@ public class VideoDto {
         this.description = description;
         this.status = status;
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.objectKey = objectKey;
         this.contentType = contentType;
         this.sizeBytes = sizeBytes;
+        this.processingState = processingState;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -65,6 +75,14 @@ public class VideoDto {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public String getObjectKey() {
         return objectKey;
     }
@@ -77,6 +95,10 @@ public class VideoDto {
         return sizeBytes;
     }
 
+    public ProcessingState getProcessingState() {
+        return processingState;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,13 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ProcessingState;
+
+import java.time.Instant;
+
+public record VideoProcessingJobDto(String jobId,
+                                    String applicationId,
+                                    String objectKey,
+                                    ProcessingState state,
+                                    Instant submittedAt,
+                                    Instant updatedAt) {
+}
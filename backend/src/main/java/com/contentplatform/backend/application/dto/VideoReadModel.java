@@ -0,0 +1,37 @@
+package com.contentplatform.backend.application.dto;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public record VideoReadModel(String id,
+                             String applicationId,
+                             String title,
+                             String description,
+                             ContentStatus status,
+                             Instant publishedAt,
+                             String objectKey,
+                             String contentType,
+                             long sizeBytes,
+                             Instant createdAt,
+                             Instant updatedAt,
+                             String presignedUrl) {
+    public VideoReadModel(String id,
+                          String applicationId,
+                          String title,
+                          String description,
+                          ContentStatus status,
+                          Instant publishedAt,
+                          String objectKey,
+                          String contentType,
+                          long sizeBytes,
+                          Instant createdAt,
+                          Instant updatedAt) {
+        this(id, applicationId, title, description, status, publishedAt, objectKey, contentType, sizeBytes, createdAt, updatedAt, null);
+    }
+
+    public VideoReadModel withPresignedUrl(String presignedUrl) {
+        return new VideoReadModel(id, applicationId, title, description, status, publishedAt, objectKey, contentType, sizeBytes,
+            createdAt, updatedAt, presignedUrl);
+    }
+}
@@ -19,6 +19,8 @@ public class ContentMapper {
             post.getContent(),
             post.getStatus(),
             post.getPublishedAt(),
+            post.getPublishAt(),
+            post.getUnpublishAt(),
             post.getCreatedAt(),
             post.getUpdatedAt()
         );
@@ -33,6 +35,8 @@ public class ContentMapper {
             article.getContent(),
             article.getStatus(),
             article.getPublishedAt(),
+            article.getPublishAt(),
+            article.getUnpublishAt(),
             article.getCreatedAt(),
             article.getUpdatedAt()
         );
@@ -46,9 +50,12 @@ public class ContentMapper {
             video.getDescription(),
             video.getStatus(),
             video.getPublishedAt(),
+            video.getPublishAt(),
+            video.getUnpublishAt(),
             video.getObjectKey(),
             video.getContentType(),
             video.getSizeBytes(),
+            video.getProcessingState(),
             video.getCreatedAt(),
             video.getUpdatedAt()
         );
@@ -1,10 +1,13 @@
 package com.contentplatform.backend.application.port.in;
 
 import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
 import com.contentplatform.backend.application.dto.CreateArticleCommand;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
 import com.contentplatform.backend.application.dto.UpdateArticleCommand;
 import com.contentplatform.backend.domain.value.ContentStatus;
 
@@ -14,6 +17,8 @@ public interface ArticleUseCase {
     ArticleDto create(CreateArticleCommand command, List<String> allowedApplicationIds);
     ArticleDto update(UpdateArticleCommand command, List<String> allowedApplicationIds);
     ArticleDto changeStatus(ChangeStatusCommand command, List<String> allowedApplicationIds);
+    List<StatusChangeResultDto> changeStatuses(BulkChangeStatusCommand command, List<String> allowedApplicationIds);
+    ArticleDto schedule(ScheduleCommand command, List<String> allowedApplicationIds);
     ArticleDto getBySlug(String applicationId, String slug);
     PageResult<ArticleDto> list(String applicationId, ContentStatus status, PageRequest pageRequest);
 }
@@ -0,0 +1,15 @@
+package com.contentplatform.backend.application.port.in;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.ContentExport;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.VideoDto;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ContentExportUseCase {
+    ContentExport<PostDto> exportPosts(String applicationId, Instant updatedSince, List<String> allowedApplicationIds);
+    ContentExport<ArticleDto> exportArticles(String applicationId, Instant updatedSince, List<String> allowedApplicationIds);
+    ContentExport<VideoDto> exportVideos(String applicationId, Instant updatedSince, List<String> allowedApplicationIds);
+}
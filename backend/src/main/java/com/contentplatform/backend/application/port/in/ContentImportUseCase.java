@@ -0,0 +1,14 @@
+package com.contentplatform.backend.application.port.in;
+
+import com.contentplatform.backend.application.dto.CreateArticleCommand;
+import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.contentplatform.backend.application.dto.ImportReportDto;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ContentImportUseCase {
+    ImportReportDto importPosts(Stream<ImportItem<CreatePostCommand>> items, List<String> allowedApplicationIds);
+    ImportReportDto importArticles(Stream<ImportItem<CreateArticleCommand>> items, List<String> allowedApplicationIds);
+}
@@ -0,0 +1,11 @@
+package com.contentplatform.backend.application.port.in;
+
+import com.contentplatform.backend.application.dto.ScheduleAction;
+import com.contentplatform.backend.application.dto.ScheduledFiringDto;
+import com.contentplatform.backend.domain.value.ContentType;
+
+import java.util.List;
+
+public interface ContentSchedulingUseCase {
+    List<ScheduledFiringDto> fireDue(ContentType type, ScheduleAction action, int batchSize);
+}
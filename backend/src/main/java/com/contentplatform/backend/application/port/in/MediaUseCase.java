@@ -2,9 +2,13 @@ package com.contentplatform.backend.application.port.in;
 
 import com.contentplatform.backend.application.dto.MediaUploadDto;
 import com.contentplatform.backend.application.dto.UploadMediaCommand;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
 
 import java.util.List;
 
 public interface MediaUseCase {
     MediaUploadDto upload(UploadMediaCommand command, List<String> allowedApplicationIds);
+    MediaUploadDto uploadStream(UploadMediaCommand command, List<String> allowedApplicationIds);
+    UploadTicketDto requestUpload(String applicationId, String kind, String originalFileName, List<String> allowedApplicationIds);
+    MediaUploadDto completeUpload(String applicationId, String objectKey, String uploadToken, List<String> allowedApplicationIds);
 }
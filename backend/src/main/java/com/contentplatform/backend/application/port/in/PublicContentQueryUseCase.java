@@ -0,0 +1,24 @@
+package com.contentplatform.backend.application.port.in;
+
+import com.contentplatform.backend.application.dto.ArticleReadModel;
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.dto.CursorPageResult;
+import com.contentplatform.backend.application.dto.CursorRequest;
+import com.contentplatform.backend.application.dto.PageRequest;
+import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.PostReadModel;
+import com.contentplatform.backend.application.dto.VideoReadModel;
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+public interface PublicContentQueryUseCase {
+    PageResult<PostReadModel> listPosts(String applicationId, ContentStatus status, PageRequest pageRequest);
+    PageResult<ContentSummaryReadModel> listPostSummaries(String applicationId, ContentStatus status, PageRequest pageRequest, int excerptLength);
+    PageResult<ContentSummaryReadModel> searchPosts(String applicationId, ContentStatus status, String query, PageRequest pageRequest, int excerptLength);
+    CursorPageResult<PostReadModel> listPostsByCursor(String applicationId, ContentStatus status, CursorRequest cursorRequest);
+    PageResult<ArticleReadModel> listArticles(String applicationId, ContentStatus status, PageRequest pageRequest);
+    PageResult<ContentSummaryReadModel> listArticleSummaries(String applicationId, ContentStatus status, PageRequest pageRequest, int excerptLength);
+    PageResult<ContentSummaryReadModel> searchArticles(String applicationId, ContentStatus status, String query, PageRequest pageRequest, int excerptLength);
+    CursorPageResult<ArticleReadModel> listArticlesByCursor(String applicationId, ContentStatus status, CursorRequest cursorRequest);
+    PageResult<VideoReadModel> listVideos(String applicationId, ContentStatus status, PageRequest pageRequest);
+    CursorPageResult<VideoReadModel> listVideosByCursor(String applicationId, ContentStatus status, CursorRequest cursorRequest);
+}
@@ -0,0 +1,16 @@
+package com.contentplatform.backend.application.port.in;
+
+import com.contentplatform.backend.application.dto.CreateUploadSessionCommand;
+import com.contentplatform.backend.application.dto.UploadSessionDto;
+import com.contentplatform.backend.application.dto.VideoDto;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface UploadSessionUseCase {
+    UploadSessionDto create(CreateUploadSessionCommand command, List<String> allowedApplicationIds);
+    UploadSessionDto uploadChunk(String sessionId, int partNumber, InputStream inputStream, long sizeBytes, List<String> allowedApplicationIds);
+    UploadSessionDto get(String sessionId, List<String> allowedApplicationIds);
+    VideoDto complete(String sessionId, List<String> allowedApplicationIds);
+    int expireAbandoned(int limit);
+}
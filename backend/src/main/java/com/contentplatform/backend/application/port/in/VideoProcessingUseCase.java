@@ -0,0 +1,12 @@
+package com.contentplatform.backend.application.port.in;
+
+import com.contentplatform.backend.application.dto.SubmitVideoCommand;
+import com.contentplatform.backend.application.dto.VideoProcessingJobDto;
+
+import java.util.List;
+
+public interface VideoProcessingUseCase {
+    VideoProcessingJobDto submit(SubmitVideoCommand command, List<String> allowedApplicationIds);
+    VideoProcessingJobDto getJob(String jobId, List<String> allowedApplicationIds);
+    int recoverInterrupted();
+}
@@ -1,17 +1,29 @@
 package com.contentplatform.backend.application.port.in;
 
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CompleteVideoUploadCommand;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
 import com.contentplatform.backend.application.dto.UploadVideoCommand;
 import com.contentplatform.backend.application.dto.VideoDto;
 import com.contentplatform.backend.domain.value.ContentStatus;
 
 import java.util.List;
+import java.util.Map;
 
 public interface VideoUseCase {
     VideoDto upload(UploadVideoCommand command, List<String> allowedApplicationIds);
+    VideoDto uploadStream(UploadVideoCommand command, List<String> allowedApplicationIds);
+    UploadTicketDto requestUpload(String applicationId, String originalFileName, List<String> allowedApplicationIds);
+    VideoDto completeUpload(CompleteVideoUploadCommand command, List<String> allowedApplicationIds);
     VideoDto changeStatus(ChangeStatusCommand command, List<String> allowedApplicationIds);
+    List<StatusChangeResultDto> changeStatuses(BulkChangeStatusCommand command, List<String> allowedApplicationIds);
+    VideoDto schedule(ScheduleCommand command, List<String> allowedApplicationIds);
     PageResult<VideoDto> list(String applicationId, ContentStatus status, PageRequest pageRequest);
     String getPresignedUrl(String objectKey);
+    Map<String, String> getPresignedUrls(List<String> objectKeys);
 }
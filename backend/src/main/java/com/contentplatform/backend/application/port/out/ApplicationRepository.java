@@ -9,6 +9,7 @@ public interface ApplicationRepository {
     Optional<Application> findById(String id);
     Optional<Application> findFirst();
     List<Application> findAll();
+    Application insert(Application application);
     Application save(Application application);
     void deleteById(String id);
     boolean existsById(String id);
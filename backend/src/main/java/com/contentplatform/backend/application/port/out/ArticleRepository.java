@@ -1,14 +1,31 @@
 package com.contentplatform.backend.application.port.out;
 
 import com.contentplatform.backend.domain.model.Article;
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.value.ContentStatus;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ArticleRepository {
+    Article insert(Article article);
+    List<Article> insertAll(List<Article> articles);
     Article save(Article article);
+    Optional<StatusTransition<Article>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now);
+    List<StatusTransition<ContentSummary>> transitionStatuses(String applicationId, Collection<String> ids, ContentStatus status, Instant now);
+    Optional<Article> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now);
+    List<ScheduledTransition<ContentSummary>> publishDue(Instant now, int limit);
+    List<ScheduledTransition<ContentSummary>> unpublishDue(Instant now, int limit);
+    void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Article> consumer);
     Optional<Article> findById(String id);
     Optional<Article> findByApplicationIdAndSlug(String applicationId, String slug);
     PageSlice<Article> findByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size);
     PageSlice<Article> findByApplicationId(String applicationId, int page, int size);
+    ContentSlice<Article> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size);
+    ContentSlice<Article> findSliceByApplicationId(String applicationId, int page, int size);
+    long countByApplicationIdAndStatus(String applicationId, ContentStatus status);
+    long countByApplicationId(String applicationId);
 }
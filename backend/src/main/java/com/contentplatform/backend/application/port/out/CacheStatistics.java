@@ -0,0 +1,4 @@
+package com.contentplatform.backend.application.port.out;
+
+public record CacheStatistics(String name, long size, long hits, long misses, long evictions) {
+}
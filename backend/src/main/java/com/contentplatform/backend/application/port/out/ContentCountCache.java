@@ -0,0 +1,27 @@
+package com.contentplatform.backend.application.port.out;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+
+import java.util.function.LongSupplier;
+
+public interface ContentCountCache {
+    long get(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState, LongSupplier loader);
+    void recordCreated(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState);
+    void recordMoved(ContentType type, String fromApplicationId, ContentStatus fromStatus, String toApplicationId, ContentStatus toStatus,
+                     ProcessingState processingState);
+    void recordProcessed(ContentType type, String applicationId, ContentStatus status, ProcessingState fromState, ProcessingState toState);
+
+    default long get(ContentType type, String applicationId, ContentStatus status, LongSupplier loader) {
+        return get(type, applicationId, status, null, loader);
+    }
+
+    default void recordCreated(ContentType type, String applicationId, ContentStatus status) {
+        recordCreated(type, applicationId, status, null);
+    }
+
+    default void recordMoved(ContentType type, String fromApplicationId, ContentStatus fromStatus, String toApplicationId, ContentStatus toStatus) {
+        recordMoved(type, fromApplicationId, fromStatus, toApplicationId, toStatus, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.contentplatform.backend.application.port.out;
+
+import com.contentplatform.backend.application.dto.ArticleReadModel;
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.dto.PostReadModel;
+import com.contentplatform.backend.application.dto.VideoReadModel;
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public interface ContentReadModelRepository {
+    PageSlice<PostReadModel> findPosts(String applicationId, ContentStatus status, int page, int size);
+    ContentSlice<PostReadModel> findPostSlice(String applicationId, ContentStatus status, int page, int size);
+    KeysetSlice<PostReadModel> findPostsBefore(String applicationId, ContentStatus status, Instant publishedAt, String id, int size);
+    PageSlice<ContentSummaryReadModel> findPostSummaries(String applicationId, ContentStatus status, int page, int size, int excerptLength);
+    ContentSlice<ContentSummaryReadModel> findPostSummarySlice(String applicationId, ContentStatus status, int page, int size, int excerptLength);
+    ContentSlice<ContentSummaryReadModel> searchPosts(String applicationId, ContentStatus status, String query, int page, int size, int excerptLength);
+    long countPosts(String applicationId, ContentStatus status);
+    PageSlice<ArticleReadModel> findArticles(String applicationId, ContentStatus status, int page, int size);
+    ContentSlice<ArticleReadModel> findArticleSlice(String applicationId, ContentStatus status, int page, int size);
+    KeysetSlice<ArticleReadModel> findArticlesBefore(String applicationId, ContentStatus status, Instant publishedAt, String id, int size);
+    PageSlice<ContentSummaryReadModel> findArticleSummaries(String applicationId, ContentStatus status, int page, int size, int excerptLength);
+    ContentSlice<ContentSummaryReadModel> findArticleSummarySlice(String applicationId, ContentStatus status, int page, int size, int excerptLength);
+    ContentSlice<ContentSummaryReadModel> searchArticles(String applicationId, ContentStatus status, String query, int page, int size, int excerptLength);
+    long countArticles(String applicationId, ContentStatus status);
+    PageSlice<VideoReadModel> findVideos(String applicationId, ContentStatus status, int page, int size);
+    ContentSlice<VideoReadModel> findVideoSlice(String applicationId, ContentStatus status, int page, int size);
+    KeysetSlice<VideoReadModel> findVideosBefore(String applicationId, ContentStatus status, Instant publishedAt, String id, int size);
+    long countVideos(String applicationId, ContentStatus status);
+}
@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.port.out;
+
+import java.util.List;
+
+public record ContentSlice<T>(List<T> items, int page, int size, boolean hasNext) {
+}
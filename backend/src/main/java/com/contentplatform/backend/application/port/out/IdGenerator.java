@@ -0,0 +1,5 @@
+package com.contentplatform.backend.application.port.out;
+
+public interface IdGenerator {
+    String newId();
+}
@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.port.out;
+
+import java.util.List;
+
+public record KeysetSlice<T>(List<T> items, boolean hasNext) {
+}
@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.port.out;
+
+public interface MediaProcessingQueue {
+    boolean hasCapacity();
+    boolean trySubmit(Runnable task);
+}
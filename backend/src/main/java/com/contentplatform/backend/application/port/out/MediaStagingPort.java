@@ -0,0 +1,12 @@
+package com.contentplatform.backend.application.port.out;
+
+import com.contentplatform.backend.application.dto.MediaContent;
+
+import java.io.InputStream;
+
+public interface MediaStagingPort {
+    StagedMedia stage(MediaContent content);
+    InputStream open(StagedMedia media);
+    void discard(StagedMedia media);
+    void discardAll();
+}
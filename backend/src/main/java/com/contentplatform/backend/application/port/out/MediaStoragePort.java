@@ -1,8 +1,22 @@
 package com.contentplatform.backend.application.port.out;
 
+import com.contentplatform.backend.domain.model.UploadPart;
+
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface MediaStoragePort {
     MediaUploadResult upload(String objectKey, InputStream inputStream, long sizeBytes, String contentType);
+    MediaUploadResult uploadStream(String objectKey, InputStream inputStream, long sizeBytes, String contentType);
     String getPresignedUrl(String objectKey, int expirySeconds);
+    Map<String, String> getPresignedUrls(Collection<String> objectKeys, int expirySeconds);
+    String getPresignedUploadUrl(String objectKey, int expirySeconds);
+    Optional<MediaUploadResult> statObject(String objectKey);
+    String createMultipartUpload(String objectKey, String contentType);
+    String uploadPart(String objectKey, String uploadId, int partNumber, InputStream inputStream, long sizeBytes);
+    void completeMultipartUpload(String objectKey, String uploadId, List<UploadPart> parts);
+    void abortMultipartUpload(String objectKey, String uploadId);
 }
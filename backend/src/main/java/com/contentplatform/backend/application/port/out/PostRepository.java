@@ -1,14 +1,31 @@
 package com.contentplatform.backend.application.port.out;
 
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.model.Post;
 import com.contentplatform.backend.domain.value.ContentStatus;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PostRepository {
+    Post insert(Post post);
+    List<Post> insertAll(List<Post> posts);
     Post save(Post post);
+    Optional<StatusTransition<Post>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now);
+    List<StatusTransition<ContentSummary>> transitionStatuses(String applicationId, Collection<String> ids, ContentStatus status, Instant now);
+    Optional<Post> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now);
+    List<ScheduledTransition<ContentSummary>> publishDue(Instant now, int limit);
+    List<ScheduledTransition<ContentSummary>> unpublishDue(Instant now, int limit);
+    void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Post> consumer);
     Optional<Post> findById(String id);
     Optional<Post> findByApplicationIdAndSlug(String applicationId, String slug);
     PageSlice<Post> findByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size);
     PageSlice<Post> findByApplicationId(String applicationId, int page, int size);
+    ContentSlice<Post> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size);
+    ContentSlice<Post> findSliceByApplicationId(String applicationId, int page, int size);
+    long countByApplicationIdAndStatus(String applicationId, ContentStatus status);
+    long countByApplicationId(String applicationId);
 }
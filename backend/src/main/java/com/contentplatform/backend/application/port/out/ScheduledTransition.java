@@ -0,0 +1,8 @@
+package com.contentplatform.backend.application.port.out;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public record ScheduledTransition<T>(T content, ContentStatus previousStatus, Instant scheduledAt) {
+}
@@ -0,0 +1,10 @@
+package com.contentplatform.backend.application.port.out;
+
+import java.util.function.Supplier;
+
+public interface SlugCache<V> {
+    String name();
+    V get(String applicationId, String slug, Supplier<V> loader);
+    void invalidate(String applicationId, String slug);
+    CacheStatistics statistics();
+}
@@ -0,0 +1,4 @@
+package com.contentplatform.backend.application.port.out;
+
+public record StagedMedia(String location, long sizeBytes) {
+}
@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.port.out;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+public record StatusTransition<T>(T content, ContentStatus previousStatus) {
+}
@@ -0,0 +1,18 @@
+package com.contentplatform.backend.application.port.out;
+
+import com.contentplatform.backend.domain.model.UploadPart;
+import com.contentplatform.backend.domain.model.UploadSession;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository {
+    UploadSession save(UploadSession session);
+    Optional<UploadSession> findById(String id);
+    UploadPart savePart(String sessionId, UploadPart part);
+    List<UploadPart> findParts(String sessionId);
+    void touch(String sessionId, Instant now);
+    List<UploadSession> findOpenUpdatedBefore(Instant cutoff, int limit);
+    boolean expire(String sessionId, Instant cutoff, Instant now);
+}
@@ -0,0 +1,6 @@
+package com.contentplatform.backend.application.port.out;
+
+public interface UploadTicketSigner {
+    String sign(String applicationId, String objectKey);
+    boolean verify(String applicationId, String objectKey, String uploadToken);
+}
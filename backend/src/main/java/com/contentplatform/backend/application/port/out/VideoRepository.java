@@ -2,12 +2,34 @@ package com.contentplatform.backend.application.port.out;
 
 import com.contentplatform.backend.domain.model.Video;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface VideoRepository {
+    Video insert(Video video);
+    Video insertProcessing(Video video, String processingNode);
     Video save(Video video);
+    Optional<StatusTransition<Video>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now);
+    List<StatusTransition<Video>> transitionStatuses(String applicationId, Collection<String> ids, ContentStatus status, Instant now);
+    Optional<Video> updateProcessingState(String id, ProcessingState expected, ProcessingState state, long sizeBytes, Instant now);
+    Optional<Video> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now);
+    List<ScheduledTransition<Video>> publishDue(Instant now, int limit);
+    List<ScheduledTransition<Video>> unpublishDue(Instant now, int limit);
+    void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Video> consumer);
     Optional<Video> findById(String id);
+    List<Video> findInterruptedProcessing(String processingNode, Instant staleBefore);
+    void deleteById(String id);
     PageSlice<Video> findByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size);
     PageSlice<Video> findByApplicationId(String applicationId, int page, int size);
+    ContentSlice<Video> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size);
+    ContentSlice<Video> findSliceByApplicationId(String applicationId, int page, int size);
+    long countByApplicationIdAndStatus(String applicationId, ContentStatus status);
+    long countByApplicationId(String applicationId);
+    boolean existsByObjectKey(String objectKey);
+    Optional<Video> findByObjectKey(String objectKey);
 }
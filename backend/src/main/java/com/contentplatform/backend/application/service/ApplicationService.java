@@ -7,21 +7,26 @@ import com.contentplatform.backend.application.exception.BadRequestException;
 import com.contentplatform.backend.application.exception.NotFoundException;
 import com.contentplatform.backend.application.port.in.ApplicationUseCase;
 import com.contentplatform.backend.application.port.out.ApplicationRepository;
+import com.contentplatform.backend.application.port.out.IdGenerator;
 import com.contentplatform.backend.domain.model.Application;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class ApplicationService implements ApplicationUseCase {
     private final ApplicationRepository applicationRepository;
+    private final IdGenerator idGenerator;
 
-    public ApplicationService(ApplicationRepository applicationRepository) {
+    public ApplicationService(ApplicationRepository applicationRepository,
+                              IdGenerator idGenerator) {
         this.applicationRepository = applicationRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ApplicationDto> list() {
         return applicationRepository.findAll().stream()
             .map(this::toDto)
@@ -29,6 +34,7 @@ public class ApplicationService implements ApplicationUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ApplicationDto getById(String id) {
         Application application = applicationRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("Application not found"));
@@ -41,16 +47,17 @@ public class ApplicationService implements ApplicationUseCase {
         if (id != null && applicationRepository.existsById(id)) {
             throw new BadRequestException("Application id already exists");
         }
-        String resolvedId = (id == null || id.isBlank()) ? UUID.randomUUID().toString() : id.trim();
+        String resolvedId = (id == null || id.isBlank()) ? idGenerator.newId() : id.trim();
         Application application = new Application(
             resolvedId,
             command.getName().trim(),
             normalizeWebsite(command.getWebsiteUrl())
         );
-        return toDto(applicationRepository.save(application));
+        return toDto(applicationRepository.insert(application));
     }
 
     @Override
+    @Transactional
     public ApplicationDto update(UpdateApplicationCommand command) {
         Application existing = applicationRepository.findById(command.getId())
             .orElseThrow(() -> new NotFoundException("Application not found"));
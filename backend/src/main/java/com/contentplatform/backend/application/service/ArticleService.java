@@ -1,36 +1,64 @@
 package com.contentplatform.backend.application.service;
 
 import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.CreateArticleCommand;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
 import com.contentplatform.backend.application.dto.UpdateArticleCommand;
+import com.contentplatform.backend.application.exception.BadRequestException;
 import com.contentplatform.backend.application.exception.ForbiddenException;
 import com.contentplatform.backend.application.exception.NotFoundException;
 import com.contentplatform.backend.application.mapper.ContentMapper;
 import com.contentplatform.backend.application.port.in.ArticleUseCase;
 import com.contentplatform.backend.application.port.out.ArticleRepository;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.application.port.out.IdGenerator;
 import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.application.port.out.StatusTransition;
 import com.contentplatform.backend.application.port.out.TimeProvider;
 import com.contentplatform.backend.domain.model.Article;
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ArticleService implements ArticleUseCase {
     private final ArticleRepository articleRepository;
     private final TimeProvider timeProvider;
+    private final IdGenerator idGenerator;
     private final ContentMapper mapper;
+    private final SlugCache<ArticleDto> slugCache;
+    private final ContentCountCache countCache;
 
-    public ArticleService(ArticleRepository articleRepository, TimeProvider timeProvider, ContentMapper mapper) {
+    public ArticleService(ArticleRepository articleRepository,
+                          TimeProvider timeProvider,
+                          IdGenerator idGenerator,
+                          ContentMapper mapper,
+                          SlugCache<ArticleDto> slugCache,
+                          ContentCountCache countCache) {
         this.articleRepository = articleRepository;
         this.timeProvider = timeProvider;
+        this.idGenerator = idGenerator;
         this.mapper = mapper;
+        this.slugCache = slugCache;
+        this.countCache = countCache;
     }
 
     @Override
@@ -39,20 +67,26 @@ public class ArticleService implements ArticleUseCase {
         Instant now = timeProvider.now();
         Instant publishedAt = command.getStatus() == ContentStatus.PUBLISHED ? now : null;
         Article article = new Article(
-            UUID.randomUUID().toString(),
+            idGenerator.newId(),
             command.getApplicationId(),
             command.getTitle(),
             command.getSlug(),
             command.getContent(),
             command.getStatus(),
             publishedAt,
+            null,
+            null,
             now,
             now
         );
-        return mapper.toArticleDto(articleRepository.save(article));
+        ArticleDto saved = mapper.toArticleDto(articleRepository.insert(article));
+        slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+        countCache.recordCreated(ContentType.ARTICLE, saved.getApplicationId(), saved.getStatus());
+        return saved;
     }
 
     @Override
+    @Transactional
     public ArticleDto update(UpdateArticleCommand command, List<String> allowedApplicationIds) {
         enforceTenant(command.getApplicationId(), allowedApplicationIds);
         Article existing = articleRepository.findById(command.getId())
@@ -66,56 +100,134 @@ public class ArticleService implements ArticleUseCase {
             command.getContent(),
             command.getStatus(),
             publishedAt,
+            existing.getPublishAt(),
+            existing.getUnpublishAt(),
             existing.getCreatedAt(),
             timeProvider.now()
         );
-        return mapper.toArticleDto(articleRepository.save(updated));
+        ArticleDto saved = mapper.toArticleDto(articleRepository.save(updated));
+        AfterCommit.run(() -> {
+            slugCache.invalidate(existing.getApplicationId(), existing.getSlug());
+            slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+            countCache.recordMoved(ContentType.ARTICLE, existing.getApplicationId(), existing.getStatus(), saved.getApplicationId(), saved.getStatus());
+        });
+        return saved;
     }
 
     @Override
     public ArticleDto changeStatus(ChangeStatusCommand command, List<String> allowedApplicationIds) {
         enforceTenant(command.getApplicationId(), allowedApplicationIds);
-        Article existing = articleRepository.findById(command.getId())
-            .orElseThrow(() -> new NotFoundException("Article not found"));
-        Instant publishedAt = resolvePublishedAt(existing.getStatus(), command.getStatus(), existing.getPublishedAt());
-        Article updated = new Article(
-            existing.getId(),
-            existing.getApplicationId(),
-            existing.getTitle(),
-            existing.getSlug(),
-            existing.getContent(),
+        StatusTransition<Article> transition = articleRepository.transitionStatus(
+            command.getId(),
+            command.getApplicationId(),
             command.getStatus(),
-            publishedAt,
-            existing.getCreatedAt(),
             timeProvider.now()
-        );
-        return mapper.toArticleDto(articleRepository.save(updated));
+        ).orElseThrow(() -> new NotFoundException("Article not found"));
+        ArticleDto saved = mapper.toArticleDto(transition.content());
+        slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+        countCache.recordMoved(ContentType.ARTICLE, saved.getApplicationId(), transition.previousStatus(), saved.getApplicationId(), saved.getStatus());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<StatusChangeResultDto> changeStatuses(BulkChangeStatusCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        Set<String> ids = new LinkedHashSet<>(command.getIds());
+        Map<String, StatusTransition<ContentSummary>> transitions = new HashMap<>();
+        for (StatusTransition<ContentSummary> transition : articleRepository.transitionStatuses(
+            command.getApplicationId(), ids, command.getStatus(), timeProvider.now())) {
+            transitions.put(transition.content().getId(), transition);
+        }
+        AfterCommit.run(() -> transitions.values().forEach(transition -> {
+            slugCache.invalidate(command.getApplicationId(), transition.content().getSlug());
+            countCache.recordMoved(ContentType.ARTICLE, command.getApplicationId(), transition.previousStatus(), command.getApplicationId(), command.getStatus());
+        }));
+        return ids.stream()
+            .map(id -> {
+                StatusTransition<ContentSummary> transition = transitions.get(id);
+                return transition == null
+                    ? StatusChangeResultDto.notFound(id)
+                    : new StatusChangeResultDto(id, StatusChangeOutcome.UPDATED, transition.previousStatus(),
+                        transition.content().getStatus(), transition.content().getPublishedAt());
+            })
+            .toList();
+    }
+
+    @Override
+    public ArticleDto schedule(ScheduleCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        validateSchedule(command);
+        Article article = articleRepository.updateSchedule(
+            command.getId(),
+            command.getApplicationId(),
+            command.getPublishAt(),
+            command.getUnpublishAt(),
+            timeProvider.now()
+        ).orElseThrow(() -> new NotFoundException("Article not found"));
+        ArticleDto saved = mapper.toArticleDto(article);
+        slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ArticleDto getBySlug(String applicationId, String slug) {
-        Article article = articleRepository.findByApplicationIdAndSlug(applicationId, slug)
-            .orElseThrow(() -> new NotFoundException("Article not found"));
-        return mapper.toArticleDto(article);
+        return slugCache.get(applicationId, slug, () -> articleRepository.findByApplicationIdAndSlug(applicationId, slug)
+            .map(mapper::toArticleDto)
+            .orElseThrow(() -> new NotFoundException("Article not found")));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResult<ArticleDto> list(String applicationId, ContentStatus status, PageRequest pageRequest) {
-        PageSlice<Article> pageSlice;
+        if (pageRequest.getCountMode() == CountMode.EXACT) {
+            PageSlice<Article> pageSlice;
+            if (status != null) {
+                pageSlice = articleRepository.findByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
+            } else {
+                pageSlice = articleRepository.findByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+            }
+            return new PageResult<>(
+                pageSlice.items().stream().map(mapper::toArticleDto).toList(),
+                pageSlice.totalElements(),
+                pageSlice.totalPages(),
+                pageSlice.page(),
+                pageSlice.size()
+            );
+        }
+        ContentSlice<Article> slice;
         if (status != null) {
-            pageSlice = articleRepository.findByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
+            slice = articleRepository.findSliceByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
         } else {
-            pageSlice = articleRepository.findByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+            slice = articleRepository.findSliceByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+        }
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (pageRequest.getCountMode() == CountMode.ESTIMATED) {
+            totalElements = countCache.get(ContentType.ARTICLE, applicationId, status, () -> status != null
+                ? articleRepository.countByApplicationIdAndStatus(applicationId, status)
+                : articleRepository.countByApplicationId(applicationId));
+            totalPages = (int) ((totalElements + slice.size() - 1) / slice.size());
         }
         return new PageResult<>(
-            pageSlice.items().stream().map(mapper::toArticleDto).toList(),
-            pageSlice.totalElements(),
-            pageSlice.totalPages(),
-            pageSlice.page(),
-            pageSlice.size()
+            slice.items().stream().map(mapper::toArticleDto).toList(),
+            totalElements,
+            totalPages,
+            slice.page(),
+            slice.size(),
+            slice.hasNext(),
+            totalElements != null
         );
     }
 
+    private void validateSchedule(ScheduleCommand command) {
+        if (command.getPublishAt() != null && command.getUnpublishAt() != null
+            && !command.getUnpublishAt().isAfter(command.getPublishAt())) {
+            throw new BadRequestException("unpublishAt must be after publishAt");
+        }
+    }
+
     private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
         if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
             throw new ForbiddenException("Application access denied");
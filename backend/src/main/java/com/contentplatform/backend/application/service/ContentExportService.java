@@ -0,0 +1,61 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.ContentExport;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.exception.ForbiddenException;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.in.ContentExportUseCase;
+import com.contentplatform.backend.application.port.out.ArticleRepository;
+import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class ContentExportService implements ContentExportUseCase {
+    private final PostRepository postRepository;
+    private final ArticleRepository articleRepository;
+    private final VideoRepository videoRepository;
+    private final ContentMapper mapper;
+
+    public ContentExportService(PostRepository postRepository,
+                                ArticleRepository articleRepository,
+                                VideoRepository videoRepository,
+                                ContentMapper mapper) {
+        this.postRepository = postRepository;
+        this.articleRepository = articleRepository;
+        this.videoRepository = videoRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ContentExport<PostDto> exportPosts(String applicationId, Instant updatedSince, List<String> allowedApplicationIds) {
+        enforceTenant(applicationId, allowedApplicationIds);
+        return consumer -> postRepository.streamByApplicationId(applicationId, updatedSince,
+            post -> consumer.accept(mapper.toPostDto(post)));
+    }
+
+    @Override
+    public ContentExport<ArticleDto> exportArticles(String applicationId, Instant updatedSince, List<String> allowedApplicationIds) {
+        enforceTenant(applicationId, allowedApplicationIds);
+        return consumer -> articleRepository.streamByApplicationId(applicationId, updatedSince,
+            article -> consumer.accept(mapper.toArticleDto(article)));
+    }
+
+    @Override
+    public ContentExport<VideoDto> exportVideos(String applicationId, Instant updatedSince, List<String> allowedApplicationIds) {
+        enforceTenant(applicationId, allowedApplicationIds);
+        return consumer -> videoRepository.streamByApplicationId(applicationId, updatedSince,
+            video -> consumer.accept(mapper.toVideoDto(video)));
+    }
+
+    private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
+        if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
+            throw new ForbiddenException("Application access denied");
+        }
+    }
+}
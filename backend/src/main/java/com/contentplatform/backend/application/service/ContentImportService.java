@@ -0,0 +1,197 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.CreateArticleCommand;
+import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.ImportErrorDto;
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.contentplatform.backend.application.dto.ImportReportDto;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.port.in.ContentImportUseCase;
+import com.contentplatform.backend.application.port.out.ArticleRepository;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.domain.model.Article;
+import com.contentplatform.backend.domain.model.Post;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ContentImportService implements ContentImportUseCase {
+    private final PostRepository postRepository;
+    private final ArticleRepository articleRepository;
+    private final TimeProvider timeProvider;
+    private final IdGenerator idGenerator;
+    private final SlugCache<PostDto> postSlugCache;
+    private final SlugCache<ArticleDto> articleSlugCache;
+    private final ContentCountCache countCache;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ContentImportService(PostRepository postRepository,
+                                ArticleRepository articleRepository,
+                                TimeProvider timeProvider,
+                                IdGenerator idGenerator,
+                                SlugCache<PostDto> postSlugCache,
+                                SlugCache<ArticleDto> articleSlugCache,
+                                ContentCountCache countCache,
+                                @Value("${app.import.chunk-size:500}") int chunkSize,
+                                @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.postRepository = postRepository;
+        this.articleRepository = articleRepository;
+        this.timeProvider = timeProvider;
+        this.idGenerator = idGenerator;
+        this.postSlugCache = postSlugCache;
+        this.articleSlugCache = articleSlugCache;
+        this.countCache = countCache;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportReportDto importPosts(Stream<ImportItem<CreatePostCommand>> items, List<String> allowedApplicationIds) {
+        ImportRun<Post> run = new ImportRun<>(postRepository::insertAll, post -> {
+            postSlugCache.invalidate(post.getApplicationId(), post.getSlug());
+            countCache.recordCreated(ContentType.POST, post.getApplicationId(), post.getStatus());
+        });
+        items.forEach(item -> run.accept(item, allowedApplicationIds, CreatePostCommand::getApplicationId, command -> {
+            Instant now = timeProvider.now();
+            return new Post(
+                idGenerator.newId(),
+                command.getApplicationId(),
+                command.getTitle(),
+                command.getSlug(),
+                command.getContent(),
+                command.getStatus(),
+                command.getStatus() == ContentStatus.PUBLISHED ? now : null,
+                null,
+                null,
+                now,
+                now
+            );
+        }));
+        return run.finish();
+    }
+
+    @Override
+    public ImportReportDto importArticles(Stream<ImportItem<CreateArticleCommand>> items, List<String> allowedApplicationIds) {
+        ImportRun<Article> run = new ImportRun<>(articleRepository::insertAll, article -> {
+            articleSlugCache.invalidate(article.getApplicationId(), article.getSlug());
+            countCache.recordCreated(ContentType.ARTICLE, article.getApplicationId(), article.getStatus());
+        });
+        items.forEach(item -> run.accept(item, allowedApplicationIds, CreateArticleCommand::getApplicationId, command -> {
+            Instant now = timeProvider.now();
+            return new Article(
+                idGenerator.newId(),
+                command.getApplicationId(),
+                command.getTitle(),
+                command.getSlug(),
+                command.getContent(),
+                command.getStatus(),
+                command.getStatus() == ContentStatus.PUBLISHED ? now : null,
+                null,
+                null,
+                now,
+                now
+            );
+        }));
+        return run.finish();
+    }
+
+    private final class ImportRun<T> {
+        private final Function<List<T>, List<T>> insertAll;
+        private final Consumer<T> afterInsert;
+        private final List<T> pending = new ArrayList<>();
+        private final List<Long> pendingLines = new ArrayList<>();
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        private ImportRun(Function<List<T>, List<T>> insertAll, Consumer<T> afterInsert) {
+            this.insertAll = insertAll;
+            this.afterInsert = afterInsert;
+        }
+
+        private <C> void accept(ImportItem<C> item,
+                                List<String> allowedApplicationIds,
+                                Function<C, String> applicationId,
+                                Function<C, T> toContent) {
+            received++;
+            if (item.error() != null) {
+                fail(item.lineNumber(), item.error());
+                return;
+            }
+            if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId.apply(item.command()))) {
+                fail(item.lineNumber(), "Application access denied");
+                return;
+            }
+            pending.add(toContent.apply(item.command()));
+            pendingLines.add(item.lineNumber());
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private ImportReportDto finish() {
+            flush();
+            return new ImportReportDto(received, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                record(pending, pendingLines, insertAll.apply(pending));
+            } catch (RuntimeException batchFailure) {
+                for (int index = 0; index < pending.size(); index++) {
+                    List<T> single = List.of(pending.get(index));
+                    try {
+                        record(single, List.of(pendingLines.get(index)), insertAll.apply(single));
+                    } catch (RuntimeException rowFailure) {
+                        fail(pendingLines.get(index), "Rejected by database");
+                    }
+                }
+            }
+            pending.clear();
+            pendingLines.clear();
+        }
+
+        private void record(List<T> attempted, List<Long> lines, List<T> inserted) {
+            Set<T> insertedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            insertedSet.addAll(inserted);
+            for (int index = 0; index < attempted.size(); index++) {
+                T content = attempted.get(index);
+                if (insertedSet.contains(content)) {
+                    imported++;
+                    afterInsert.accept(content);
+                } else {
+                    fail(lines.get(index), "Slug already exists");
+                }
+            }
+        }
+
+        private void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportErrorDto(lineNumber, message));
+            }
+        }
+    }
+}
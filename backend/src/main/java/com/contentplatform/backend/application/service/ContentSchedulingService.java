@@ -0,0 +1,89 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.ScheduleAction;
+import com.contentplatform.backend.application.dto.ScheduledFiringDto;
+import com.contentplatform.backend.application.port.in.ContentSchedulingUseCase;
+import com.contentplatform.backend.application.port.out.ArticleRepository;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.ScheduledTransition;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import com.contentplatform.backend.domain.model.ContentSummary;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentType;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class ContentSchedulingService implements ContentSchedulingUseCase {
+    private final PostRepository postRepository;
+    private final ArticleRepository articleRepository;
+    private final VideoRepository videoRepository;
+    private final SlugCache<PostDto> postSlugCache;
+    private final SlugCache<ArticleDto> articleSlugCache;
+    private final ContentCountCache countCache;
+    private final TimeProvider timeProvider;
+
+    public ContentSchedulingService(PostRepository postRepository,
+                                    ArticleRepository articleRepository,
+                                    VideoRepository videoRepository,
+                                    SlugCache<PostDto> postSlugCache,
+                                    SlugCache<ArticleDto> articleSlugCache,
+                                    ContentCountCache countCache,
+                                    TimeProvider timeProvider) {
+        this.postRepository = postRepository;
+        this.articleRepository = articleRepository;
+        this.videoRepository = videoRepository;
+        this.postSlugCache = postSlugCache;
+        this.articleSlugCache = articleSlugCache;
+        this.countCache = countCache;
+        this.timeProvider = timeProvider;
+    }
+
+    @Override
+    public List<ScheduledFiringDto> fireDue(ContentType type, ScheduleAction action, int batchSize) {
+        Instant now = timeProvider.now();
+        boolean publish = action == ScheduleAction.PUBLISH;
+        return switch (type) {
+            case POST -> fireSummaries(type, postSlugCache, now,
+                publish ? postRepository.publishDue(now, batchSize) : postRepository.unpublishDue(now, batchSize));
+            case ARTICLE -> fireSummaries(type, articleSlugCache, now,
+                publish ? articleRepository.publishDue(now, batchSize) : articleRepository.unpublishDue(now, batchSize));
+            case VIDEO -> fireVideos(now,
+                publish ? videoRepository.publishDue(now, batchSize) : videoRepository.unpublishDue(now, batchSize));
+        };
+    }
+
+    private List<ScheduledFiringDto> fireSummaries(ContentType type,
+                                                   SlugCache<?> slugCache,
+                                                   Instant now,
+                                                   List<ScheduledTransition<ContentSummary>> transitions) {
+        return transitions.stream()
+            .map(transition -> {
+                ContentSummary content = transition.content();
+                slugCache.invalidate(content.getApplicationId(), content.getSlug());
+                countCache.recordMoved(type, content.getApplicationId(), transition.previousStatus(), content.getApplicationId(), content.getStatus());
+                return new ScheduledFiringDto(content.getId(), content.getApplicationId(), transition.previousStatus(),
+                    content.getStatus(), transition.scheduledAt(), now);
+            })
+            .toList();
+    }
+
+    private List<ScheduledFiringDto> fireVideos(Instant now, List<ScheduledTransition<Video>> transitions) {
+        return transitions.stream()
+            .map(transition -> {
+                Video video = transition.content();
+                countCache.recordMoved(ContentType.VIDEO, video.getApplicationId(), transition.previousStatus(), video.getApplicationId(), video.getStatus(),
+                    video.getProcessingState());
+                return new ScheduledFiringDto(video.getId(), video.getApplicationId(), transition.previousStatus(),
+                    video.getStatus(), transition.scheduledAt(), now);
+            })
+            .toList();
+    }
+}
@@ -2,11 +2,14 @@ package com.contentplatform.backend.application.service;
 
 import com.contentplatform.backend.application.dto.MediaUploadDto;
 import com.contentplatform.backend.application.dto.UploadMediaCommand;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
+import com.contentplatform.backend.application.exception.BadRequestException;
 import com.contentplatform.backend.application.exception.ForbiddenException;
 import com.contentplatform.backend.application.port.in.MediaUseCase;
 import com.contentplatform.backend.application.port.out.MediaStoragePort;
 import com.contentplatform.backend.application.port.out.MediaUploadResult;
 import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.application.port.out.UploadTicketSigner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -23,17 +26,26 @@ public class MediaService implements MediaUseCase {
 
     private final MediaStoragePort mediaStoragePort;
     private final TimeProvider timeProvider;
+    private final UploadTicketSigner uploadTicketSigner;
     private final String bucket;
     private final String publicUrl;
+    private final int presignExpirySeconds;
+    private final StreamUploader streamUploader;
 
     public MediaService(MediaStoragePort mediaStoragePort,
                         TimeProvider timeProvider,
+                        UploadTicketSigner uploadTicketSigner,
                         @Value("${minio.bucket}") String bucket,
-                        @Value("${app.storage.public-url:${minio.url}}") String publicUrl) {
+                        @Value("${app.storage.public-url:${minio.url}}") String publicUrl,
+                        @Value("${app.storage.presign-expiry-seconds}") int presignExpirySeconds,
+                        StreamUploader streamUploader) {
         this.mediaStoragePort = mediaStoragePort;
         this.timeProvider = timeProvider;
+        this.uploadTicketSigner = uploadTicketSigner;
         this.bucket = bucket;
         this.publicUrl = publicUrl;
+        this.presignExpirySeconds = presignExpirySeconds;
+        this.streamUploader = streamUploader;
     }
 
     @Override
@@ -49,6 +61,34 @@ public class MediaService implements MediaUseCase {
         return new MediaUploadDto(result.objectKey(), result.sizeBytes(), result.contentType(), buildPublicUrl(objectKey));
     }
 
+    @Override
+    public MediaUploadDto uploadStream(UploadMediaCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        String objectKey = buildObjectKey(command.getApplicationId(), command.getKind(), command.getOriginalFileName());
+        MediaUploadResult result = streamUploader.upload(objectKey, command.getInputStream(), command.getSizeBytes(), command.getContentType());
+        return new MediaUploadDto(result.objectKey(), result.sizeBytes(), result.contentType(), buildPublicUrl(objectKey));
+    }
+
+    @Override
+    public UploadTicketDto requestUpload(String applicationId, String kind, String originalFileName, List<String> allowedApplicationIds) {
+        enforceTenant(applicationId, allowedApplicationIds);
+        String objectKey = buildObjectKey(applicationId, kind, originalFileName);
+        String uploadUrl = mediaStoragePort.getPresignedUploadUrl(objectKey, presignExpirySeconds);
+        String uploadToken = uploadTicketSigner.sign(applicationId, objectKey);
+        return new UploadTicketDto(objectKey, uploadUrl, uploadToken, timeProvider.now().plusSeconds(presignExpirySeconds));
+    }
+
+    @Override
+    public MediaUploadDto completeUpload(String applicationId, String objectKey, String uploadToken, List<String> allowedApplicationIds) {
+        enforceTenant(applicationId, allowedApplicationIds);
+        if (!uploadTicketSigner.verify(applicationId, objectKey, uploadToken)) {
+            throw new BadRequestException("Object key was not issued for this application");
+        }
+        MediaUploadResult result = mediaStoragePort.statObject(objectKey)
+            .orElseThrow(() -> new BadRequestException("Uploaded object not found"));
+        return new MediaUploadDto(result.objectKey(), result.sizeBytes(), result.contentType(), buildPublicUrl(objectKey));
+    }
+
     private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
         if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
             throw new ForbiddenException("Application access denied");
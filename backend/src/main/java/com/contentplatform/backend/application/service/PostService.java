@@ -1,36 +1,64 @@
 package com.contentplatform.backend.application.service;
 
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.CreatePostCommand;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
 import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
 import com.contentplatform.backend.application.dto.UpdatePostCommand;
+import com.contentplatform.backend.application.exception.BadRequestException;
 import com.contentplatform.backend.application.exception.ForbiddenException;
 import com.contentplatform.backend.application.exception.NotFoundException;
 import com.contentplatform.backend.application.mapper.ContentMapper;
 import com.contentplatform.backend.application.port.in.PostUseCase;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.application.port.out.IdGenerator;
 import com.contentplatform.backend.application.port.out.PageSlice;
 import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.application.port.out.StatusTransition;
 import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.model.Post;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class PostService implements PostUseCase {
     private final PostRepository postRepository;
     private final TimeProvider timeProvider;
+    private final IdGenerator idGenerator;
     private final ContentMapper mapper;
+    private final SlugCache<PostDto> slugCache;
+    private final ContentCountCache countCache;
 
-    public PostService(PostRepository postRepository, TimeProvider timeProvider, ContentMapper mapper) {
+    public PostService(PostRepository postRepository,
+                       TimeProvider timeProvider,
+                       IdGenerator idGenerator,
+                       ContentMapper mapper,
+                       SlugCache<PostDto> slugCache,
+                       ContentCountCache countCache) {
         this.postRepository = postRepository;
         this.timeProvider = timeProvider;
+        this.idGenerator = idGenerator;
         this.mapper = mapper;
+        this.slugCache = slugCache;
+        this.countCache = countCache;
     }
 
     @Override
@@ -39,20 +67,26 @@ public class PostService implements PostUseCase {
         Instant now = timeProvider.now();
         Instant publishedAt = command.getStatus() == ContentStatus.PUBLISHED ? now : null;
         Post post = new Post(
-            UUID.randomUUID().toString(),
+            idGenerator.newId(),
             command.getApplicationId(),
             command.getTitle(),
             command.getSlug(),
             command.getContent(),
             command.getStatus(),
             publishedAt,
+            null,
+            null,
             now,
             now
         );
-        return mapper.toPostDto(postRepository.save(post));
+        PostDto saved = mapper.toPostDto(postRepository.insert(post));
+        slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+        countCache.recordCreated(ContentType.POST, saved.getApplicationId(), saved.getStatus());
+        return saved;
     }
 
     @Override
+    @Transactional
     public PostDto update(UpdatePostCommand command, List<String> allowedApplicationIds) {
         enforceTenant(command.getApplicationId(), allowedApplicationIds);
         Post existing = postRepository.findById(command.getId())
@@ -66,56 +100,134 @@ public class PostService implements PostUseCase {
             command.getContent(),
             command.getStatus(),
             publishedAt,
+            existing.getPublishAt(),
+            existing.getUnpublishAt(),
             existing.getCreatedAt(),
             timeProvider.now()
         );
-        return mapper.toPostDto(postRepository.save(updated));
+        PostDto saved = mapper.toPostDto(postRepository.save(updated));
+        AfterCommit.run(() -> {
+            slugCache.invalidate(existing.getApplicationId(), existing.getSlug());
+            slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+            countCache.recordMoved(ContentType.POST, existing.getApplicationId(), existing.getStatus(), saved.getApplicationId(), saved.getStatus());
+        });
+        return saved;
     }
 
     @Override
     public PostDto changeStatus(ChangeStatusCommand command, List<String> allowedApplicationIds) {
         enforceTenant(command.getApplicationId(), allowedApplicationIds);
-        Post existing = postRepository.findById(command.getId())
-            .orElseThrow(() -> new NotFoundException("Post not found"));
-        Instant publishedAt = resolvePublishedAt(existing.getStatus(), command.getStatus(), existing.getPublishedAt());
-        Post updated = new Post(
-            existing.getId(),
-            existing.getApplicationId(),
-            existing.getTitle(),
-            existing.getSlug(),
-            existing.getContent(),
+        StatusTransition<Post> transition = postRepository.transitionStatus(
+            command.getId(),
+            command.getApplicationId(),
             command.getStatus(),
-            publishedAt,
-            existing.getCreatedAt(),
             timeProvider.now()
-        );
-        return mapper.toPostDto(postRepository.save(updated));
+        ).orElseThrow(() -> new NotFoundException("Post not found"));
+        PostDto saved = mapper.toPostDto(transition.content());
+        slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+        countCache.recordMoved(ContentType.POST, saved.getApplicationId(), transition.previousStatus(), saved.getApplicationId(), saved.getStatus());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<StatusChangeResultDto> changeStatuses(BulkChangeStatusCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        Set<String> ids = new LinkedHashSet<>(command.getIds());
+        Map<String, StatusTransition<ContentSummary>> transitions = new HashMap<>();
+        for (StatusTransition<ContentSummary> transition : postRepository.transitionStatuses(
+            command.getApplicationId(), ids, command.getStatus(), timeProvider.now())) {
+            transitions.put(transition.content().getId(), transition);
+        }
+        AfterCommit.run(() -> transitions.values().forEach(transition -> {
+            slugCache.invalidate(command.getApplicationId(), transition.content().getSlug());
+            countCache.recordMoved(ContentType.POST, command.getApplicationId(), transition.previousStatus(), command.getApplicationId(), command.getStatus());
+        }));
+        return ids.stream()
+            .map(id -> {
+                StatusTransition<ContentSummary> transition = transitions.get(id);
+                return transition == null
+                    ? StatusChangeResultDto.notFound(id)
+                    : new StatusChangeResultDto(id, StatusChangeOutcome.UPDATED, transition.previousStatus(),
+                        transition.content().getStatus(), transition.content().getPublishedAt());
+            })
+            .toList();
+    }
+
+    @Override
+    public PostDto schedule(ScheduleCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        validateSchedule(command);
+        Post post = postRepository.updateSchedule(
+            command.getId(),
+            command.getApplicationId(),
+            command.getPublishAt(),
+            command.getUnpublishAt(),
+            timeProvider.now()
+        ).orElseThrow(() -> new NotFoundException("Post not found"));
+        PostDto saved = mapper.toPostDto(post);
+        slugCache.invalidate(saved.getApplicationId(), saved.getSlug());
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PostDto getBySlug(String applicationId, String slug) {
-        Post post = postRepository.findByApplicationIdAndSlug(applicationId, slug)
-            .orElseThrow(() -> new NotFoundException("Post not found"));
-        return mapper.toPostDto(post);
+        return slugCache.get(applicationId, slug, () -> postRepository.findByApplicationIdAndSlug(applicationId, slug)
+            .map(mapper::toPostDto)
+            .orElseThrow(() -> new NotFoundException("Post not found")));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PageResult<PostDto> list(String applicationId, ContentStatus status, PageRequest pageRequest) {
-        PageSlice<Post> pageSlice;
+        if (pageRequest.getCountMode() == CountMode.EXACT) {
+            PageSlice<Post> pageSlice;
+            if (status != null) {
+                pageSlice = postRepository.findByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
+            } else {
+                pageSlice = postRepository.findByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+            }
+            return new PageResult<>(
+                pageSlice.items().stream().map(mapper::toPostDto).toList(),
+                pageSlice.totalElements(),
+                pageSlice.totalPages(),
+                pageSlice.page(),
+                pageSlice.size()
+            );
+        }
+        ContentSlice<Post> slice;
         if (status != null) {
-            pageSlice = postRepository.findByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
+            slice = postRepository.findSliceByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
         } else {
-            pageSlice = postRepository.findByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+            slice = postRepository.findSliceByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+        }
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (pageRequest.getCountMode() == CountMode.ESTIMATED) {
+            totalElements = countCache.get(ContentType.POST, applicationId, status, () -> status != null
+                ? postRepository.countByApplicationIdAndStatus(applicationId, status)
+                : postRepository.countByApplicationId(applicationId));
+            totalPages = (int) ((totalElements + slice.size() - 1) / slice.size());
         }
         return new PageResult<>(
-            pageSlice.items().stream().map(mapper::toPostDto).toList(),
-            pageSlice.totalElements(),
-            pageSlice.totalPages(),
-            pageSlice.page(),
-            pageSlice.size()
+            slice.items().stream().map(mapper::toPostDto).toList(),
+            totalElements,
+            totalPages,
+            slice.page(),
+            slice.size(),
+            slice.hasNext(),
+            totalElements != null
         );
     }
 
+    private void validateSchedule(ScheduleCommand command) {
+        if (command.getPublishAt() != null && command.getUnpublishAt() != null
+            && !command.getUnpublishAt().isAfter(command.getPublishAt())) {
+            throw new BadRequestException("unpublishAt must be after publishAt");
+        }
+    }
+
     private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
         if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
             throw new ForbiddenException("Application access denied");
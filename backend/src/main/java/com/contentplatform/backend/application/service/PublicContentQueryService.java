@@ -0,0 +1,224 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.ArticleReadModel;
+import com.contentplatform.backend.application.dto.ContentCursor;
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.dto.CountMode;
+import com.contentplatform.backend.application.dto.CursorPageResult;
+import com.contentplatform.backend.application.dto.CursorRequest;
+import com.contentplatform.backend.application.dto.PageRequest;
+import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.PostReadModel;
+import com.contentplatform.backend.application.dto.VideoReadModel;
+import com.contentplatform.backend.application.exception.BadRequestException;
+import com.contentplatform.backend.application.port.in.PublicContentQueryUseCase;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.ContentReadModelRepository;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.application.port.out.KeysetSlice;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@Service
+@Transactional(readOnly = true)
+public class PublicContentQueryService implements PublicContentQueryUseCase {
+    private static final int MAX_EXCERPT_LENGTH = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    private final ContentReadModelRepository repository;
+    private final ContentCountCache countCache;
+    private final MediaStoragePort mediaStoragePort;
+    private final int presignExpirySeconds;
+
+    public PublicContentQueryService(ContentReadModelRepository repository,
+                                     ContentCountCache countCache,
+                                     MediaStoragePort mediaStoragePort,
+                                     @Value("${app.storage.presign-expiry-seconds}") int presignExpirySeconds) {
+        this.repository = repository;
+        this.countCache = countCache;
+        this.mediaStoragePort = mediaStoragePort;
+        this.presignExpirySeconds = presignExpirySeconds;
+    }
+
+    @Override
+    public PageResult<PostReadModel> listPosts(String applicationId, ContentStatus status, PageRequest pageRequest) {
+        return toPage(ContentType.POST, applicationId, status, null, pageRequest,
+            () -> repository.findPosts(applicationId, status, pageRequest.getPage(), pageRequest.getSize()),
+            () -> repository.findPostSlice(applicationId, status, pageRequest.getPage(), pageRequest.getSize()),
+            () -> repository.countPosts(applicationId, status));
+    }
+
+    @Override
+    public PageResult<ContentSummaryReadModel> listPostSummaries(String applicationId, ContentStatus status, PageRequest pageRequest, int excerptLength) {
+        int resolvedExcerptLength = resolveExcerptLength(excerptLength);
+        return toPage(ContentType.POST, applicationId, status, null, pageRequest,
+            () -> repository.findPostSummaries(applicationId, status, pageRequest.getPage(), pageRequest.getSize(), resolvedExcerptLength),
+            () -> repository.findPostSummarySlice(applicationId, status, pageRequest.getPage(), pageRequest.getSize(), resolvedExcerptLength),
+            () -> repository.countPosts(applicationId, status));
+    }
+
+    @Override
+    public PageResult<ContentSummaryReadModel> searchPosts(String applicationId, ContentStatus status, String query, PageRequest pageRequest, int excerptLength) {
+        return search(query, pageRequest, excerptLength,
+            (trimmed, page, size, resolvedExcerptLength) -> repository.searchPosts(applicationId, status, trimmed, page, size, resolvedExcerptLength));
+    }
+
+    @Override
+    public CursorPageResult<PostReadModel> listPostsByCursor(String applicationId, ContentStatus status, CursorRequest cursorRequest) {
+        return listByCursor(cursorRequest,
+            (publishedAt, id, size) -> repository.findPostsBefore(applicationId, status, publishedAt, id, size),
+            PostReadModel::publishedAt,
+            PostReadModel::id);
+    }
+
+    @Override
+    public PageResult<ArticleReadModel> listArticles(String applicationId, ContentStatus status, PageRequest pageRequest) {
+        return toPage(ContentType.ARTICLE, applicationId, status, null, pageRequest,
+            () -> repository.findArticles(applicationId, status, pageRequest.getPage(), pageRequest.getSize()),
+            () -> repository.findArticleSlice(applicationId, status, pageRequest.getPage(), pageRequest.getSize()),
+            () -> repository.countArticles(applicationId, status));
+    }
+
+    @Override
+    public PageResult<ContentSummaryReadModel> listArticleSummaries(String applicationId, ContentStatus status, PageRequest pageRequest, int excerptLength) {
+        int resolvedExcerptLength = resolveExcerptLength(excerptLength);
+        return toPage(ContentType.ARTICLE, applicationId, status, null, pageRequest,
+            () -> repository.findArticleSummaries(applicationId, status, pageRequest.getPage(), pageRequest.getSize(), resolvedExcerptLength),
+            () -> repository.findArticleSummarySlice(applicationId, status, pageRequest.getPage(), pageRequest.getSize(), resolvedExcerptLength),
+            () -> repository.countArticles(applicationId, status));
+    }
+
+    @Override
+    public PageResult<ContentSummaryReadModel> searchArticles(String applicationId, ContentStatus status, String query, PageRequest pageRequest, int excerptLength) {
+        return search(query, pageRequest, excerptLength,
+            (trimmed, page, size, resolvedExcerptLength) -> repository.searchArticles(applicationId, status, trimmed, page, size, resolvedExcerptLength));
+    }
+
+    @Override
+    public CursorPageResult<ArticleReadModel> listArticlesByCursor(String applicationId, ContentStatus status, CursorRequest cursorRequest) {
+        return listByCursor(cursorRequest,
+            (publishedAt, id, size) -> repository.findArticlesBefore(applicationId, status, publishedAt, id, size),
+            ArticleReadModel::publishedAt,
+            ArticleReadModel::id);
+    }
+
+    @Override
+    public PageResult<VideoReadModel> listVideos(String applicationId, ContentStatus status, PageRequest pageRequest) {
+        PageResult<VideoReadModel> result = toPage(ContentType.VIDEO, applicationId, status, ProcessingState.READY, pageRequest,
+            () -> repository.findVideos(applicationId, status, pageRequest.getPage(), pageRequest.getSize()),
+            () -> repository.findVideoSlice(applicationId, status, pageRequest.getPage(), pageRequest.getSize()),
+            () -> repository.countVideos(applicationId, status));
+        return new PageResult<>(
+            withPresignedUrls(result.getItems()),
+            result.getTotalElements(),
+            result.getTotalPages(),
+            result.getPage(),
+            result.getSize(),
+            result.isHasNext(),
+            result.isTotalEstimated()
+        );
+    }
+
+    @Override
+    public CursorPageResult<VideoReadModel> listVideosByCursor(String applicationId, ContentStatus status, CursorRequest cursorRequest) {
+        CursorPageResult<VideoReadModel> result = listByCursor(cursorRequest,
+            (publishedAt, id, size) -> repository.findVideosBefore(applicationId, status, publishedAt, id, size),
+            VideoReadModel::publishedAt,
+            VideoReadModel::id);
+        return new CursorPageResult<>(withPresignedUrls(result.getItems()), result.getNextCursor(), result.getSize());
+    }
+
+    private <T> PageResult<T> toPage(ContentType type,
+                                     String applicationId,
+                                     ContentStatus status,
+                                     ProcessingState processingState,
+                                     PageRequest pageRequest,
+                                     Supplier<PageSlice<T>> pageLoader,
+                                     Supplier<ContentSlice<T>> sliceLoader,
+                                     LongSupplier countLoader) {
+        if (pageRequest.getCountMode() == CountMode.EXACT) {
+            PageSlice<T> pageSlice = pageLoader.get();
+            return new PageResult<>(
+                pageSlice.items(),
+                pageSlice.totalElements(),
+                pageSlice.totalPages(),
+                pageSlice.page(),
+                pageSlice.size()
+            );
+        }
+        ContentSlice<T> slice = sliceLoader.get();
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (pageRequest.getCountMode() == CountMode.ESTIMATED) {
+            totalElements = countCache.get(type, applicationId, status, processingState, countLoader);
+            totalPages = (int) ((totalElements + slice.size() - 1) / slice.size());
+        }
+        return new PageResult<>(
+            slice.items(),
+            totalElements,
+            totalPages,
+            slice.page(),
+            slice.size(),
+            slice.hasNext(),
+            totalElements != null
+        );
+    }
+
+    private PageResult<ContentSummaryReadModel> search(String query, PageRequest pageRequest, int excerptLength, SearchLoader loader) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        ContentSlice<ContentSummaryReadModel> slice = loader.load(query.trim(), pageRequest.getPage(),
+            Math.min(pageRequest.getSize(), MAX_SEARCH_PAGE_SIZE), resolveExcerptLength(excerptLength));
+        return new PageResult<>(slice.items(), null, null, slice.page(), slice.size(), slice.hasNext(), false);
+    }
+
+    private <T> CursorPageResult<T> listByCursor(CursorRequest cursorRequest,
+                                                 KeysetLoader<T> loader,
+                                                 Function<T, Instant> publishedAt,
+                                                 Function<T, String> id) {
+        ContentCursor cursor = cursorRequest.getCursor();
+        KeysetSlice<T> slice = loader.load(
+            cursor == null ? null : cursor.publishedAt(),
+            cursor == null ? null : cursor.id(),
+            cursorRequest.getSize()
+        );
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            T last = slice.items().get(slice.items().size() - 1);
+            nextCursor = new ContentCursor(publishedAt.apply(last), id.apply(last)).encode();
+        }
+        return new CursorPageResult<>(slice.items(), nextCursor, cursorRequest.getSize());
+    }
+
+    private List<VideoReadModel> withPresignedUrls(List<VideoReadModel> videos) {
+        Map<String, String> urls = mediaStoragePort.getPresignedUrls(
+            videos.stream().map(VideoReadModel::objectKey).toList(), presignExpirySeconds);
+        return videos.stream().map(video -> video.withPresignedUrl(urls.get(video.objectKey()))).toList();
+    }
+
+    private int resolveExcerptLength(int excerptLength) {
+        return Math.min(Math.max(excerptLength, 0), MAX_EXCERPT_LENGTH);
+    }
+
+    private interface KeysetLoader<T> {
+        KeysetSlice<T> load(Instant publishedAt, String id, int size);
+    }
+
+    private interface SearchLoader {
+        ContentSlice<ContentSummaryReadModel> load(String query, int page, int size, int excerptLength);
+    }
+}
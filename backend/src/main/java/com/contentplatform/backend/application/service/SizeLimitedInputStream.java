@@ -0,0 +1,53 @@
+package com.contentplatform.backend.application.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+class SizeLimitedInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private long count;
+    private boolean exceeded;
+
+    SizeLimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            advance(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            advance(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        advance(skipped);
+        return skipped;
+    }
+
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    private void advance(long bytes) throws IOException {
+        count += bytes;
+        if (count > maxBytes) {
+            exceeded = true;
+            throw new IOException("Upload exceeds " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.exception.PayloadTooLargeException;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.MediaUploadResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+@Component
+public class StreamUploader {
+    private final MediaStoragePort mediaStoragePort;
+    private final long maxStreamBytes;
+
+    public StreamUploader(MediaStoragePort mediaStoragePort,
+                          @Value("${app.storage.upload.max-stream-bytes:5368709120}") long maxStreamBytes) {
+        this.mediaStoragePort = mediaStoragePort;
+        this.maxStreamBytes = maxStreamBytes;
+    }
+
+    public MediaUploadResult upload(String objectKey, InputStream inputStream, long sizeBytes, String contentType) {
+        if (sizeBytes > maxStreamBytes) {
+            throw tooLarge();
+        }
+        SizeLimitedInputStream limited = new SizeLimitedInputStream(inputStream, maxStreamBytes);
+        try {
+            return mediaStoragePort.uploadStream(objectKey, limited, sizeBytes, contentType);
+        } catch (RuntimeException ex) {
+            if (limited.isExceeded()) {
+                throw tooLarge();
+            }
+            throw ex;
+        }
+    }
+
+    private PayloadTooLargeException tooLarge() {
+        return new PayloadTooLargeException("Upload exceeds the maximum size of " + maxStreamBytes + " bytes");
+    }
+}
@@ -0,0 +1,266 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.CreateUploadSessionCommand;
+import com.contentplatform.backend.application.dto.UploadSessionDto;
+import com.contentplatform.backend.application.dto.UploadedRangeDto;
+import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.exception.BadRequestException;
+import com.contentplatform.backend.application.exception.ConflictException;
+import com.contentplatform.backend.application.exception.ForbiddenException;
+import com.contentplatform.backend.application.exception.NotFoundException;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.in.UploadSessionUseCase;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.MediaUploadResult;
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.application.port.out.UploadSessionRepository;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import com.contentplatform.backend.domain.model.UploadPart;
+import com.contentplatform.backend.domain.model.UploadSession;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import com.contentplatform.backend.domain.value.UploadSessionState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class UploadSessionService implements UploadSessionUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(UploadSessionService.class);
+    private static final long MIN_CHUNK_SIZE_BYTES = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+
+    private final UploadSessionRepository sessionRepository;
+    private final MediaStoragePort mediaStoragePort;
+    private final VideoRepository videoRepository;
+    private final TimeProvider timeProvider;
+    private final IdGenerator idGenerator;
+    private final ContentMapper mapper;
+    private final ContentCountCache countCache;
+    private final long chunkSizeBytes;
+    private final long ttlSeconds;
+
+    public UploadSessionService(UploadSessionRepository sessionRepository,
+                                MediaStoragePort mediaStoragePort,
+                                VideoRepository videoRepository,
+                                TimeProvider timeProvider,
+                                IdGenerator idGenerator,
+                                ContentMapper mapper,
+                                ContentCountCache countCache,
+                                @Value("${app.storage.upload-session.chunk-size-bytes:8388608}") long chunkSizeBytes,
+                                @Value("${app.storage.upload-session.ttl-seconds:86400}") long ttlSeconds) {
+        this.sessionRepository = sessionRepository;
+        this.mediaStoragePort = mediaStoragePort;
+        this.videoRepository = videoRepository;
+        this.timeProvider = timeProvider;
+        this.idGenerator = idGenerator;
+        this.mapper = mapper;
+        this.countCache = countCache;
+        this.chunkSizeBytes = Math.max(chunkSizeBytes, MIN_CHUNK_SIZE_BYTES);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public UploadSessionDto create(CreateUploadSessionCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        if (command.getTotalSizeBytes() <= 0) {
+            throw new BadRequestException("totalSizeBytes must be positive");
+        }
+        if (command.getTotalSizeBytes() > chunkSizeBytes * MAX_PARTS) {
+            throw new BadRequestException("Upload is too large");
+        }
+        Instant now = timeProvider.now();
+        String objectKey = VideoObjectKeys.build(command.getApplicationId(), command.getOriginalFileName(), now);
+        String storageUploadId = mediaStoragePort.createMultipartUpload(objectKey, command.getContentType());
+        UploadSession session = new UploadSession(
+            idGenerator.newId(),
+            command.getApplicationId(),
+            objectKey,
+            storageUploadId,
+            command.getTitle(),
+            command.getDescription(),
+            command.getStatus(),
+            command.getContentType(),
+            command.getTotalSizeBytes(),
+            chunkSizeBytes,
+            UploadSessionState.OPEN,
+            null,
+            now,
+            now
+        );
+        return toDto(sessionRepository.save(session), List.of());
+    }
+
+    @Override
+    public UploadSessionDto uploadChunk(String sessionId, int partNumber, InputStream inputStream, long sizeBytes, List<String> allowedApplicationIds) {
+        UploadSession session = loadSession(sessionId, allowedApplicationIds);
+        if (session.getState() != UploadSessionState.OPEN) {
+            throw new BadRequestException("Upload session is not open");
+        }
+        int totalParts = totalParts(session.getTotalSizeBytes(), session.getChunkSizeBytes());
+        if (partNumber < 1 || partNumber > totalParts) {
+            throw new BadRequestException("Chunk number must be between 1 and " + totalParts);
+        }
+        long expectedSize = expectedPartSize(session, partNumber);
+        if (sizeBytes != expectedSize) {
+            throw new BadRequestException("Chunk " + partNumber + " must be " + expectedSize + " bytes");
+        }
+        String etag = mediaStoragePort.uploadPart(session.getObjectKey(), session.getStorageUploadId(), partNumber, inputStream, expectedSize);
+        sessionRepository.savePart(session.getId(), new UploadPart(partNumber, etag, expectedSize));
+        sessionRepository.touch(session.getId(), timeProvider.now());
+        return toDto(session, sessionRepository.findParts(session.getId()));
+    }
+
+    @Override
+    public UploadSessionDto get(String sessionId, List<String> allowedApplicationIds) {
+        UploadSession session = loadSession(sessionId, allowedApplicationIds);
+        return toDto(session, sessionRepository.findParts(session.getId()));
+    }
+
+    @Override
+    @Transactional
+    public VideoDto complete(String sessionId, List<String> allowedApplicationIds) {
+        UploadSession session = loadSession(sessionId, allowedApplicationIds);
+        if (session.getState() == UploadSessionState.COMPLETED) {
+            return videoRepository.findById(session.getVideoId())
+                .map(mapper::toVideoDto)
+                .orElseThrow(() -> new NotFoundException("Video not found"));
+        }
+        if (session.getState() != UploadSessionState.OPEN) {
+            throw new BadRequestException("Upload session has expired");
+        }
+        Optional<Video> existing = videoRepository.findByObjectKey(session.getObjectKey());
+        if (existing.isPresent()) {
+            sessionRepository.save(withState(session, UploadSessionState.COMPLETED, existing.get().getId()));
+            return mapper.toVideoDto(existing.get());
+        }
+        List<UploadPart> parts = sessionRepository.findParts(session.getId());
+        int totalParts = totalParts(session.getTotalSizeBytes(), session.getChunkSizeBytes());
+        if (parts.size() != totalParts) {
+            throw new BadRequestException("Upload is missing " + (totalParts - parts.size()) + " chunks");
+        }
+        Optional<MediaUploadResult> stored = mediaStoragePort.statObject(session.getObjectKey());
+        if (stored.isEmpty()) {
+            mediaStoragePort.completeMultipartUpload(session.getObjectKey(), session.getStorageUploadId(), parts);
+            stored = mediaStoragePort.statObject(session.getObjectKey());
+        }
+        MediaUploadResult result = stored.orElseThrow(() -> new BadRequestException("Uploaded object not found"));
+        Instant now = timeProvider.now();
+        Video video = new Video(
+            idGenerator.newId(),
+            session.getApplicationId(),
+            session.getTitle(),
+            session.getDescription(),
+            session.getStatus(),
+            session.getStatus() == ContentStatus.PUBLISHED ? now : null,
+            null,
+            null,
+            result.objectKey(),
+            result.contentType(),
+            result.sizeBytes(),
+            ProcessingState.READY,
+            now,
+            now
+        );
+        VideoDto saved;
+        try {
+            saved = mapper.toVideoDto(videoRepository.insert(video));
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("Upload is already being completed");
+        }
+        sessionRepository.save(withState(session, UploadSessionState.COMPLETED, saved.getId()));
+        AfterCommit.run(() -> countCache.recordCreated(ContentType.VIDEO, saved.getApplicationId(), saved.getStatus(), ProcessingState.READY));
+        return saved;
+    }
+
+    @Override
+    public int expireAbandoned(int limit) {
+        Instant cutoff = timeProvider.now().minusSeconds(ttlSeconds);
+        List<UploadSession> abandoned = sessionRepository.findOpenUpdatedBefore(cutoff, limit);
+        for (UploadSession session : abandoned) {
+            if (!sessionRepository.expire(session.getId(), cutoff, timeProvider.now())) {
+                continue;
+            }
+            try {
+                mediaStoragePort.abortMultipartUpload(session.getObjectKey(), session.getStorageUploadId());
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to abort multipart upload for session {}", session.getId(), ex);
+            }
+        }
+        return abandoned.size();
+    }
+
+    private UploadSession loadSession(String sessionId, List<String> allowedApplicationIds) {
+        UploadSession session = sessionRepository.findById(sessionId)
+            .orElseThrow(() -> new NotFoundException("Upload session not found"));
+        enforceTenant(session.getApplicationId(), allowedApplicationIds);
+        return session;
+    }
+
+    private UploadSession withState(UploadSession session, UploadSessionState state, String videoId) {
+        return new UploadSession(
+            session.getId(),
+            session.getApplicationId(),
+            session.getObjectKey(),
+            session.getStorageUploadId(),
+            session.getTitle(),
+            session.getDescription(),
+            session.getStatus(),
+            session.getContentType(),
+            session.getTotalSizeBytes(),
+            session.getChunkSizeBytes(),
+            state,
+            videoId,
+            session.getCreatedAt(),
+            timeProvider.now()
+        );
+    }
+
+    private UploadSessionDto toDto(UploadSession session, List<UploadPart> parts) {
+        List<UploadedRangeDto> ranges = parts.stream()
+            .map(part -> new UploadedRangeDto(
+                part.getPartNumber(),
+                (part.getPartNumber() - 1) * session.getChunkSizeBytes(),
+                part.getSizeBytes()
+            ))
+            .toList();
+        return new UploadSessionDto(
+            session.getId(),
+            session.getApplicationId(),
+            session.getObjectKey(),
+            session.getState(),
+            session.getTotalSizeBytes(),
+            session.getChunkSizeBytes(),
+            totalParts(session.getTotalSizeBytes(), session.getChunkSizeBytes()),
+            ranges,
+            session.getVideoId()
+        );
+    }
+
+    private int totalParts(long totalSizeBytes, long partSizeBytes) {
+        return (int) ((totalSizeBytes + partSizeBytes - 1) / partSizeBytes);
+    }
+
+    private long expectedPartSize(UploadSession session, int partNumber) {
+        long offset = (partNumber - 1) * session.getChunkSizeBytes();
+        return Math.min(session.getChunkSizeBytes(), session.getTotalSizeBytes() - offset);
+    }
+
+    private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
+        if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
+            throw new ForbiddenException("Application access denied");
+        }
+    }
+}
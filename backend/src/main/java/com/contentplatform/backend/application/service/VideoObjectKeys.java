@@ -0,0 +1,17 @@
+package com.contentplatform.backend.application.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+final class VideoObjectKeys {
+    private VideoObjectKeys() {
+    }
+
+    static String build(String applicationId, String originalFileName, Instant now) {
+        LocalDate date = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        String safeName = originalFileName == null ? "file" : originalFileName.replaceAll("\\s+", "-");
+        return String.format("%s/%04d/%02d/%s-%s", applicationId, date.getYear(), date.getMonthValue(), UUID.randomUUID(), safeName);
+    }
+}
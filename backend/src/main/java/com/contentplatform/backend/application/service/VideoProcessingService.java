@@ -0,0 +1,180 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.SubmitVideoCommand;
+import com.contentplatform.backend.application.dto.VideoProcessingJobDto;
+import com.contentplatform.backend.application.exception.ForbiddenException;
+import com.contentplatform.backend.application.exception.NotFoundException;
+import com.contentplatform.backend.application.exception.ServiceUnavailableException;
+import com.contentplatform.backend.application.port.in.VideoProcessingUseCase;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import com.contentplatform.backend.application.port.out.MediaProcessingQueue;
+import com.contentplatform.backend.application.port.out.MediaStagingPort;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.MediaUploadResult;
+import com.contentplatform.backend.application.port.out.StagedMedia;
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class VideoProcessingService implements VideoProcessingUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(VideoProcessingService.class);
+
+    private final VideoRepository videoRepository;
+    private final MediaStoragePort mediaStoragePort;
+    private final MediaStagingPort stagingPort;
+    private final MediaProcessingQueue processingQueue;
+    private final TimeProvider timeProvider;
+    private final IdGenerator idGenerator;
+    private final ContentCountCache countCache;
+    private final int retryAfterSeconds;
+    private final long recoveryGraceSeconds;
+    private final String nodeId;
+
+    public VideoProcessingService(VideoRepository videoRepository,
+                                  MediaStoragePort mediaStoragePort,
+                                  MediaStagingPort stagingPort,
+                                  MediaProcessingQueue processingQueue,
+                                  TimeProvider timeProvider,
+                                  IdGenerator idGenerator,
+                                  ContentCountCache countCache,
+                                  @Value("${app.processing.retry-after-seconds:5}") int retryAfterSeconds,
+                                  @Value("${app.processing.recovery-grace-seconds:3600}") long recoveryGraceSeconds,
+                                  @Value("${app.processing.node-id:${random.uuid}}") String nodeId) {
+        this.videoRepository = videoRepository;
+        this.mediaStoragePort = mediaStoragePort;
+        this.stagingPort = stagingPort;
+        this.processingQueue = processingQueue;
+        this.timeProvider = timeProvider;
+        this.idGenerator = idGenerator;
+        this.countCache = countCache;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.recoveryGraceSeconds = recoveryGraceSeconds;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public VideoProcessingJobDto submit(SubmitVideoCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        if (!processingQueue.hasCapacity()) {
+            throw new ServiceUnavailableException("Media processing queue is full", retryAfterSeconds);
+        }
+        StagedMedia staged = stagingPort.stage(command.getContent());
+        Instant now = timeProvider.now();
+        Video video = new Video(
+            idGenerator.newId(),
+            command.getApplicationId(),
+            command.getTitle(),
+            command.getDescription(),
+            command.getStatus(),
+            command.getStatus() == ContentStatus.PUBLISHED ? now : null,
+            null,
+            null,
+            VideoObjectKeys.build(command.getApplicationId(), command.getOriginalFileName(), now),
+            command.getContentType(),
+            staged.sizeBytes(),
+            ProcessingState.PROCESSING,
+            now,
+            now
+        );
+        Video saved;
+        try {
+            saved = videoRepository.insertProcessing(video, nodeId);
+        } catch (RuntimeException ex) {
+            stagingPort.discard(staged);
+            throw ex;
+        }
+        if (!processingQueue.trySubmit(() -> process(saved, staged))) {
+            stagingPort.discard(staged);
+            videoRepository.deleteById(saved.getId());
+            throw new ServiceUnavailableException("Media processing queue is full", retryAfterSeconds);
+        }
+        countCache.recordCreated(ContentType.VIDEO, saved.getApplicationId(), saved.getStatus(), ProcessingState.PROCESSING);
+        return toJob(saved);
+    }
+
+    @Override
+    public VideoProcessingJobDto getJob(String jobId, List<String> allowedApplicationIds) {
+        Video video = videoRepository.findById(jobId)
+            .orElseThrow(() -> new NotFoundException("Processing job not found"));
+        enforceTenant(video.getApplicationId(), allowedApplicationIds);
+        return toJob(video);
+    }
+
+    @Override
+    @Transactional
+    public int recoverInterrupted() {
+        Instant now = timeProvider.now();
+        int failed = 0;
+        for (Video video : videoRepository.findInterruptedProcessing(nodeId, now.minusSeconds(recoveryGraceSeconds))) {
+            Optional<Video> updated = videoRepository.updateProcessingState(
+                video.getId(), ProcessingState.PROCESSING, ProcessingState.FAILED, video.getSizeBytes(), now);
+            if (updated.isPresent()) {
+                failed++;
+                AfterCommit.run(() -> countCache.recordProcessed(
+                    ContentType.VIDEO, video.getApplicationId(), video.getStatus(), ProcessingState.PROCESSING, ProcessingState.FAILED));
+            }
+        }
+        stagingPort.discardAll();
+        return failed;
+    }
+
+    private void process(Video submitted, StagedMedia staged) {
+        try (InputStream inputStream = stagingPort.open(staged)) {
+            MediaUploadResult result = mediaStoragePort.upload(
+                submitted.getObjectKey(),
+                inputStream,
+                staged.sizeBytes(),
+                submitted.getContentType()
+            );
+            finish(submitted.getId(), ProcessingState.READY, result.sizeBytes());
+        } catch (Exception ex) {
+            logger.warn("Processing failed for video {}", submitted.getId(), ex);
+            finish(submitted.getId(), ProcessingState.FAILED, submitted.getSizeBytes());
+        } finally {
+            stagingPort.discard(staged);
+        }
+    }
+
+    private void finish(String videoId, ProcessingState state, long sizeBytes) {
+        videoRepository.updateProcessingState(videoId, ProcessingState.PROCESSING, state, sizeBytes, timeProvider.now())
+            .ifPresent(video -> countCache.recordProcessed(
+                ContentType.VIDEO,
+                video.getApplicationId(),
+                video.getStatus(),
+                ProcessingState.PROCESSING,
+                state
+            ));
+    }
+
+    private VideoProcessingJobDto toJob(Video video) {
+        return new VideoProcessingJobDto(
+            video.getId(),
+            video.getApplicationId(),
+            video.getObjectKey(),
+            video.getProcessingState(),
+            video.getCreatedAt(),
+            video.getUpdatedAt()
+        );
+    }
+
+    private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
+        if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
+            throw new ForbiddenException("Application access denied");
+        }
+    }
+}
@@ -1,114 +1,223 @@
 package com.contentplatform.backend.application.service;
 
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CompleteVideoUploadCommand;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
 import com.contentplatform.backend.application.dto.UploadVideoCommand;
 import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.exception.BadRequestException;
+import com.contentplatform.backend.application.exception.ConflictException;
 import com.contentplatform.backend.application.exception.ForbiddenException;
 import com.contentplatform.backend.application.exception.NotFoundException;
 import com.contentplatform.backend.application.mapper.ContentMapper;
 import com.contentplatform.backend.application.port.in.VideoUseCase;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.application.port.out.IdGenerator;
 import com.contentplatform.backend.application.port.out.MediaStoragePort;
 import com.contentplatform.backend.application.port.out.MediaUploadResult;
 import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.application.port.out.StatusTransition;
 import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.application.port.out.UploadTicketSigner;
 import com.contentplatform.backend.application.port.out.VideoRepository;
 import com.contentplatform.backend.domain.model.Video;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class VideoService implements VideoUseCase {
     private final VideoRepository videoRepository;
     private final MediaStoragePort mediaStoragePort;
     private final TimeProvider timeProvider;
+    private final IdGenerator idGenerator;
+    private final UploadTicketSigner uploadTicketSigner;
     private final ContentMapper mapper;
+    private final ContentCountCache countCache;
     private final int presignExpirySeconds;
+    private final StreamUploader streamUploader;
 
     public VideoService(VideoRepository videoRepository,
                         MediaStoragePort mediaStoragePort,
                         TimeProvider timeProvider,
+                        IdGenerator idGenerator,
+                        UploadTicketSigner uploadTicketSigner,
                         ContentMapper mapper,
-                        @Value("${app.storage.presign-expiry-seconds}") int presignExpirySeconds) {
+                        ContentCountCache countCache,
+                        @Value("${app.storage.presign-expiry-seconds}") int presignExpirySeconds,
+                        StreamUploader streamUploader) {
         this.videoRepository = videoRepository;
         this.mediaStoragePort = mediaStoragePort;
         this.timeProvider = timeProvider;
+        this.idGenerator = idGenerator;
+        this.uploadTicketSigner = uploadTicketSigner;
         this.mapper = mapper;
+        this.countCache = countCache;
         this.presignExpirySeconds = presignExpirySeconds;
+        this.streamUploader = streamUploader;
     }
 
     @Override
     public VideoDto upload(UploadVideoCommand command, List<String> allowedApplicationIds) {
         enforceTenant(command.getApplicationId(), allowedApplicationIds);
-        Instant now = timeProvider.now();
-        String objectKey = buildObjectKey(command.getApplicationId(), command.getOriginalFileName());
+        String objectKey = VideoObjectKeys.build(command.getApplicationId(), command.getOriginalFileName(), timeProvider.now());
         MediaUploadResult result = mediaStoragePort.upload(
             objectKey,
             command.getInputStream(),
             command.getSizeBytes(),
             command.getContentType()
         );
-        Instant publishedAt = command.getStatus() == ContentStatus.PUBLISHED ? now : null;
-        Video video = new Video(
-            UUID.randomUUID().toString(),
-            command.getApplicationId(),
-            command.getTitle(),
-            command.getDescription(),
-            command.getStatus(),
-            publishedAt,
-            result.objectKey(),
-            result.contentType(),
-            result.sizeBytes(),
-            now,
-            now
-        );
-        return mapper.toVideoDto(videoRepository.save(video));
+        return saveUploaded(command.getApplicationId(), command.getTitle(), command.getDescription(), command.getStatus(), result);
+    }
+
+    @Override
+    public VideoDto uploadStream(UploadVideoCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        String objectKey = VideoObjectKeys.build(command.getApplicationId(), command.getOriginalFileName(), timeProvider.now());
+        MediaUploadResult result = streamUploader.upload(objectKey, command.getInputStream(), command.getSizeBytes(), command.getContentType());
+        return saveUploaded(command.getApplicationId(), command.getTitle(), command.getDescription(), command.getStatus(), result);
+    }
+
+    @Override
+    public UploadTicketDto requestUpload(String applicationId, String originalFileName, List<String> allowedApplicationIds) {
+        enforceTenant(applicationId, allowedApplicationIds);
+        Instant now = timeProvider.now();
+        String objectKey = VideoObjectKeys.build(applicationId, originalFileName, now);
+        String uploadUrl = mediaStoragePort.getPresignedUploadUrl(objectKey, presignExpirySeconds);
+        String uploadToken = uploadTicketSigner.sign(applicationId, objectKey);
+        return new UploadTicketDto(objectKey, uploadUrl, uploadToken, now.plusSeconds(presignExpirySeconds));
+    }
+
+    @Override
+    public VideoDto completeUpload(CompleteVideoUploadCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        if (!uploadTicketSigner.verify(command.getApplicationId(), command.getObjectKey(), command.getUploadToken())) {
+            throw new BadRequestException("Object key was not issued for this application");
+        }
+        if (videoRepository.existsByObjectKey(command.getObjectKey())) {
+            throw new ConflictException("Upload already completed");
+        }
+        MediaUploadResult result = mediaStoragePort.statObject(command.getObjectKey())
+            .orElseThrow(() -> new BadRequestException("Uploaded object not found"));
+        try {
+            return saveUploaded(command.getApplicationId(), command.getTitle(), command.getDescription(), command.getStatus(), result);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("Upload already completed");
+        }
     }
 
     @Override
     public VideoDto changeStatus(ChangeStatusCommand command, List<String> allowedApplicationIds) {
         enforceTenant(command.getApplicationId(), allowedApplicationIds);
-        Video existing = videoRepository.findById(command.getId())
-            .orElseThrow(() -> new NotFoundException("Video not found"));
-        Instant publishedAt = resolvePublishedAt(existing.getStatus(), command.getStatus(), existing.getPublishedAt());
-        Video updated = new Video(
-            existing.getId(),
-            existing.getApplicationId(),
-            existing.getTitle(),
-            existing.getDescription(),
+        StatusTransition<Video> transition = videoRepository.transitionStatus(
+            command.getId(),
+            command.getApplicationId(),
             command.getStatus(),
-            publishedAt,
-            existing.getObjectKey(),
-            existing.getContentType(),
-            existing.getSizeBytes(),
-            existing.getCreatedAt(),
             timeProvider.now()
-        );
-        return mapper.toVideoDto(videoRepository.save(updated));
+        ).orElseThrow(() -> new NotFoundException("Video not found"));
+        VideoDto saved = mapper.toVideoDto(transition.content());
+        countCache.recordMoved(ContentType.VIDEO, saved.getApplicationId(), transition.previousStatus(), saved.getApplicationId(), saved.getStatus(),
+            saved.getProcessingState());
+        return saved;
     }
 
     @Override
+    @Transactional
+    public List<StatusChangeResultDto> changeStatuses(BulkChangeStatusCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        Set<String> ids = new LinkedHashSet<>(command.getIds());
+        Map<String, StatusTransition<Video>> transitions = new HashMap<>();
+        for (StatusTransition<Video> transition : videoRepository.transitionStatuses(
+            command.getApplicationId(), ids, command.getStatus(), timeProvider.now())) {
+            transitions.put(transition.content().getId(), transition);
+        }
+        AfterCommit.run(() -> transitions.values().forEach(transition -> countCache.recordMoved(ContentType.VIDEO,
+            command.getApplicationId(), transition.previousStatus(), command.getApplicationId(), command.getStatus(),
+            transition.content().getProcessingState())));
+        return ids.stream()
+            .map(id -> {
+                StatusTransition<Video> transition = transitions.get(id);
+                return transition == null
+                    ? StatusChangeResultDto.notFound(id)
+                    : new StatusChangeResultDto(id, StatusChangeOutcome.UPDATED, transition.previousStatus(),
+                        transition.content().getStatus(), transition.content().getPublishedAt());
+            })
+            .toList();
+    }
+
+    @Override
+    public VideoDto schedule(ScheduleCommand command, List<String> allowedApplicationIds) {
+        enforceTenant(command.getApplicationId(), allowedApplicationIds);
+        validateSchedule(command);
+        Video video = videoRepository.updateSchedule(
+            command.getId(),
+            command.getApplicationId(),
+            command.getPublishAt(),
+            command.getUnpublishAt(),
+            timeProvider.now()
+        ).orElseThrow(() -> new NotFoundException("Video not found"));
+        return mapper.toVideoDto(video);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public PageResult<VideoDto> list(String applicationId, ContentStatus status, PageRequest pageRequest) {
-        PageSlice<Video> pageSlice;
+        if (pageRequest.getCountMode() == CountMode.EXACT) {
+            PageSlice<Video> pageSlice;
+            if (status != null) {
+                pageSlice = videoRepository.findByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
+            } else {
+                pageSlice = videoRepository.findByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+            }
+            return new PageResult<>(
+                pageSlice.items().stream().map(mapper::toVideoDto).toList(),
+                pageSlice.totalElements(),
+                pageSlice.totalPages(),
+                pageSlice.page(),
+                pageSlice.size()
+            );
+        }
+        ContentSlice<Video> slice;
         if (status != null) {
-            pageSlice = videoRepository.findByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
+            slice = videoRepository.findSliceByApplicationIdAndStatus(applicationId, status, pageRequest.getPage(), pageRequest.getSize());
         } else {
-            pageSlice = videoRepository.findByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+            slice = videoRepository.findSliceByApplicationId(applicationId, pageRequest.getPage(), pageRequest.getSize());
+        }
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (pageRequest.getCountMode() == CountMode.ESTIMATED) {
+            totalElements = countCache.get(ContentType.VIDEO, applicationId, status, () -> status != null
+                ? videoRepository.countByApplicationIdAndStatus(applicationId, status)
+                : videoRepository.countByApplicationId(applicationId));
+            totalPages = (int) ((totalElements + slice.size() - 1) / slice.size());
         }
         return new PageResult<>(
-            pageSlice.items().stream().map(mapper::toVideoDto).toList(),
-            pageSlice.totalElements(),
-            pageSlice.totalPages(),
-            pageSlice.page(),
-            pageSlice.size()
+            slice.items().stream().map(mapper::toVideoDto).toList(),
+            totalElements,
+            totalPages,
+            slice.page(),
+            slice.size(),
+            slice.hasNext(),
+            totalElements != null
         );
     }
 
@@ -117,25 +226,49 @@ public class VideoService implements VideoUseCase {
         return mediaStoragePort.getPresignedUrl(objectKey, presignExpirySeconds);
     }
 
-    private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
-        if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
-            throw new ForbiddenException("Application access denied");
-        }
+    @Override
+    public Map<String, String> getPresignedUrls(List<String> objectKeys) {
+        return mediaStoragePort.getPresignedUrls(objectKeys, presignExpirySeconds);
     }
 
-    private String buildObjectKey(String applicationId, String originalFileName) {
-        LocalDate date = LocalDate.now(ZoneOffset.UTC);
-        String safeName = originalFileName == null ? "file" : originalFileName.replaceAll("\\s+", "-");
-        return String.format("%s/%04d/%02d/%s-%s", applicationId, date.getYear(), date.getMonthValue(), UUID.randomUUID(), safeName);
+    private VideoDto saveUploaded(String applicationId,
+                                  String title,
+                                  String description,
+                                  ContentStatus status,
+                                  MediaUploadResult result) {
+        Instant now = timeProvider.now();
+        Instant publishedAt = status == ContentStatus.PUBLISHED ? now : null;
+        Video video = new Video(
+            idGenerator.newId(),
+            applicationId,
+            title,
+            description,
+            status,
+            publishedAt,
+            null,
+            null,
+            result.objectKey(),
+            result.contentType(),
+            result.sizeBytes(),
+            ProcessingState.READY,
+            now,
+            now
+        );
+        VideoDto saved = mapper.toVideoDto(videoRepository.insert(video));
+        countCache.recordCreated(ContentType.VIDEO, saved.getApplicationId(), saved.getStatus(), ProcessingState.READY);
+        return saved;
     }
 
-    private Instant resolvePublishedAt(ContentStatus previousStatus, ContentStatus newStatus, Instant currentPublishedAt) {
-        if (previousStatus != ContentStatus.PUBLISHED && newStatus == ContentStatus.PUBLISHED) {
-            return timeProvider.now();
+    private void validateSchedule(ScheduleCommand command) {
+        if (command.getPublishAt() != null && command.getUnpublishAt() != null
+            && !command.getUnpublishAt().isAfter(command.getPublishAt())) {
+            throw new BadRequestException("unpublishAt must be after publishAt");
         }
-        if (newStatus != ContentStatus.PUBLISHED) {
-            return null;
+    }
+
+    private void enforceTenant(String applicationId, List<String> allowedApplicationIds) {
+        if (allowedApplicationIds == null || !allowedApplicationIds.contains(applicationId)) {
+            throw new ForbiddenException("Application access denied");
         }
-        return currentPublishedAt;
     }
 }
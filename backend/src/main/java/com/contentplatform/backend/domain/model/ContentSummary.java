@@ -0,0 +1,67 @@
+package com.contentplatform.backend.domain.model;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class ContentSummary {
+    private final String id;
+    private final String applicationId;
+    private final String title;
+    private final String slug;
+    private final ContentStatus status;
+    private final Instant publishedAt;
+    private final Instant updatedAt;
+    private final String excerpt;
+
+    public ContentSummary(String id,
+                          String applicationId,
+                          String title,
+                          String slug,
+                          ContentStatus status,
+                          Instant publishedAt,
+                          Instant updatedAt,
+                          String excerpt) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.applicationId = Objects.requireNonNull(applicationId, "applicationId must not be null");
+        this.title = Objects.requireNonNull(title, "title must not be null");
+        this.slug = Objects.requireNonNull(slug, "slug must not be null");
+        this.status = Objects.requireNonNull(status, "status must not be null");
+        this.publishedAt = publishedAt;
+        this.updatedAt = updatedAt;
+        this.excerpt = excerpt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+}
@@ -13,6 +13,8 @@ public class Post {
     private final String content;
     private final ContentStatus status;
     private final Instant publishedAt;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
     private final Instant createdAt;
     private final Instant updatedAt;
 
@@ -23,6 +25,8 @@ public class Post {
                 String content,
                 ContentStatus status,
                 Instant publishedAt,
+                Instant publishAt,
+                Instant unpublishAt,
                 Instant createdAt,
                 Instant updatedAt) {
         this.id = Objects.requireNonNull(id, "id must not be null");
@@ -32,6 +36,8 @@ public class Post {
         this.content = Objects.requireNonNull(content, "content must not be null");
         this.status = Objects.requireNonNull(status, "status must not be null");
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt must not be null");
     }
@@ -64,6 +70,14 @@ public class Post {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,29 @@
+package com.contentplatform.backend.domain.model;
+
+import java.util.Objects;
+
+public class UploadPart {
+    private final int partNumber;
+    private final String etag;
+    private final long sizeBytes;
+
+    public UploadPart(int partNumber,
+                      String etag,
+                      long sizeBytes) {
+        this.partNumber = partNumber;
+        this.etag = Objects.requireNonNull(etag, "etag must not be null");
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+}
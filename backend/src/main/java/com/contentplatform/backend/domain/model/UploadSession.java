@@ -0,0 +1,110 @@
+package com.contentplatform.backend.domain.model;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.UploadSessionState;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class UploadSession {
+    private final String id;
+    private final String applicationId;
+    private final String objectKey;
+    private final String storageUploadId;
+    private final String title;
+    private final String description;
+    private final ContentStatus status;
+    private final String contentType;
+    private final long totalSizeBytes;
+    private final long chunkSizeBytes;
+    private final UploadSessionState state;
+    private final String videoId;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+
+    public UploadSession(String id,
+                         String applicationId,
+                         String objectKey,
+                         String storageUploadId,
+                         String title,
+                         String description,
+                         ContentStatus status,
+                         String contentType,
+                         long totalSizeBytes,
+                         long chunkSizeBytes,
+                         UploadSessionState state,
+                         String videoId,
+                         Instant createdAt,
+                         Instant updatedAt) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.applicationId = Objects.requireNonNull(applicationId, "applicationId must not be null");
+        this.objectKey = Objects.requireNonNull(objectKey, "objectKey must not be null");
+        this.storageUploadId = Objects.requireNonNull(storageUploadId, "storageUploadId must not be null");
+        this.title = Objects.requireNonNull(title, "title must not be null");
+        this.description = description;
+        this.status = Objects.requireNonNull(status, "status must not be null");
+        this.contentType = Objects.requireNonNull(contentType, "contentType must not be null");
+        this.totalSizeBytes = totalSizeBytes;
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.state = Objects.requireNonNull(state, "state must not be null");
+        this.videoId = videoId;
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
+        this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt must not be null");
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public String getStorageUploadId() {
+        return storageUploadId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public long getChunkSizeBytes() {
+        return chunkSizeBytes;
+    }
+
+    public UploadSessionState getState() {
+        return state;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
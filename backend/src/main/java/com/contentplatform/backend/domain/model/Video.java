@@ -1,6 +1,7 @@
 package com.contentplatform.backend.domain.model;
 
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 
 import java.time.Instant;
 import java.util.Objects;
@@ -12,9 +13,12 @@ public class Video {
     private final String description;
     private final ContentStatus status;
     private final Instant publishedAt;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
     private final String objectKey;
     private final String contentType;
     private final long sizeBytes;
+    private final ProcessingState processingState;
     private final Instant createdAt;
     private final Instant updatedAt;
 
@@ -24,9 +28,12 @@ public class Video {
                  String description,
                  ContentStatus status,
                  Instant publishedAt,
+                 Instant publishAt,
+                 Instant unpublishAt,
                  String objectKey,
                  String contentType,
                  long sizeBytes,
+                 ProcessingState processingState,
                  Instant createdAt,
                  Instant updatedAt) {
         this.id = Objects.requireNonNull(id, "id must not be null");
@@ -35,9 +42,12 @@ public class Video {
         this.description = description;
         this.status = Objects.requireNonNull(status, "status must not be null");
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.objectKey = Objects.requireNonNull(objectKey, "objectKey must not be null");
         this.contentType = Objects.requireNonNull(contentType, "contentType must not be null");
         this.sizeBytes = sizeBytes;
+        this.processingState = Objects.requireNonNull(processingState, "processingState must not be null");
         this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt must not be null");
     }
@@ -66,6 +76,14 @@ public class Video {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public String getObjectKey() {
         return objectKey;
     }
@@ -78,6 +96,10 @@ public class Video {
         return sizeBytes;
     }
 
+    public ProcessingState getProcessingState() {
+        return processingState;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,7 @@
+package com.contentplatform.backend.domain.value;
+
+public enum ProcessingState {
+    PROCESSING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,32 @@
+package com.contentplatform.backend.infrastructure.cache;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    @Bean
+    public SlugCache<PostDto> postSlugCache(@Value("${app.cache.slug.maximum-size:1000}") long maximumSize,
+                                            @Value("${app.cache.slug.ttl-seconds:60}") long ttlSeconds) {
+        return new CaffeineSlugCache<>("posts-by-slug", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public SlugCache<ArticleDto> articleSlugCache(@Value("${app.cache.slug.maximum-size:1000}") long maximumSize,
+                                                  @Value("${app.cache.slug.ttl-seconds:60}") long ttlSeconds) {
+        return new CaffeineSlugCache<>("articles-by-slug", maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public ContentCountCache contentCountCache(@Value("${app.cache.count.maximum-size:10000}") long maximumSize,
+                                               @Value("${app.cache.count.ttl-seconds:300}") long ttlSeconds) {
+        return new CaffeineContentCountCache(maximumSize, Duration.ofSeconds(ttlSeconds));
+    }
+}
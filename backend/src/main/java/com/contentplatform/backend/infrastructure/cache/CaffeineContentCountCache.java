@@ -0,0 +1,83 @@
+package com.contentplatform.backend.infrastructure.cache;
+
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class CaffeineContentCountCache implements ContentCountCache {
+    private final Cache<Key, AtomicLong> cache;
+
+    public CaffeineContentCountCache(long maximumSize, Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .build();
+    }
+
+    @Override
+    public long get(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState, LongSupplier loader) {
+        return cache.get(new Key(type, applicationId, status, processingState), key -> new AtomicLong(loader.getAsLong())).get();
+    }
+
+    @Override
+    public void recordCreated(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState) {
+        adjust(type, applicationId, status, null, 1);
+        if (processingState != null) {
+            adjust(type, applicationId, status, processingState, 1);
+        }
+    }
+
+    @Override
+    public void recordMoved(ContentType type, String fromApplicationId, ContentStatus fromStatus,
+                            String toApplicationId, ContentStatus toStatus, ProcessingState processingState) {
+        if (fromApplicationId.equals(toApplicationId) && fromStatus == toStatus) {
+            return;
+        }
+        move(type, fromApplicationId, fromStatus, toApplicationId, toStatus, null);
+        if (processingState != null) {
+            move(type, fromApplicationId, fromStatus, toApplicationId, toStatus, processingState);
+        }
+    }
+
+    @Override
+    public void recordProcessed(ContentType type, String applicationId, ContentStatus status,
+                                ProcessingState fromState, ProcessingState toState) {
+        if (fromState == toState) {
+            return;
+        }
+        adjust(type, applicationId, status, fromState, -1);
+        adjust(type, applicationId, status, toState, 1);
+    }
+
+    private void move(ContentType type, String fromApplicationId, ContentStatus fromStatus,
+                      String toApplicationId, ContentStatus toStatus, ProcessingState processingState) {
+        adjust(new Key(type, fromApplicationId, fromStatus, processingState), -1);
+        adjust(new Key(type, toApplicationId, toStatus, processingState), 1);
+        if (!fromApplicationId.equals(toApplicationId)) {
+            adjust(new Key(type, fromApplicationId, null, processingState), -1);
+            adjust(new Key(type, toApplicationId, null, processingState), 1);
+        }
+    }
+
+    private void adjust(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState, long delta) {
+        adjust(new Key(type, applicationId, status, processingState), delta);
+        adjust(new Key(type, applicationId, null, processingState), delta);
+    }
+
+    private void adjust(Key key, long delta) {
+        AtomicLong count = cache.getIfPresent(key);
+        if (count != null) {
+            count.addAndGet(delta);
+        }
+    }
+
+    private record Key(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState) {
+    }
+}
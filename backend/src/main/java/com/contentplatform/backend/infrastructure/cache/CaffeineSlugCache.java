@@ -0,0 +1,48 @@
+package com.contentplatform.backend.infrastructure.cache;
+
+import com.contentplatform.backend.application.port.out.CacheStatistics;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class CaffeineSlugCache<V> implements SlugCache<V> {
+    private final String name;
+    private final Cache<Key, V> cache;
+
+    public CaffeineSlugCache(String name, long maximumSize, Duration timeToLive) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public V get(String applicationId, String slug, Supplier<V> loader) {
+        return cache.get(new Key(applicationId, slug), key -> loader.get());
+    }
+
+    @Override
+    public void invalidate(String applicationId, String slug) {
+        cache.invalidate(new Key(applicationId, slug));
+    }
+
+    @Override
+    public CacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private record Key(String applicationId, String slug) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.contentplatform.backend.infrastructure.config;
+
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "app.ids.strategy", havingValue = "random")
+public class RandomUuidIdGenerator implements IdGenerator {
+    @Override
+    public String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.contentplatform.backend.infrastructure.config;
+
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "app.ids.strategy", havingValue = "uuid-v7", matchIfMissing = true)
+public class UuidV7IdGenerator implements IdGenerator {
+    private static final int SEQUENCE_BITS = 12;
+
+    private final TimeProvider timeProvider;
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    public UuidV7IdGenerator(TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+    }
+
+    @Override
+    public String newId() {
+        long timestamp = timeProvider.now().toEpochMilli() << SEQUENCE_BITS;
+        long timestampAndSequence = lastTimestampAndSequence.updateAndGet(last -> Math.max(timestamp, last + 1));
+        long mostSignificantBits = (timestampAndSequence >>> SEQUENCE_BITS) << 16
+            | 0x7000L
+            | (timestampAndSequence & 0xFFFL);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url:${spring.datasource.url}}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        return readOnlyPool("replica", properties, url, username, password);
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.public.hikari")
+    public HikariDataSource publicDataSource(DataSourceProperties properties,
+                                             @Value("${app.datasource.replica.url:${spring.datasource.url}}") String url,
+                                             @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                             @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        return readOnlyPool("public", properties, url, username, password);
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.upload.hikari")
+    public HikariDataSource uploadDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("upload");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Qualifier("publicDataSource") DataSource publicReads,
+                                 @Qualifier("uploadDataSource") DataSource upload) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(Map.of(
+            DataSourceRoute.PRIMARY, primary,
+            DataSourceRoute.REPLICA, replica,
+            DataSourceRoute.PUBLIC, publicReads,
+            DataSourceRoute.UPLOAD, upload
+        ));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource readOnlyPool(String poolName,
+                                                 DataSourceProperties properties,
+                                                 String url,
+                                                 String username,
+                                                 String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,8 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA,
+    PUBLIC,
+    UPLOAD
+}
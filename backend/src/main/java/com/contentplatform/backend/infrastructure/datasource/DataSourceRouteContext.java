@@ -0,0 +1,41 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+import com.contentplatform.backend.infrastructure.traffic.TrafficClass;
+
+public final class DataSourceRouteContext {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    private static final ThreadLocal<TrafficClass> TRAFFIC_CLASS = new ThreadLocal<>();
+
+    private DataSourceRouteContext() {
+    }
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpinPrimary() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    public static void setTrafficClass(TrafficClass trafficClass) {
+        TRAFFIC_CLASS.set(trafficClass);
+    }
+
+    public static void clearTrafficClass() {
+        TRAFFIC_CLASS.remove();
+    }
+
+    public static TrafficClass trafficClass() {
+        TrafficClass trafficClass = TRAFFIC_CLASS.get();
+        return trafficClass == null ? TrafficClass.ADMIN : trafficClass;
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+        TRAFFIC_CLASS.remove();
+    }
+}
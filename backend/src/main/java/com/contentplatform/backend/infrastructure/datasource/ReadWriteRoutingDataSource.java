@@ -0,0 +1,29 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+import com.contentplatform.backend.infrastructure.traffic.TrafficClass;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public ReadWriteRoutingDataSource(Map<DataSourceRoute, DataSource> dataSources) {
+        setTargetDataSources(new HashMap<>(dataSources));
+        setDefaultTargetDataSource(dataSources.get(DataSourceRoute.PRIMARY));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        TrafficClass trafficClass = DataSourceRouteContext.trafficClass();
+        if (trafficClass == TrafficClass.UPLOAD) {
+            return DataSourceRoute.UPLOAD;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || DataSourceRouteContext.isPrimaryPinned()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return trafficClass == TrafficClass.PUBLIC ? DataSourceRoute.PUBLIC : DataSourceRoute.REPLICA;
+    }
+}
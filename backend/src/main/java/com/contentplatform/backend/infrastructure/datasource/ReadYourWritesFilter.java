@@ -0,0 +1,170 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.infrastructure.security.JwtUser;
+import com.contentplatform.backend.infrastructure.security.SigningKeys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+    public static final String LAST_WRITE_COOKIE = "last_write";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final TimeProvider timeProvider;
+    private final Duration window;
+    private final SecretKeySpec key;
+
+    public ReadYourWritesFilter(TimeProvider timeProvider,
+                                @Value("${app.datasource.read-your-writes.window-seconds:5}") long windowSeconds,
+                                @Value("${app.datasource.read-your-writes.secret:}") String secret,
+                                @Value("${app.jwt.secret}") String jwtSecret) {
+        this.timeProvider = timeProvider;
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.key = SigningKeys.forPurpose(secret, "app.datasource.read-your-writes.secret", jwtSecret, "read-your-writes");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String writer = currentWriter();
+        if (writer == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write || withinWindow(writer, lastWriteToken(request))) {
+            DataSourceRouteContext.pinPrimary();
+        }
+        LastWriteResponse lastWriteResponse = write ? new LastWriteResponse(response, writer) : null;
+        try {
+            filterChain.doFilter(request, lastWriteResponse != null ? lastWriteResponse : response);
+        } finally {
+            DataSourceRouteContext.unpinPrimary();
+        }
+        if (lastWriteResponse != null && !response.isCommitted()) {
+            lastWriteResponse.issue();
+        }
+    }
+
+    private boolean withinWindow(String writer, String token) {
+        if (token == null) {
+            return false;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+        String millis = token.substring(0, separator);
+        if (!MessageDigest.isEqual(
+            sign(writer, millis).getBytes(StandardCharsets.UTF_8),
+            token.substring(separator + 1).getBytes(StandardCharsets.UTF_8)
+        )) {
+            return false;
+        }
+        Instant writtenAt;
+        try {
+            writtenAt = Instant.ofEpochMilli(Long.parseLong(millis));
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+        Instant now = timeProvider.now();
+        return now.isBefore(writtenAt.plus(window)) && writtenAt.isBefore(now.plus(window));
+    }
+
+    private String issueToken(String writer) {
+        String millis = Long.toString(timeProvider.now().toEpochMilli());
+        return millis + '.' + sign(writer, millis);
+    }
+
+    private String sign(String writer, String millis) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal((writer + '\n' + millis).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to sign last write token", ex);
+        }
+    }
+
+    private static String lastWriteToken(HttpServletRequest request) {
+        String header = request.getHeader(LAST_WRITE_HEADER);
+        if (header != null && !header.isBlank()) {
+            return header.trim();
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String currentWriter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof JwtUser user ? user.subject() : null;
+    }
+
+    private final class LastWriteResponse extends OnCommittedResponseWrapper {
+        private final String writer;
+
+        private LastWriteResponse(HttpServletResponse response, String writer) {
+            super(response);
+            this.writer = writer;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            issue();
+        }
+
+        private void issue() {
+            if (isDisableOnResponseCommitted()) {
+                return;
+            }
+            disableOnResponseCommitted();
+            if (getStatus() >= 400) {
+                return;
+            }
+            String token = issueToken(writer);
+            setHeader(LAST_WRITE_HEADER, token);
+            addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(LAST_WRITE_COOKIE, token)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Strict")
+                .path("/")
+                .maxAge(window)
+                .build()
+                .toString());
+        }
+    }
+}
@@ -37,14 +37,14 @@ public class JpaApplicationRepositoryAdapter implements ApplicationRepository {
             .toList();
     }
 
+    @Override
+    public Application insert(Application application) {
+        return toDomain(repository.save(toEntity(application).markNew()));
+    }
+
     @Override
     public Application save(Application application) {
-        ApplicationEntity entity = new ApplicationEntity(
-            application.getId(),
-            application.getName(),
-            application.getWebsiteUrl()
-        );
-        return toDomain(repository.save(entity));
+        return toDomain(repository.save(toEntity(application)));
     }
 
     @Override
@@ -62,6 +62,14 @@ public class JpaApplicationRepositoryAdapter implements ApplicationRepository {
         return repository.count();
     }
 
+    private ApplicationEntity toEntity(Application application) {
+        return new ApplicationEntity(
+            application.getId(),
+            application.getName(),
+            application.getWebsiteUrl()
+        );
+    }
+
     private Application toDomain(ApplicationEntity entity) {
         return new Application(entity.getId(), entity.getName(), entity.getWebsiteUrl());
     }
@@ -1,24 +1,188 @@
 package com.contentplatform.backend.infrastructure.jpa;
 
 import com.contentplatform.backend.application.port.out.ArticleRepository;
+import com.contentplatform.backend.application.port.out.ContentSlice;
 import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.application.port.out.ScheduledTransition;
+import com.contentplatform.backend.application.port.out.StatusTransition;
 import com.contentplatform.backend.domain.model.Article;
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.value.ContentStatus;
 import com.contentplatform.backend.infrastructure.jpa.entity.ArticleEntity;
 import com.contentplatform.backend.infrastructure.jpa.repository.ArticleJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class JpaArticleRepositoryAdapter implements ArticleRepository {
+    private static final String TRANSITION_STATUS_SQL = """
+        with previous as (
+            select id, status from articles
+            where id = :id and application_id = :applicationId
+            for update
+        )
+        update articles a
+        set status = :status,
+            published_at = case
+                when :status <> 'PUBLISHED' then null
+                when previous.status <> 'PUBLISHED' then :now
+                else a.published_at
+            end,
+            updated_at = :now
+        from previous
+        where a.id = previous.id
+        returning a.id, a.application_id, a.title, a.slug, a.content, a.status, a.published_at,
+                  a.publish_at, a.unpublish_at, a.created_at, a.updated_at, previous.status as previous_status
+        """;
+
+    private static final String TRANSITION_STATUSES_SQL = """
+        with previous as (
+            select id, status from articles
+            where application_id = :applicationId and id in (:ids)
+            order by id
+            for update
+        )
+        update articles a
+        set status = :status,
+            published_at = case
+                when :status <> 'PUBLISHED' then null
+                when previous.status <> 'PUBLISHED' then :now
+                else a.published_at
+            end,
+            updated_at = :now
+        from previous
+        where a.id = previous.id
+        returning a.id, a.application_id, a.title, a.slug, a.status, a.published_at, a.updated_at,
+                  previous.status as previous_status
+        """;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final String UPDATE_SCHEDULE_SQL = """
+        update articles
+        set publish_at = :publishAt,
+            unpublish_at = :unpublishAt,
+            updated_at = :now
+        where id = :id and application_id = :applicationId
+        returning id, application_id, title, slug, content, status, published_at, publish_at, unpublish_at,
+                  created_at, updated_at
+        """;
+    private static final String PUBLISH_DUE_SQL = """
+        with due as (
+            select id, status, publish_at from articles
+            where publish_at <= :now
+            order by publish_at
+            limit :limit
+            for update skip locked
+        )
+        update articles a
+        set status = 'PUBLISHED',
+            published_at = case
+                when due.status <> 'PUBLISHED' then :now
+                else a.published_at
+            end,
+            publish_at = null,
+            updated_at = :now
+        from due
+        where a.id = due.id
+        returning a.id, a.application_id, a.title, a.slug, a.status, a.published_at, a.updated_at,
+                  due.status as previous_status, due.publish_at as scheduled_at
+        """;
+    private static final String UNPUBLISH_DUE_SQL = """
+        with due as (
+            select id, status, unpublish_at from articles
+            where unpublish_at <= :now
+            order by unpublish_at
+            limit :limit
+            for update skip locked
+        )
+        update articles a
+        set status = case
+                when due.status = 'PUBLISHED' then 'ARCHIVED'
+                else due.status
+            end,
+            published_at = null,
+            unpublish_at = null,
+            updated_at = :now
+        from due
+        where a.id = due.id
+        returning a.id, a.application_id, a.title, a.slug, a.status, a.published_at, a.updated_at,
+                  due.status as previous_status, due.unpublish_at as scheduled_at
+        """;
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = """
+        insert into articles (id, application_id, title, slug, content, status, published_at, created_at, updated_at)
+        values (:id, :applicationId, :title, :slug, :content, :status, :publishedAt, :createdAt, :updatedAt)
+        on conflict do nothing
+        """;
+    private static final String EXPORT_SQL = """
+        select id, application_id, title, slug, content, status, published_at, publish_at, unpublish_at,
+               created_at, updated_at
+        from articles
+        where application_id = ? and updated_at >= ?
+        order by updated_at, id
+        """;
+
     private final ArticleJpaRepository repository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
 
-    public JpaArticleRepositoryAdapter(ArticleJpaRepository repository) {
+    public JpaArticleRepositoryAdapter(ArticleJpaRepository repository,
+                                       NamedParameterJdbcTemplate jdbcTemplate,
+                                       @Value("${app.export.fetch-size:500}") int exportFetchSize) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Article insert(Article article) {
+        return toDomain(repository.save(toEntity(article).markNew()));
+    }
+
+    @Override
+    @Transactional
+    public List<Article> insertAll(List<Article> articles) {
+        SqlParameterSource[] batch = articles.stream()
+            .map(article -> new MapSqlParameterSource()
+                .addValue("id", article.getId())
+                .addValue("applicationId", article.getApplicationId())
+                .addValue("title", article.getTitle())
+                .addValue("slug", article.getSlug())
+                .addValue("content", article.getContent())
+                .addValue("status", article.getStatus().name())
+                .addValue("publishedAt", toOffsetDateTime(article.getPublishedAt()))
+                .addValue("createdAt", toOffsetDateTime(article.getCreatedAt()))
+                .addValue("updatedAt", toOffsetDateTime(article.getUpdatedAt())))
+            .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_IGNORING_CONFLICTS_SQL, batch);
+        List<Article> inserted = new ArrayList<>(articles.size());
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] != 0) {
+                inserted.add(articles.get(index));
+            }
+        }
+        return inserted;
     }
 
     @Override
@@ -26,6 +190,55 @@ public class JpaArticleRepositoryAdapter implements ArticleRepository {
         return toDomain(repository.save(toEntity(article)));
     }
 
+    @Override
+    public Optional<StatusTransition<Article>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("applicationId", applicationId)
+            .addValue("status", status.name())
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(TRANSITION_STATUS_SQL, parameters, (rs, rowNum) -> new StatusTransition<>(
+            toArticle(rs),
+            ContentStatus.valueOf(rs.getString("previous_status"))
+        )).stream().findFirst();
+    }
+
+    @Override
+    public List<StatusTransition<ContentSummary>> transitionStatuses(String applicationId, Collection<String> ids, ContentStatus status, Instant now) {
+        List<String> pending = List.copyOf(ids);
+        List<StatusTransition<ContentSummary>> transitions = new ArrayList<>(pending.size());
+        for (int from = 0; from < pending.size(); from += BULK_CHUNK_SIZE) {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("applicationId", applicationId)
+                .addValue("ids", pending.subList(from, Math.min(from + BULK_CHUNK_SIZE, pending.size())))
+                .addValue("status", status.name())
+                .addValue("now", now.atOffset(ZoneOffset.UTC));
+            transitions.addAll(jdbcTemplate.query(TRANSITION_STATUSES_SQL, parameters, this::toSummaryTransition));
+        }
+        return transitions;
+    }
+
+    @Override
+    public Optional<Article> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("applicationId", applicationId)
+            .addValue("publishAt", toOffsetDateTime(publishAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("unpublishAt", toOffsetDateTime(unpublishAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(UPDATE_SCHEDULE_SQL, parameters, (rs, rowNum) -> toArticle(rs)).stream().findFirst();
+    }
+
+    @Override
+    public List<ScheduledTransition<ContentSummary>> publishDue(Instant now, int limit) {
+        return jdbcTemplate.query(PUBLISH_DUE_SQL, scheduleParameters(now, limit), this::toScheduledSummary);
+    }
+
+    @Override
+    public List<ScheduledTransition<ContentSummary>> unpublishDue(Instant now, int limit) {
+        return jdbcTemplate.query(UNPUBLISH_DUE_SQL, scheduleParameters(now, limit), this::toScheduledSummary);
+    }
+
     @Override
     public Optional<Article> findById(String id) {
         return repository.findById(id).map(this::toDomain);
@@ -55,6 +268,47 @@ public class JpaArticleRepositoryAdapter implements ArticleRepository {
         return toPageSlice(result);
     }
 
+    @Override
+    public ContentSlice<Article> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size) {
+        Slice<ArticleEntity> result = repository.findSliceByApplicationIdAndStatus(
+            applicationId,
+            status,
+            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"))
+        );
+        return toContentSlice(result);
+    }
+
+    @Override
+    public ContentSlice<Article> findSliceByApplicationId(String applicationId, int page, int size) {
+        Slice<ArticleEntity> result = repository.findSliceByApplicationId(
+            applicationId,
+            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"))
+        );
+        return toContentSlice(result);
+    }
+
+    @Override
+    public long countByApplicationIdAndStatus(String applicationId, ContentStatus status) {
+        return repository.countByApplicationIdAndStatus(applicationId, status);
+    }
+
+    @Override
+    public long countByApplicationId(String applicationId) {
+        return repository.countByApplicationId(applicationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Article> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            statement.setString(1, applicationId);
+            statement.setObject(2, toOffsetDateTime(updatedSince == null ? Instant.EPOCH : updatedSince));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(toArticle(rs)));
+    }
+
     private PageSlice<Article> toPageSlice(Page<ArticleEntity> page) {
         return new PageSlice<>(
             page.getContent().stream().map(this::toDomain).toList(),
@@ -65,6 +319,15 @@ public class JpaArticleRepositoryAdapter implements ArticleRepository {
         );
     }
 
+    private ContentSlice<Article> toContentSlice(Slice<ArticleEntity> slice) {
+        return new ContentSlice<>(
+            slice.getContent().stream().map(this::toDomain).toList(),
+            slice.getNumber(),
+            slice.getSize(),
+            slice.hasNext()
+        );
+    }
+
     private ArticleEntity toEntity(Article article) {
         return new ArticleEntity(
             article.getId(),
@@ -74,6 +337,8 @@ public class JpaArticleRepositoryAdapter implements ArticleRepository {
             article.getContent(),
             article.getStatus(),
             article.getPublishedAt(),
+            article.getPublishAt(),
+            article.getUnpublishAt(),
             article.getCreatedAt(),
             article.getUpdatedAt()
         );
@@ -88,8 +353,65 @@ public class JpaArticleRepositoryAdapter implements ArticleRepository {
             entity.getContent(),
             entity.getStatus(),
             entity.getPublishedAt(),
+            entity.getPublishAt(),
+            entity.getUnpublishAt(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
         );
     }
+
+    private Article toArticle(ResultSet rs) throws SQLException {
+        return new Article(
+            rs.getString("id"),
+            rs.getString("application_id"),
+            rs.getString("title"),
+            rs.getString("slug"),
+            rs.getString("content"),
+            ContentStatus.valueOf(rs.getString("status")),
+            toInstant(rs.getTimestamp("published_at")),
+            toInstant(rs.getTimestamp("publish_at")),
+            toInstant(rs.getTimestamp("unpublish_at")),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant()
+        );
+    }
+
+    private StatusTransition<ContentSummary> toSummaryTransition(ResultSet rs, int rowNum) throws SQLException {
+        return new StatusTransition<>(
+            new ContentSummary(
+                rs.getString("id"),
+                rs.getString("application_id"),
+                rs.getString("title"),
+                rs.getString("slug"),
+                ContentStatus.valueOf(rs.getString("status")),
+                toInstant(rs.getTimestamp("published_at")),
+                rs.getTimestamp("updated_at").toInstant(),
+                null
+            ),
+            ContentStatus.valueOf(rs.getString("previous_status"))
+        );
+    }
+
+    private ScheduledTransition<ContentSummary> toScheduledSummary(ResultSet rs, int rowNum) throws SQLException {
+        StatusTransition<ContentSummary> transition = toSummaryTransition(rs, rowNum);
+        return new ScheduledTransition<>(
+            transition.content(),
+            transition.previousStatus(),
+            rs.getTimestamp("scheduled_at").toInstant()
+        );
+    }
+
+    private static MapSqlParameterSource scheduleParameters(Instant now, int limit) {
+        return new MapSqlParameterSource()
+            .addValue("now", now.atOffset(ZoneOffset.UTC))
+            .addValue("limit", limit);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
 }
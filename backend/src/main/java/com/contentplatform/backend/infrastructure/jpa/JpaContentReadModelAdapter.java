@@ -0,0 +1,212 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.ArticleReadModel;
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.dto.PostReadModel;
+import com.contentplatform.backend.application.dto.VideoReadModel;
+import com.contentplatform.backend.application.port.out.ContentReadModelRepository;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.application.port.out.KeysetSlice;
+import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import com.contentplatform.backend.infrastructure.jpa.repository.ArticleJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.PostJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.VideoJpaRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class JpaContentReadModelAdapter implements ContentReadModelRepository {
+    private static final String SEARCH_POSTS_SQL = """
+        select p.id, p.application_id, p.title, p.slug, p.status, p.published_at, p.updated_at,
+               left(p.content, :excerptLength) as excerpt
+        from posts p, websearch_to_tsquery('simple', :query) search_query
+        where p.application_id = :applicationId and p.status = :status and p.search_vector @@ search_query
+        order by ts_rank_cd(p.search_vector, search_query) desc, p.published_at desc nulls last, p.id
+        limit :limit offset :offset
+        """;
+    private static final String SEARCH_ARTICLES_SQL = """
+        select a.id, a.application_id, a.title, a.slug, a.status, a.published_at, a.updated_at,
+               left(a.content, :excerptLength) as excerpt
+        from articles a, websearch_to_tsquery('simple', :query) search_query
+        where a.application_id = :applicationId and a.status = :status and a.search_vector @@ search_query
+        order by ts_rank_cd(a.search_vector, search_query) desc, a.published_at desc nulls last, a.id
+        limit :limit offset :offset
+        """;
+
+    private final PostJpaRepository postRepository;
+    private final ArticleJpaRepository articleRepository;
+    private final VideoJpaRepository videoRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JpaContentReadModelAdapter(PostJpaRepository postRepository,
+                                      ArticleJpaRepository articleRepository,
+                                      VideoJpaRepository videoRepository,
+                                      NamedParameterJdbcTemplate jdbcTemplate) {
+        this.postRepository = postRepository;
+        this.articleRepository = articleRepository;
+        this.videoRepository = videoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PageSlice<PostReadModel> findPosts(String applicationId, ContentStatus status, int page, int size) {
+        return toPageSlice(postRepository.findReadModelsByApplicationIdAndStatus(applicationId, status, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<PostReadModel> findPostSlice(String applicationId, ContentStatus status, int page, int size) {
+        return toContentSlice(postRepository.findReadModelSliceByApplicationIdAndStatus(applicationId, status, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public KeysetSlice<PostReadModel> findPostsBefore(String applicationId, ContentStatus status, Instant publishedAt, String id, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<PostReadModel> rows = publishedAt == null
+            ? postRepository.findReadModelKeysetFirst(applicationId, status, limit)
+            : postRepository.findReadModelKeysetBefore(applicationId, status, publishedAt, id, limit);
+        return toKeysetSlice(rows, size);
+    }
+
+    @Override
+    public PageSlice<ContentSummaryReadModel> findPostSummaries(String applicationId, ContentStatus status, int page, int size, int excerptLength) {
+        return toPageSlice(postRepository.findSummaryReadModelsByApplicationIdAndStatus(applicationId, status, excerptLength, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<ContentSummaryReadModel> findPostSummarySlice(String applicationId, ContentStatus status, int page, int size, int excerptLength) {
+        return toContentSlice(postRepository.findSummaryReadModelSliceByApplicationIdAndStatus(applicationId, status, excerptLength, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<ContentSummaryReadModel> searchPosts(String applicationId, ContentStatus status, String query, int page, int size, int excerptLength) {
+        return search(SEARCH_POSTS_SQL, applicationId, status, query, page, size, excerptLength);
+    }
+
+    @Override
+    public long countPosts(String applicationId, ContentStatus status) {
+        return postRepository.countByApplicationIdAndStatus(applicationId, status);
+    }
+
+    @Override
+    public PageSlice<ArticleReadModel> findArticles(String applicationId, ContentStatus status, int page, int size) {
+        return toPageSlice(articleRepository.findReadModelsByApplicationIdAndStatus(applicationId, status, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<ArticleReadModel> findArticleSlice(String applicationId, ContentStatus status, int page, int size) {
+        return toContentSlice(articleRepository.findReadModelSliceByApplicationIdAndStatus(applicationId, status, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public KeysetSlice<ArticleReadModel> findArticlesBefore(String applicationId, ContentStatus status, Instant publishedAt, String id, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<ArticleReadModel> rows = publishedAt == null
+            ? articleRepository.findReadModelKeysetFirst(applicationId, status, limit)
+            : articleRepository.findReadModelKeysetBefore(applicationId, status, publishedAt, id, limit);
+        return toKeysetSlice(rows, size);
+    }
+
+    @Override
+    public PageSlice<ContentSummaryReadModel> findArticleSummaries(String applicationId, ContentStatus status, int page, int size, int excerptLength) {
+        return toPageSlice(articleRepository.findSummaryReadModelsByApplicationIdAndStatus(applicationId, status, excerptLength, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<ContentSummaryReadModel> findArticleSummarySlice(String applicationId, ContentStatus status, int page, int size, int excerptLength) {
+        return toContentSlice(articleRepository.findSummaryReadModelSliceByApplicationIdAndStatus(applicationId, status, excerptLength, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<ContentSummaryReadModel> searchArticles(String applicationId, ContentStatus status, String query, int page, int size, int excerptLength) {
+        return search(SEARCH_ARTICLES_SQL, applicationId, status, query, page, size, excerptLength);
+    }
+
+    @Override
+    public long countArticles(String applicationId, ContentStatus status) {
+        return articleRepository.countByApplicationIdAndStatus(applicationId, status);
+    }
+
+    @Override
+    public PageSlice<VideoReadModel> findVideos(String applicationId, ContentStatus status, int page, int size) {
+        return toPageSlice(videoRepository.findReadModelsByApplicationIdAndStatus(applicationId, status, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public ContentSlice<VideoReadModel> findVideoSlice(String applicationId, ContentStatus status, int page, int size) {
+        return toContentSlice(videoRepository.findReadModelSliceByApplicationIdAndStatus(applicationId, status, byPublishedAt(page, size)));
+    }
+
+    @Override
+    public KeysetSlice<VideoReadModel> findVideosBefore(String applicationId, ContentStatus status, Instant publishedAt, String id, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<VideoReadModel> rows = publishedAt == null
+            ? videoRepository.findReadModelKeysetFirst(applicationId, status, limit)
+            : videoRepository.findReadModelKeysetBefore(applicationId, status, publishedAt, id, limit);
+        return toKeysetSlice(rows, size);
+    }
+
+    @Override
+    public long countVideos(String applicationId, ContentStatus status) {
+        return videoRepository.countByApplicationIdAndStatusAndProcessingState(applicationId, status, ProcessingState.READY);
+    }
+
+    private ContentSlice<ContentSummaryReadModel> search(String sql,
+                                                         String applicationId,
+                                                         ContentStatus status,
+                                                         String query,
+                                                         int page,
+                                                         int size,
+                                                         int excerptLength) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("applicationId", applicationId)
+            .addValue("status", status.name())
+            .addValue("query", query)
+            .addValue("excerptLength", excerptLength)
+            .addValue("limit", size + 1)
+            .addValue("offset", (long) page * size);
+        List<ContentSummaryReadModel> rows = jdbcTemplate.query(sql, parameters, (rs, rowNum) -> new ContentSummaryReadModel(
+            rs.getString("id"),
+            rs.getString("application_id"),
+            rs.getString("title"),
+            rs.getString("slug"),
+            ContentStatus.valueOf(rs.getString("status")),
+            toInstant(rs.getTimestamp("published_at")),
+            rs.getTimestamp("updated_at").toInstant(),
+            excerptLength > 0 ? rs.getString("excerpt") : null
+        ));
+        boolean hasNext = rows.size() > size;
+        return new ContentSlice<>(hasNext ? rows.subList(0, size) : rows, page, size, hasNext);
+    }
+
+    private PageRequest byPublishedAt(int page, int size) {
+        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"));
+    }
+
+    private <T> PageSlice<T> toPageSlice(Page<T> page) {
+        return new PageSlice<>(page.getContent(), page.getTotalElements(), page.getTotalPages(), page.getNumber(), page.getSize());
+    }
+
+    private <T> ContentSlice<T> toContentSlice(Slice<T> slice) {
+        return new ContentSlice<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+    private <T> KeysetSlice<T> toKeysetSlice(List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        return new KeysetSlice<>(hasNext ? rows.subList(0, size) : rows, hasNext);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
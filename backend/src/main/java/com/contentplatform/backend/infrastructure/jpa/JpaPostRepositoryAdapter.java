@@ -1,24 +1,188 @@
 package com.contentplatform.backend.infrastructure.jpa;
 
+import com.contentplatform.backend.application.port.out.ContentSlice;
 import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.application.port.out.ScheduledTransition;
 import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.StatusTransition;
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.model.Post;
 import com.contentplatform.backend.domain.value.ContentStatus;
 import com.contentplatform.backend.infrastructure.jpa.entity.PostEntity;
 import com.contentplatform.backend.infrastructure.jpa.repository.PostJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class JpaPostRepositoryAdapter implements PostRepository {
+    private static final String TRANSITION_STATUS_SQL = """
+        with previous as (
+            select id, status from posts
+            where id = :id and application_id = :applicationId
+            for update
+        )
+        update posts p
+        set status = :status,
+            published_at = case
+                when :status <> 'PUBLISHED' then null
+                when previous.status <> 'PUBLISHED' then :now
+                else p.published_at
+            end,
+            updated_at = :now
+        from previous
+        where p.id = previous.id
+        returning p.id, p.application_id, p.title, p.slug, p.content, p.status, p.published_at,
+                  p.publish_at, p.unpublish_at, p.created_at, p.updated_at, previous.status as previous_status
+        """;
+
+    private static final String TRANSITION_STATUSES_SQL = """
+        with previous as (
+            select id, status from posts
+            where application_id = :applicationId and id in (:ids)
+            order by id
+            for update
+        )
+        update posts p
+        set status = :status,
+            published_at = case
+                when :status <> 'PUBLISHED' then null
+                when previous.status <> 'PUBLISHED' then :now
+                else p.published_at
+            end,
+            updated_at = :now
+        from previous
+        where p.id = previous.id
+        returning p.id, p.application_id, p.title, p.slug, p.status, p.published_at, p.updated_at,
+                  previous.status as previous_status
+        """;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final String UPDATE_SCHEDULE_SQL = """
+        update posts
+        set publish_at = :publishAt,
+            unpublish_at = :unpublishAt,
+            updated_at = :now
+        where id = :id and application_id = :applicationId
+        returning id, application_id, title, slug, content, status, published_at, publish_at, unpublish_at,
+                  created_at, updated_at
+        """;
+    private static final String PUBLISH_DUE_SQL = """
+        with due as (
+            select id, status, publish_at from posts
+            where publish_at <= :now
+            order by publish_at
+            limit :limit
+            for update skip locked
+        )
+        update posts p
+        set status = 'PUBLISHED',
+            published_at = case
+                when due.status <> 'PUBLISHED' then :now
+                else p.published_at
+            end,
+            publish_at = null,
+            updated_at = :now
+        from due
+        where p.id = due.id
+        returning p.id, p.application_id, p.title, p.slug, p.status, p.published_at, p.updated_at,
+                  due.status as previous_status, due.publish_at as scheduled_at
+        """;
+    private static final String UNPUBLISH_DUE_SQL = """
+        with due as (
+            select id, status, unpublish_at from posts
+            where unpublish_at <= :now
+            order by unpublish_at
+            limit :limit
+            for update skip locked
+        )
+        update posts p
+        set status = case
+                when due.status = 'PUBLISHED' then 'ARCHIVED'
+                else due.status
+            end,
+            published_at = null,
+            unpublish_at = null,
+            updated_at = :now
+        from due
+        where p.id = due.id
+        returning p.id, p.application_id, p.title, p.slug, p.status, p.published_at, p.updated_at,
+                  due.status as previous_status, due.unpublish_at as scheduled_at
+        """;
+    private static final String INSERT_IGNORING_CONFLICTS_SQL = """
+        insert into posts (id, application_id, title, slug, content, status, published_at, created_at, updated_at)
+        values (:id, :applicationId, :title, :slug, :content, :status, :publishedAt, :createdAt, :updatedAt)
+        on conflict do nothing
+        """;
+    private static final String EXPORT_SQL = """
+        select id, application_id, title, slug, content, status, published_at, publish_at, unpublish_at,
+               created_at, updated_at
+        from posts
+        where application_id = ? and updated_at >= ?
+        order by updated_at, id
+        """;
+
     private final PostJpaRepository repository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
 
-    public JpaPostRepositoryAdapter(PostJpaRepository repository) {
+    public JpaPostRepositoryAdapter(PostJpaRepository repository,
+                                    NamedParameterJdbcTemplate jdbcTemplate,
+                                    @Value("${app.export.fetch-size:500}") int exportFetchSize) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Post insert(Post post) {
+        return toDomain(repository.save(toEntity(post).markNew()));
+    }
+
+    @Override
+    @Transactional
+    public List<Post> insertAll(List<Post> posts) {
+        SqlParameterSource[] batch = posts.stream()
+            .map(post -> new MapSqlParameterSource()
+                .addValue("id", post.getId())
+                .addValue("applicationId", post.getApplicationId())
+                .addValue("title", post.getTitle())
+                .addValue("slug", post.getSlug())
+                .addValue("content", post.getContent())
+                .addValue("status", post.getStatus().name())
+                .addValue("publishedAt", toOffsetDateTime(post.getPublishedAt()))
+                .addValue("createdAt", toOffsetDateTime(post.getCreatedAt()))
+                .addValue("updatedAt", toOffsetDateTime(post.getUpdatedAt())))
+            .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_IGNORING_CONFLICTS_SQL, batch);
+        List<Post> inserted = new ArrayList<>(posts.size());
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] != 0) {
+                inserted.add(posts.get(index));
+            }
+        }
+        return inserted;
     }
 
     @Override
@@ -26,6 +190,55 @@ public class JpaPostRepositoryAdapter implements PostRepository {
         return toDomain(repository.save(toEntity(post)));
     }
 
+    @Override
+    public Optional<StatusTransition<Post>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("applicationId", applicationId)
+            .addValue("status", status.name())
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(TRANSITION_STATUS_SQL, parameters, (rs, rowNum) -> new StatusTransition<>(
+            toPost(rs),
+            ContentStatus.valueOf(rs.getString("previous_status"))
+        )).stream().findFirst();
+    }
+
+    @Override
+    public List<StatusTransition<ContentSummary>> transitionStatuses(String applicationId, Collection<String> ids, ContentStatus status, Instant now) {
+        List<String> pending = List.copyOf(ids);
+        List<StatusTransition<ContentSummary>> transitions = new ArrayList<>(pending.size());
+        for (int from = 0; from < pending.size(); from += BULK_CHUNK_SIZE) {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("applicationId", applicationId)
+                .addValue("ids", pending.subList(from, Math.min(from + BULK_CHUNK_SIZE, pending.size())))
+                .addValue("status", status.name())
+                .addValue("now", now.atOffset(ZoneOffset.UTC));
+            transitions.addAll(jdbcTemplate.query(TRANSITION_STATUSES_SQL, parameters, this::toSummaryTransition));
+        }
+        return transitions;
+    }
+
+    @Override
+    public Optional<Post> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("applicationId", applicationId)
+            .addValue("publishAt", toOffsetDateTime(publishAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("unpublishAt", toOffsetDateTime(unpublishAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(UPDATE_SCHEDULE_SQL, parameters, (rs, rowNum) -> toPost(rs)).stream().findFirst();
+    }
+
+    @Override
+    public List<ScheduledTransition<ContentSummary>> publishDue(Instant now, int limit) {
+        return jdbcTemplate.query(PUBLISH_DUE_SQL, scheduleParameters(now, limit), this::toScheduledSummary);
+    }
+
+    @Override
+    public List<ScheduledTransition<ContentSummary>> unpublishDue(Instant now, int limit) {
+        return jdbcTemplate.query(UNPUBLISH_DUE_SQL, scheduleParameters(now, limit), this::toScheduledSummary);
+    }
+
     @Override
     public Optional<Post> findById(String id) {
         return repository.findById(id).map(this::toDomain);
@@ -55,6 +268,47 @@ public class JpaPostRepositoryAdapter implements PostRepository {
         return toPageSlice(result);
     }
 
+    @Override
+    public ContentSlice<Post> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size) {
+        Slice<PostEntity> result = repository.findSliceByApplicationIdAndStatus(
+            applicationId,
+            status,
+            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"))
+        );
+        return toContentSlice(result);
+    }
+
+    @Override
+    public ContentSlice<Post> findSliceByApplicationId(String applicationId, int page, int size) {
+        Slice<PostEntity> result = repository.findSliceByApplicationId(
+            applicationId,
+            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"))
+        );
+        return toContentSlice(result);
+    }
+
+    @Override
+    public long countByApplicationIdAndStatus(String applicationId, ContentStatus status) {
+        return repository.countByApplicationIdAndStatus(applicationId, status);
+    }
+
+    @Override
+    public long countByApplicationId(String applicationId) {
+        return repository.countByApplicationId(applicationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Post> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            statement.setString(1, applicationId);
+            statement.setObject(2, toOffsetDateTime(updatedSince == null ? Instant.EPOCH : updatedSince));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(toPost(rs)));
+    }
+
     private PageSlice<Post> toPageSlice(Page<PostEntity> page) {
         return new PageSlice<>(
             page.getContent().stream().map(this::toDomain).toList(),
@@ -65,6 +319,15 @@ public class JpaPostRepositoryAdapter implements PostRepository {
         );
     }
 
+    private ContentSlice<Post> toContentSlice(Slice<PostEntity> slice) {
+        return new ContentSlice<>(
+            slice.getContent().stream().map(this::toDomain).toList(),
+            slice.getNumber(),
+            slice.getSize(),
+            slice.hasNext()
+        );
+    }
+
     private PostEntity toEntity(Post post) {
         return new PostEntity(
             post.getId(),
@@ -74,6 +337,8 @@ public class JpaPostRepositoryAdapter implements PostRepository {
             post.getContent(),
             post.getStatus(),
             post.getPublishedAt(),
+            post.getPublishAt(),
+            post.getUnpublishAt(),
             post.getCreatedAt(),
             post.getUpdatedAt()
         );
@@ -88,8 +353,65 @@ public class JpaPostRepositoryAdapter implements PostRepository {
             entity.getContent(),
             entity.getStatus(),
             entity.getPublishedAt(),
+            entity.getPublishAt(),
+            entity.getUnpublishAt(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
         );
     }
+
+    private Post toPost(ResultSet rs) throws SQLException {
+        return new Post(
+            rs.getString("id"),
+            rs.getString("application_id"),
+            rs.getString("title"),
+            rs.getString("slug"),
+            rs.getString("content"),
+            ContentStatus.valueOf(rs.getString("status")),
+            toInstant(rs.getTimestamp("published_at")),
+            toInstant(rs.getTimestamp("publish_at")),
+            toInstant(rs.getTimestamp("unpublish_at")),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant()
+        );
+    }
+
+    private StatusTransition<ContentSummary> toSummaryTransition(ResultSet rs, int rowNum) throws SQLException {
+        return new StatusTransition<>(
+            new ContentSummary(
+                rs.getString("id"),
+                rs.getString("application_id"),
+                rs.getString("title"),
+                rs.getString("slug"),
+                ContentStatus.valueOf(rs.getString("status")),
+                toInstant(rs.getTimestamp("published_at")),
+                rs.getTimestamp("updated_at").toInstant(),
+                null
+            ),
+            ContentStatus.valueOf(rs.getString("previous_status"))
+        );
+    }
+
+    private ScheduledTransition<ContentSummary> toScheduledSummary(ResultSet rs, int rowNum) throws SQLException {
+        StatusTransition<ContentSummary> transition = toSummaryTransition(rs, rowNum);
+        return new ScheduledTransition<>(
+            transition.content(),
+            transition.previousStatus(),
+            rs.getTimestamp("scheduled_at").toInstant()
+        );
+    }
+
+    private static MapSqlParameterSource scheduleParameters(Instant now, int limit) {
+        return new MapSqlParameterSource()
+            .addValue("now", now.atOffset(ZoneOffset.UTC))
+            .addValue("limit", limit);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
 }
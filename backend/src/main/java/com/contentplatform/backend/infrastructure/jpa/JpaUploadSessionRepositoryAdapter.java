@@ -0,0 +1,138 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.port.out.UploadSessionRepository;
+import com.contentplatform.backend.domain.model.UploadPart;
+import com.contentplatform.backend.domain.model.UploadSession;
+import com.contentplatform.backend.domain.value.UploadSessionState;
+import com.contentplatform.backend.infrastructure.jpa.entity.UploadSessionEntity;
+import com.contentplatform.backend.infrastructure.jpa.entity.UploadSessionPartEntity;
+import com.contentplatform.backend.infrastructure.jpa.repository.UploadSessionJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.UploadSessionPartJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JpaUploadSessionRepositoryAdapter implements UploadSessionRepository {
+    private static final String TOUCH_SQL = """
+        update upload_sessions
+        set updated_at = :now
+        where id = :id and state = 'OPEN'
+        """;
+    private static final String EXPIRE_SQL = """
+        update upload_sessions
+        set state = 'EXPIRED',
+            updated_at = :now
+        where id = :id and state = 'OPEN' and updated_at < :cutoff
+        """;
+
+    private final UploadSessionJpaRepository repository;
+    private final UploadSessionPartJpaRepository partRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JpaUploadSessionRepositoryAdapter(UploadSessionJpaRepository repository,
+                                             UploadSessionPartJpaRepository partRepository,
+                                             NamedParameterJdbcTemplate jdbcTemplate) {
+        this.repository = repository;
+        this.partRepository = partRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public UploadSession save(UploadSession session) {
+        return toDomain(repository.save(toEntity(session)));
+    }
+
+    @Override
+    public Optional<UploadSession> findById(String id) {
+        return repository.findById(id).map(this::toDomain);
+    }
+
+    @Override
+    public UploadPart savePart(String sessionId, UploadPart part) {
+        UploadSessionPartEntity saved = partRepository.save(new UploadSessionPartEntity(
+            sessionId,
+            part.getPartNumber(),
+            part.getEtag(),
+            part.getSizeBytes()
+        ));
+        return toDomain(saved);
+    }
+
+    @Override
+    public List<UploadPart> findParts(String sessionId) {
+        return partRepository.findBySessionIdOrderByPartNumber(sessionId).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public void touch(String sessionId, Instant now) {
+        jdbcTemplate.update(TOUCH_SQL, new MapSqlParameterSource()
+            .addValue("id", sessionId)
+            .addValue("now", now.atOffset(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public List<UploadSession> findOpenUpdatedBefore(Instant cutoff, int limit) {
+        return repository.findByStateAndUpdatedAtBeforeOrderByUpdatedAt(UploadSessionState.OPEN, cutoff, PageRequest.of(0, limit))
+            .stream()
+            .map(this::toDomain)
+            .toList();
+    }
+
+    @Override
+    public boolean expire(String sessionId, Instant cutoff, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", sessionId)
+            .addValue("cutoff", cutoff.atOffset(ZoneOffset.UTC))
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.update(EXPIRE_SQL, parameters) == 1;
+    }
+
+    private UploadSessionEntity toEntity(UploadSession session) {
+        return new UploadSessionEntity(
+            session.getId(),
+            session.getApplicationId(),
+            session.getObjectKey(),
+            session.getStorageUploadId(),
+            session.getTitle(),
+            session.getDescription(),
+            session.getStatus(),
+            session.getContentType(),
+            session.getTotalSizeBytes(),
+            session.getChunkSizeBytes(),
+            session.getState(),
+            session.getVideoId(),
+            session.getCreatedAt(),
+            session.getUpdatedAt()
+        );
+    }
+
+    private UploadSession toDomain(UploadSessionEntity entity) {
+        return new UploadSession(
+            entity.getId(),
+            entity.getApplicationId(),
+            entity.getObjectKey(),
+            entity.getStorageUploadId(),
+            entity.getTitle(),
+            entity.getDescription(),
+            entity.getStatus(),
+            entity.getContentType(),
+            entity.getTotalSizeBytes(),
+            entity.getChunkSizeBytes(),
+            entity.getState(),
+            entity.getVideoId(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt()
+        );
+    }
+
+    private UploadPart toDomain(UploadSessionPartEntity entity) {
+        return new UploadPart(entity.getPartNumber(), entity.getEtag(), entity.getSizeBytes());
+    }
+}
@@ -1,24 +1,175 @@
 package com.contentplatform.backend.infrastructure.jpa;
 
+import com.contentplatform.backend.application.port.out.ContentSlice;
 import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.application.port.out.ScheduledTransition;
+import com.contentplatform.backend.application.port.out.StatusTransition;
 import com.contentplatform.backend.application.port.out.VideoRepository;
 import com.contentplatform.backend.domain.model.Video;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 import com.contentplatform.backend.infrastructure.jpa.entity.VideoEntity;
 import com.contentplatform.backend.infrastructure.jpa.repository.VideoJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class JpaVideoRepositoryAdapter implements VideoRepository {
+    private static final String TRANSITION_STATUS_SQL = """
+        with previous as (
+            select id, status from videos
+            where id = :id and application_id = :applicationId
+            for update
+        )
+        update videos v
+        set status = :status,
+            published_at = case
+                when :status <> 'PUBLISHED' then null
+                when previous.status <> 'PUBLISHED' then :now
+                else v.published_at
+            end,
+            updated_at = :now
+        from previous
+        where v.id = previous.id
+        returning v.id, v.application_id, v.title, v.description, v.status, v.published_at, v.publish_at, v.unpublish_at,
+                  v.object_key, v.content_type, v.size_bytes, v.processing_state, v.created_at, v.updated_at,
+                  previous.status as previous_status
+        """;
+
+    private static final String TRANSITION_STATUSES_SQL = """
+        with previous as (
+            select id, status from videos
+            where application_id = :applicationId and id in (:ids)
+            order by id
+            for update
+        )
+        update videos v
+        set status = :status,
+            published_at = case
+                when :status <> 'PUBLISHED' then null
+                when previous.status <> 'PUBLISHED' then :now
+                else v.published_at
+            end,
+            updated_at = :now
+        from previous
+        where v.id = previous.id
+        returning v.id, v.application_id, v.title, v.description, v.status, v.published_at, v.publish_at, v.unpublish_at,
+                  v.object_key, v.content_type, v.size_bytes, v.processing_state, v.created_at, v.updated_at,
+                  previous.status as previous_status
+        """;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final String UPDATE_PROCESSING_STATE_SQL = """
+        update videos
+        set processing_state = :state,
+            size_bytes = :sizeBytes,
+            updated_at = :now
+        where id = :id and processing_state = :expected
+        returning id, application_id, title, description, status, published_at, publish_at, unpublish_at, object_key,
+                  content_type, size_bytes, processing_state, created_at, updated_at
+        """;
+    private static final String UPDATE_SCHEDULE_SQL = """
+        update videos
+        set publish_at = :publishAt,
+            unpublish_at = :unpublishAt,
+            updated_at = :now
+        where id = :id and application_id = :applicationId
+        returning id, application_id, title, description, status, published_at, publish_at, unpublish_at, object_key,
+                  content_type, size_bytes, processing_state, created_at, updated_at
+        """;
+    private static final String PUBLISH_DUE_SQL = """
+        with due as (
+            select id, status, publish_at from videos
+            where publish_at <= :now
+            order by publish_at
+            limit :limit
+            for update skip locked
+        )
+        update videos v
+        set status = 'PUBLISHED',
+            published_at = case
+                when due.status <> 'PUBLISHED' then :now
+                else v.published_at
+            end,
+            publish_at = null,
+            updated_at = :now
+        from due
+        where v.id = due.id
+        returning v.id, v.application_id, v.title, v.description, v.status, v.published_at, v.publish_at, v.unpublish_at,
+                  v.object_key, v.content_type, v.size_bytes, v.processing_state, v.created_at, v.updated_at,
+                  due.status as previous_status, due.publish_at as scheduled_at
+        """;
+    private static final String UNPUBLISH_DUE_SQL = """
+        with due as (
+            select id, status, unpublish_at from videos
+            where unpublish_at <= :now
+            order by unpublish_at
+            limit :limit
+            for update skip locked
+        )
+        update videos v
+        set status = case
+                when due.status = 'PUBLISHED' then 'ARCHIVED'
+                else due.status
+            end,
+            published_at = null,
+            unpublish_at = null,
+            updated_at = :now
+        from due
+        where v.id = due.id
+        returning v.id, v.application_id, v.title, v.description, v.status, v.published_at, v.publish_at, v.unpublish_at,
+                  v.object_key, v.content_type, v.size_bytes, v.processing_state, v.created_at, v.updated_at,
+                  due.status as previous_status, due.unpublish_at as scheduled_at
+        """;
+    private static final String EXPORT_SQL = """
+        select id, application_id, title, description, status, published_at, publish_at, unpublish_at, object_key,
+               content_type, size_bytes, processing_state, created_at, updated_at
+        from videos
+        where application_id = ? and processing_state = 'READY' and updated_at >= ?
+        order by updated_at, id
+        """;
+
     private final VideoJpaRepository repository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int exportFetchSize;
 
-    public JpaVideoRepositoryAdapter(VideoJpaRepository repository) {
+    public JpaVideoRepositoryAdapter(VideoJpaRepository repository,
+                                     NamedParameterJdbcTemplate jdbcTemplate,
+                                     @Value("${app.export.fetch-size:500}") int exportFetchSize) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Video insert(Video video) {
+        return toDomain(repository.saveAndFlush(toEntity(video).markNew()));
+    }
+
+    @Override
+    public Video insertProcessing(Video video, String processingNode) {
+        return toDomain(repository.saveAndFlush(toEntity(video).markNew().assignProcessingNode(processingNode)));
     }
 
     @Override
@@ -26,11 +177,78 @@ public class JpaVideoRepositoryAdapter implements VideoRepository {
         return toDomain(repository.save(toEntity(video)));
     }
 
+    @Override
+    public Optional<StatusTransition<Video>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("applicationId", applicationId)
+            .addValue("status", status.name())
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(TRANSITION_STATUS_SQL, parameters, this::toTransition).stream().findFirst();
+    }
+
+    @Override
+    public List<StatusTransition<Video>> transitionStatuses(String applicationId, Collection<String> ids, ContentStatus status, Instant now) {
+        List<String> pending = List.copyOf(ids);
+        List<StatusTransition<Video>> transitions = new ArrayList<>(pending.size());
+        for (int from = 0; from < pending.size(); from += BULK_CHUNK_SIZE) {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("applicationId", applicationId)
+                .addValue("ids", pending.subList(from, Math.min(from + BULK_CHUNK_SIZE, pending.size())))
+                .addValue("status", status.name())
+                .addValue("now", now.atOffset(ZoneOffset.UTC));
+            transitions.addAll(jdbcTemplate.query(TRANSITION_STATUSES_SQL, parameters, this::toTransition));
+        }
+        return transitions;
+    }
+
+    @Override
+    public Optional<Video> updateProcessingState(String id, ProcessingState expected, ProcessingState state, long sizeBytes, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("expected", expected.name())
+            .addValue("state", state.name())
+            .addValue("sizeBytes", sizeBytes)
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(UPDATE_PROCESSING_STATE_SQL, parameters, (rs, rowNum) -> toVideo(rs)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Video> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("applicationId", applicationId)
+            .addValue("publishAt", toOffsetDateTime(publishAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("unpublishAt", toOffsetDateTime(unpublishAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("now", now.atOffset(ZoneOffset.UTC));
+        return jdbcTemplate.query(UPDATE_SCHEDULE_SQL, parameters, (rs, rowNum) -> toVideo(rs)).stream().findFirst();
+    }
+
+    @Override
+    public List<ScheduledTransition<Video>> publishDue(Instant now, int limit) {
+        return jdbcTemplate.query(PUBLISH_DUE_SQL, scheduleParameters(now, limit), this::toScheduledVideo);
+    }
+
+    @Override
+    public List<ScheduledTransition<Video>> unpublishDue(Instant now, int limit) {
+        return jdbcTemplate.query(UNPUBLISH_DUE_SQL, scheduleParameters(now, limit), this::toScheduledVideo);
+    }
+
     @Override
     public Optional<Video> findById(String id) {
         return repository.findById(id).map(this::toDomain);
     }
 
+    @Override
+    public List<Video> findInterruptedProcessing(String processingNode, Instant staleBefore) {
+        return repository.findInterruptedProcessing(processingNode, staleBefore).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        repository.deleteById(id);
+    }
+
     @Override
     public PageSlice<Video> findByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size) {
         Page<VideoEntity> result = repository.findByApplicationIdAndStatus(
@@ -50,6 +268,57 @@ public class JpaVideoRepositoryAdapter implements VideoRepository {
         return toPageSlice(result);
     }
 
+    @Override
+    public ContentSlice<Video> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size) {
+        Slice<VideoEntity> result = repository.findSliceByApplicationIdAndStatus(
+            applicationId,
+            status,
+            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"))
+        );
+        return toContentSlice(result);
+    }
+
+    @Override
+    public ContentSlice<Video> findSliceByApplicationId(String applicationId, int page, int size) {
+        Slice<VideoEntity> result = repository.findSliceByApplicationId(
+            applicationId,
+            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "publishedAt"))
+        );
+        return toContentSlice(result);
+    }
+
+    @Override
+    public long countByApplicationIdAndStatus(String applicationId, ContentStatus status) {
+        return repository.countByApplicationIdAndStatus(applicationId, status);
+    }
+
+    @Override
+    public long countByApplicationId(String applicationId) {
+        return repository.countByApplicationId(applicationId);
+    }
+
+    @Override
+    public boolean existsByObjectKey(String objectKey) {
+        return repository.existsByObjectKey(objectKey);
+    }
+
+    @Override
+    public Optional<Video> findByObjectKey(String objectKey) {
+        return repository.findByObjectKey(objectKey).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Video> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            statement.setString(1, applicationId);
+            statement.setObject(2, (updatedSince == null ? Instant.EPOCH : updatedSince).atOffset(ZoneOffset.UTC));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(toVideo(rs)));
+    }
+
     private PageSlice<Video> toPageSlice(Page<VideoEntity> page) {
         return new PageSlice<>(
             page.getContent().stream().map(this::toDomain).toList(),
@@ -60,6 +329,15 @@ public class JpaVideoRepositoryAdapter implements VideoRepository {
         );
     }
 
+    private ContentSlice<Video> toContentSlice(Slice<VideoEntity> slice) {
+        return new ContentSlice<>(
+            slice.getContent().stream().map(this::toDomain).toList(),
+            slice.getNumber(),
+            slice.getSize(),
+            slice.hasNext()
+        );
+    }
+
     private VideoEntity toEntity(Video video) {
         return new VideoEntity(
             video.getId(),
@@ -68,9 +346,12 @@ public class JpaVideoRepositoryAdapter implements VideoRepository {
             video.getDescription(),
             video.getStatus(),
             video.getPublishedAt(),
+            video.getPublishAt(),
+            video.getUnpublishAt(),
             video.getObjectKey(),
             video.getContentType(),
             video.getSizeBytes(),
+            video.getProcessingState(),
             video.getCreatedAt(),
             video.getUpdatedAt()
         );
@@ -84,11 +365,59 @@ public class JpaVideoRepositoryAdapter implements VideoRepository {
             entity.getDescription(),
             entity.getStatus(),
             entity.getPublishedAt(),
+            entity.getPublishAt(),
+            entity.getUnpublishAt(),
             entity.getObjectKey(),
             entity.getContentType(),
             entity.getSizeBytes(),
+            entity.getProcessingState(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
         );
     }
+
+    private StatusTransition<Video> toTransition(ResultSet rs, int rowNum) throws SQLException {
+        return new StatusTransition<>(toVideo(rs), ContentStatus.valueOf(rs.getString("previous_status")));
+    }
+
+    private Video toVideo(ResultSet rs) throws SQLException {
+        return new Video(
+            rs.getString("id"),
+            rs.getString("application_id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            ContentStatus.valueOf(rs.getString("status")),
+            toInstant(rs.getTimestamp("published_at")),
+            toInstant(rs.getTimestamp("publish_at")),
+            toInstant(rs.getTimestamp("unpublish_at")),
+            rs.getString("object_key"),
+            rs.getString("content_type"),
+            rs.getLong("size_bytes"),
+            ProcessingState.valueOf(rs.getString("processing_state")),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant()
+        );
+    }
+
+    private ScheduledTransition<Video> toScheduledVideo(ResultSet rs, int rowNum) throws SQLException {
+        return new ScheduledTransition<>(
+            toVideo(rs),
+            ContentStatus.valueOf(rs.getString("previous_status")),
+            rs.getTimestamp("scheduled_at").toInstant()
+        );
+    }
+
+    private static MapSqlParameterSource scheduleParameters(Instant now, int limit) {
+        return new MapSqlParameterSource()
+            .addValue("now", now.atOffset(ZoneOffset.UTC))
+            .addValue("limit", limit);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
 }
@@ -3,11 +3,17 @@ package com.contentplatform.backend.infrastructure.jpa.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 @Entity
+@DynamicUpdate
 @Table(name = "applications")
-public class ApplicationEntity {
+public class ApplicationEntity implements Persistable<String> {
     @Id
     @Column(name = "id", nullable = false, length = 36)
     private String id;
@@ -18,6 +24,9 @@ public class ApplicationEntity {
     @Column(name = "website_url")
     private String websiteUrl;
 
+    @Transient
+    private boolean isNew;
+
     protected ApplicationEntity() {
     }
 
@@ -27,6 +36,7 @@ public class ApplicationEntity {
         this.websiteUrl = websiteUrl;
     }
 
+    @Override
     public String getId() {
         return id;
     }
@@ -38,4 +48,20 @@ public class ApplicationEntity {
     public String getWebsiteUrl() {
         return websiteUrl;
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public ApplicationEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -6,13 +6,19 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 
 @Entity
+@DynamicUpdate
 @Table(name = "articles")
-public class ArticleEntity {
+public class ArticleEntity implements Persistable<String> {
     @Id
     @Column(name = "id", nullable = false, length = 36)
     private String id;
@@ -36,17 +42,27 @@ public class ArticleEntity {
     @Column(name = "published_at")
     private Instant publishedAt;
 
+    @Column(name = "publish_at")
+    private Instant publishAt;
+
+    @Column(name = "unpublish_at")
+    private Instant unpublishAt;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Transient
+    private boolean isNew;
+
     protected ArticleEntity() {
     }
 
     public ArticleEntity(String id, String applicationId, String title, String slug, String content,
-                         ContentStatus status, Instant publishedAt, Instant createdAt, Instant updatedAt) {
+                         ContentStatus status, Instant publishedAt, Instant publishAt, Instant unpublishAt,
+                         Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.applicationId = applicationId;
         this.title = title;
@@ -54,10 +70,13 @@ public class ArticleEntity {
         this.content = content;
         this.status = status;
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
+    @Override
     public String getId() {
         return id;
     }
@@ -86,6 +105,14 @@ public class ArticleEntity {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -93,4 +120,20 @@ public class ArticleEntity {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public ArticleEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
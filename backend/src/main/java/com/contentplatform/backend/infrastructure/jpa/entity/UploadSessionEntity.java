@@ -0,0 +1,140 @@
+package com.contentplatform.backend.infrastructure.jpa.entity;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.UploadSessionState;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "upload_sessions")
+public class UploadSessionEntity {
+    @Id
+    @Column(name = "id", nullable = false, length = 36)
+    private String id;
+
+    @Column(name = "application_id", nullable = false, length = 36)
+    private String applicationId;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "storage_upload_id", nullable = false)
+    private String storageUploadId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "text")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ContentStatus status;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "total_size_bytes", nullable = false)
+    private long totalSizeBytes;
+
+    @Column(name = "chunk_size_bytes", nullable = false)
+    private long chunkSizeBytes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false)
+    private UploadSessionState state;
+
+    @Column(name = "video_id", length = 36)
+    private String videoId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected UploadSessionEntity() {
+    }
+
+    public UploadSessionEntity(String id, String applicationId, String objectKey, String storageUploadId,
+                                String title, String description, ContentStatus status, String contentType,
+                                long totalSizeBytes, long chunkSizeBytes, UploadSessionState state, String videoId,
+                                Instant createdAt, Instant updatedAt) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.objectKey = objectKey;
+        this.storageUploadId = storageUploadId;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.contentType = contentType;
+        this.totalSizeBytes = totalSizeBytes;
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.state = state;
+        this.videoId = videoId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public String getStorageUploadId() {
+        return storageUploadId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public long getChunkSizeBytes() {
+        return chunkSizeBytes;
+    }
+
+    public UploadSessionState getState() {
+        return state;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,84 @@
+package com.contentplatform.backend.infrastructure.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Entity
+@Table(name = "upload_session_parts")
+@IdClass(UploadSessionPartEntity.Key.class)
+public class UploadSessionPartEntity {
+    @Id
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Id
+    @Column(name = "part_number", nullable = false)
+    private int partNumber;
+
+    @Column(name = "etag", nullable = false)
+    private String etag;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    protected UploadSessionPartEntity() {
+    }
+
+    public UploadSessionPartEntity(String sessionId, int partNumber, String etag, long sizeBytes) {
+        this.sessionId = sessionId;
+        this.partNumber = partNumber;
+        this.etag = etag;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public static class Key implements Serializable {
+        private String sessionId;
+        private int partNumber;
+
+        protected Key() {
+        }
+
+        public Key(String sessionId, int partNumber) {
+            this.sessionId = sessionId;
+            this.partNumber = partNumber;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key key)) {
+                return false;
+            }
+            return partNumber == key.partNumber && Objects.equals(sessionId, key.sessionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessionId, partNumber);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package com.contentplatform.backend.infrastructure.jpa.entity;
 
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 
 @Entity
+@DynamicUpdate
 @Table(name = "videos")
-public class VideoEntity {
+public class VideoEntity implements Persistable<String> {
     @Id
     @Column(name = "id", nullable = false, length = 36)
     private String id;
@@ -33,6 +40,12 @@ public class VideoEntity {
     @Column(name = "published_at")
     private Instant publishedAt;
 
+    @Column(name = "publish_at")
+    private Instant publishAt;
+
+    @Column(name = "unpublish_at")
+    private Instant unpublishAt;
+
     @Column(name = "object_key", nullable = false)
     private String objectKey;
 
@@ -42,31 +55,46 @@ public class VideoEntity {
     @Column(name = "size_bytes", nullable = false)
     private long sizeBytes;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_state", nullable = false)
+    private ProcessingState processingState;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Column(name = "processing_node", updatable = false)
+    private String processingNode;
+
+    @Transient
+    private boolean isNew;
+
     protected VideoEntity() {
     }
 
     public VideoEntity(String id, String applicationId, String title, String description,
-                       ContentStatus status, Instant publishedAt, String objectKey,
-                       String contentType, long sizeBytes, Instant createdAt, Instant updatedAt) {
+                       ContentStatus status, Instant publishedAt, Instant publishAt, Instant unpublishAt,
+                       String objectKey, String contentType, long sizeBytes, ProcessingState processingState,
+                       Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.applicationId = applicationId;
         this.title = title;
         this.description = description;
         this.status = status;
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.objectKey = objectKey;
         this.contentType = contentType;
         this.sizeBytes = sizeBytes;
+        this.processingState = processingState;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
+    @Override
     public String getId() {
         return id;
     }
@@ -91,6 +119,14 @@ public class VideoEntity {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public String getObjectKey() {
         return objectKey;
     }
@@ -103,6 +139,10 @@ public class VideoEntity {
         return sizeBytes;
     }
 
+    public ProcessingState getProcessingState() {
+        return processingState;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -110,4 +150,29 @@ public class VideoEntity {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public String getProcessingNode() {
+        return processingNode;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public VideoEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    public VideoEntity assignProcessingNode(String processingNode) {
+        this.processingNode = processingNode;
+        return this;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -1,15 +1,97 @@
 package com.contentplatform.backend.infrastructure.jpa.repository;
 
+import com.contentplatform.backend.application.dto.ArticleReadModel;
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
 import com.contentplatform.backend.domain.value.ContentStatus;
 import com.contentplatform.backend.infrastructure.jpa.entity.ArticleEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleJpaRepository extends JpaRepository<ArticleEntity, String> {
     Optional<ArticleEntity> findByApplicationIdAndSlug(String applicationId, String slug);
     Page<ArticleEntity> findByApplicationId(String applicationId, Pageable pageable);
     Page<ArticleEntity> findByApplicationIdAndStatus(String applicationId, ContentStatus status, Pageable pageable);
+    Slice<ArticleEntity> findSliceByApplicationId(String applicationId, Pageable pageable);
+    Slice<ArticleEntity> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, Pageable pageable);
+    long countByApplicationId(String applicationId);
+    long countByApplicationIdAndStatus(String applicationId, ContentStatus status);
+
+    @Query(value = """
+        select new com.contentplatform.backend.application.dto.ArticleReadModel(
+               a.id, a.applicationId, a.title, a.slug, a.content, a.status, a.publishedAt, a.createdAt, a.updatedAt)
+        from ArticleEntity a
+        where a.applicationId = :applicationId and a.status = :status
+        """,
+        countQuery = "select count(a) from ArticleEntity a where a.applicationId = :applicationId and a.status = :status")
+    Page<ArticleReadModel> findReadModelsByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                  @Param("status") ContentStatus status,
+                                                                  Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.ArticleReadModel(
+               a.id, a.applicationId, a.title, a.slug, a.content, a.status, a.publishedAt, a.createdAt, a.updatedAt)
+        from ArticleEntity a
+        where a.applicationId = :applicationId and a.status = :status
+        """)
+    Slice<ArticleReadModel> findReadModelSliceByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                       @Param("status") ContentStatus status,
+                                                                       Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.ArticleReadModel(
+               a.id, a.applicationId, a.title, a.slug, a.content, a.status, a.publishedAt, a.createdAt, a.updatedAt)
+        from ArticleEntity a
+        where a.applicationId = :applicationId and a.status = :status and a.publishedAt is not null
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleReadModel> findReadModelKeysetFirst(@Param("applicationId") String applicationId,
+                                                    @Param("status") ContentStatus status,
+                                                    Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.ArticleReadModel(
+               a.id, a.applicationId, a.title, a.slug, a.content, a.status, a.publishedAt, a.createdAt, a.updatedAt)
+        from ArticleEntity a
+        where a.applicationId = :applicationId and a.status = :status and a.publishedAt is not null
+          and (a.publishedAt < :publishedAt or (a.publishedAt = :publishedAt and a.id < :id))
+        order by a.publishedAt desc, a.id desc
+        """)
+    List<ArticleReadModel> findReadModelKeysetBefore(@Param("applicationId") String applicationId,
+                                                     @Param("status") ContentStatus status,
+                                                     @Param("publishedAt") Instant publishedAt,
+                                                     @Param("id") String id,
+                                                     Pageable pageable);
+
+    @Query(value = """
+        select new com.contentplatform.backend.application.dto.ContentSummaryReadModel(
+               a.id, a.applicationId, a.title, a.slug, a.status, a.publishedAt, a.updatedAt,
+               case when :excerptLength > 0 then substring(a.content, 1, :excerptLength) end)
+        from ArticleEntity a
+        where a.applicationId = :applicationId and a.status = :status
+        """,
+        countQuery = "select count(a) from ArticleEntity a where a.applicationId = :applicationId and a.status = :status")
+    Page<ContentSummaryReadModel> findSummaryReadModelsByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                                @Param("status") ContentStatus status,
+                                                                                @Param("excerptLength") int excerptLength,
+                                                                                Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.ContentSummaryReadModel(
+               a.id, a.applicationId, a.title, a.slug, a.status, a.publishedAt, a.updatedAt,
+               case when :excerptLength > 0 then substring(a.content, 1, :excerptLength) end)
+        from ArticleEntity a
+        where a.applicationId = :applicationId and a.status = :status
+        """)
+    Slice<ContentSummaryReadModel> findSummaryReadModelSliceByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                                     @Param("status") ContentStatus status,
+                                                                                     @Param("excerptLength") int excerptLength,
+                                                                                     Pageable pageable);
 }
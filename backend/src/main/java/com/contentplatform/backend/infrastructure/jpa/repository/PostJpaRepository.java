@@ -1,15 +1,97 @@
 package com.contentplatform.backend.infrastructure.jpa.repository;
 
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.dto.PostReadModel;
 import com.contentplatform.backend.domain.value.ContentStatus;
 import com.contentplatform.backend.infrastructure.jpa.entity.PostEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostJpaRepository extends JpaRepository<PostEntity, String> {
     Optional<PostEntity> findByApplicationIdAndSlug(String applicationId, String slug);
     Page<PostEntity> findByApplicationId(String applicationId, Pageable pageable);
     Page<PostEntity> findByApplicationIdAndStatus(String applicationId, ContentStatus status, Pageable pageable);
+    Slice<PostEntity> findSliceByApplicationId(String applicationId, Pageable pageable);
+    Slice<PostEntity> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, Pageable pageable);
+    long countByApplicationId(String applicationId);
+    long countByApplicationIdAndStatus(String applicationId, ContentStatus status);
+
+    @Query(value = """
+        select new com.contentplatform.backend.application.dto.PostReadModel(
+               p.id, p.applicationId, p.title, p.slug, p.content, p.status, p.publishedAt, p.createdAt, p.updatedAt)
+        from PostEntity p
+        where p.applicationId = :applicationId and p.status = :status
+        """,
+        countQuery = "select count(p) from PostEntity p where p.applicationId = :applicationId and p.status = :status")
+    Page<PostReadModel> findReadModelsByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                               @Param("status") ContentStatus status,
+                                                               Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.PostReadModel(
+               p.id, p.applicationId, p.title, p.slug, p.content, p.status, p.publishedAt, p.createdAt, p.updatedAt)
+        from PostEntity p
+        where p.applicationId = :applicationId and p.status = :status
+        """)
+    Slice<PostReadModel> findReadModelSliceByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                    @Param("status") ContentStatus status,
+                                                                    Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.PostReadModel(
+               p.id, p.applicationId, p.title, p.slug, p.content, p.status, p.publishedAt, p.createdAt, p.updatedAt)
+        from PostEntity p
+        where p.applicationId = :applicationId and p.status = :status and p.publishedAt is not null
+        order by p.publishedAt desc, p.id desc
+        """)
+    List<PostReadModel> findReadModelKeysetFirst(@Param("applicationId") String applicationId,
+                                                 @Param("status") ContentStatus status,
+                                                 Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.PostReadModel(
+               p.id, p.applicationId, p.title, p.slug, p.content, p.status, p.publishedAt, p.createdAt, p.updatedAt)
+        from PostEntity p
+        where p.applicationId = :applicationId and p.status = :status and p.publishedAt is not null
+          and (p.publishedAt < :publishedAt or (p.publishedAt = :publishedAt and p.id < :id))
+        order by p.publishedAt desc, p.id desc
+        """)
+    List<PostReadModel> findReadModelKeysetBefore(@Param("applicationId") String applicationId,
+                                                  @Param("status") ContentStatus status,
+                                                  @Param("publishedAt") Instant publishedAt,
+                                                  @Param("id") String id,
+                                                  Pageable pageable);
+
+    @Query(value = """
+        select new com.contentplatform.backend.application.dto.ContentSummaryReadModel(
+               p.id, p.applicationId, p.title, p.slug, p.status, p.publishedAt, p.updatedAt,
+               case when :excerptLength > 0 then substring(p.content, 1, :excerptLength) end)
+        from PostEntity p
+        where p.applicationId = :applicationId and p.status = :status
+        """,
+        countQuery = "select count(p) from PostEntity p where p.applicationId = :applicationId and p.status = :status")
+    Page<ContentSummaryReadModel> findSummaryReadModelsByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                                @Param("status") ContentStatus status,
+                                                                                @Param("excerptLength") int excerptLength,
+                                                                                Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.ContentSummaryReadModel(
+               p.id, p.applicationId, p.title, p.slug, p.status, p.publishedAt, p.updatedAt,
+               case when :excerptLength > 0 then substring(p.content, 1, :excerptLength) end)
+        from PostEntity p
+        where p.applicationId = :applicationId and p.status = :status
+        """)
+    Slice<ContentSummaryReadModel> findSummaryReadModelSliceByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                                     @Param("status") ContentStatus status,
+                                                                                     @Param("excerptLength") int excerptLength,
+                                                                                     Pageable pageable);
 }
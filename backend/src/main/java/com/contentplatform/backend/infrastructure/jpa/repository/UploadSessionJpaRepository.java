@@ -0,0 +1,13 @@
+package com.contentplatform.backend.infrastructure.jpa.repository;
+
+import com.contentplatform.backend.domain.value.UploadSessionState;
+import com.contentplatform.backend.infrastructure.jpa.entity.UploadSessionEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UploadSessionJpaRepository extends JpaRepository<UploadSessionEntity, String> {
+    List<UploadSessionEntity> findByStateAndUpdatedAtBeforeOrderByUpdatedAt(UploadSessionState state, Instant cutoff, Pageable pageable);
+}
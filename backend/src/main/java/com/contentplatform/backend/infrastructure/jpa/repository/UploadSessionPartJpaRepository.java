@@ -0,0 +1,10 @@
+package com.contentplatform.backend.infrastructure.jpa.repository;
+
+import com.contentplatform.backend.infrastructure.jpa.entity.UploadSessionPartEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UploadSessionPartJpaRepository extends JpaRepository<UploadSessionPartEntity, UploadSessionPartEntity.Key> {
+    List<UploadSessionPartEntity> findBySessionIdOrderByPartNumber(String sessionId);
+}
@@ -1,12 +1,91 @@
 package com.contentplatform.backend.infrastructure.jpa.repository;
 
+import com.contentplatform.backend.application.dto.VideoReadModel;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 import com.contentplatform.backend.infrastructure.jpa.entity.VideoEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 public interface VideoJpaRepository extends JpaRepository<VideoEntity, String> {
     Page<VideoEntity> findByApplicationId(String applicationId, Pageable pageable);
     Page<VideoEntity> findByApplicationIdAndStatus(String applicationId, ContentStatus status, Pageable pageable);
+    Slice<VideoEntity> findSliceByApplicationId(String applicationId, Pageable pageable);
+    Slice<VideoEntity> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, Pageable pageable);
+    long countByApplicationId(String applicationId);
+    long countByApplicationIdAndStatus(String applicationId, ContentStatus status);
+    long countByApplicationIdAndStatusAndProcessingState(String applicationId, ContentStatus status, ProcessingState processingState);
+    boolean existsByObjectKey(String objectKey);
+
+    Optional<VideoEntity> findByObjectKey(String objectKey);
+
+    @Query("""
+        select v from VideoEntity v
+        where v.processingState = com.contentplatform.backend.domain.value.ProcessingState.PROCESSING
+          and (v.processingNode = :processingNode or v.updatedAt < :staleBefore)
+        """)
+    List<VideoEntity> findInterruptedProcessing(@Param("processingNode") String processingNode,
+                                                @Param("staleBefore") Instant staleBefore);
+
+    @Query(value = """
+        select new com.contentplatform.backend.application.dto.VideoReadModel(
+               v.id, v.applicationId, v.title, v.description, v.status, v.publishedAt, v.objectKey, v.contentType, v.sizeBytes, v.createdAt, v.updatedAt)
+        from VideoEntity v
+        where v.applicationId = :applicationId and v.status = :status
+          and v.processingState = com.contentplatform.backend.domain.value.ProcessingState.READY
+        """,
+        countQuery = """
+            select count(v) from VideoEntity v
+            where v.applicationId = :applicationId and v.status = :status
+          and v.processingState = com.contentplatform.backend.domain.value.ProcessingState.READY
+            """)
+    Page<VideoReadModel> findReadModelsByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                @Param("status") ContentStatus status,
+                                                                Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.VideoReadModel(
+               v.id, v.applicationId, v.title, v.description, v.status, v.publishedAt, v.objectKey, v.contentType, v.sizeBytes, v.createdAt, v.updatedAt)
+        from VideoEntity v
+        where v.applicationId = :applicationId and v.status = :status
+          and v.processingState = com.contentplatform.backend.domain.value.ProcessingState.READY
+        """)
+    Slice<VideoReadModel> findReadModelSliceByApplicationIdAndStatus(@Param("applicationId") String applicationId,
+                                                                     @Param("status") ContentStatus status,
+                                                                     Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.VideoReadModel(
+               v.id, v.applicationId, v.title, v.description, v.status, v.publishedAt, v.objectKey, v.contentType, v.sizeBytes, v.createdAt, v.updatedAt)
+        from VideoEntity v
+        where v.applicationId = :applicationId and v.status = :status and v.publishedAt is not null
+          and v.processingState = com.contentplatform.backend.domain.value.ProcessingState.READY
+        order by v.publishedAt desc, v.id desc
+        """)
+    List<VideoReadModel> findReadModelKeysetFirst(@Param("applicationId") String applicationId,
+                                                  @Param("status") ContentStatus status,
+                                                  Pageable pageable);
+
+    @Query("""
+        select new com.contentplatform.backend.application.dto.VideoReadModel(
+               v.id, v.applicationId, v.title, v.description, v.status, v.publishedAt, v.objectKey, v.contentType, v.sizeBytes, v.createdAt, v.updatedAt)
+        from VideoEntity v
+        where v.applicationId = :applicationId and v.status = :status and v.publishedAt is not null
+          and v.processingState = com.contentplatform.backend.domain.value.ProcessingState.READY
+          and (v.publishedAt < :publishedAt or (v.publishedAt = :publishedAt and v.id < :id))
+        order by v.publishedAt desc, v.id desc
+        """)
+    List<VideoReadModel> findReadModelKeysetBefore(@Param("applicationId") String applicationId,
+                                                   @Param("status") ContentStatus status,
+                                                   @Param("publishedAt") Instant publishedAt,
+                                                   @Param("id") String id,
+                                                   Pageable pageable);
 }
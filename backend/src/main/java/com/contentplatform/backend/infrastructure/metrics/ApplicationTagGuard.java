@@ -0,0 +1,67 @@
+package com.contentplatform.backend.infrastructure.metrics;
+
+import com.contentplatform.backend.application.port.out.ApplicationRepository;
+import com.contentplatform.backend.infrastructure.security.JwtUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ApplicationTagGuard {
+    static final String NONE = "none";
+    static final String OTHER = "other";
+
+    private final Set<String> knownApplicationIds = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Boolean> lookups;
+    private final ObjectProvider<ApplicationRepository> applicationRepository;
+    private final int maximumValues;
+
+    public ApplicationTagGuard(ObjectProvider<ApplicationRepository> applicationRepository,
+                               @Value("${app.metrics.application-tag.maximum-values:100}") int maximumValues,
+                               @Value("${app.metrics.application-tag.lookup-cache.maximum-size:10000}") long lookupCacheMaximumSize,
+                               @Value("${app.metrics.application-tag.lookup-cache.ttl-seconds:60}") long lookupCacheTtlSeconds) {
+        this.applicationRepository = applicationRepository;
+        this.maximumValues = maximumValues;
+        this.lookups = Caffeine.newBuilder()
+            .maximumSize(lookupCacheMaximumSize)
+            .expireAfterWrite(Duration.ofSeconds(lookupCacheTtlSeconds))
+            .build();
+    }
+
+    public String tagValue(String applicationId) {
+        if (applicationId == null || applicationId.isBlank()) {
+            return NONE;
+        }
+        if (knownApplicationIds.contains(applicationId)) {
+            return applicationId;
+        }
+        if (knownApplicationIds.size() >= maximumValues || !isTrusted(applicationId)) {
+            return OTHER;
+        }
+        synchronized (knownApplicationIds) {
+            if (knownApplicationIds.size() < maximumValues) {
+                knownApplicationIds.add(applicationId);
+                return applicationId;
+            }
+        }
+        return OTHER;
+    }
+
+    private boolean isTrusted(String applicationId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUser user
+            && user.applicationIds() != null && user.applicationIds().contains(applicationId)) {
+            return true;
+        }
+        ApplicationRepository repository = applicationRepository.getIfAvailable();
+        return repository != null && lookups.get(applicationId, repository::existsById);
+    }
+}
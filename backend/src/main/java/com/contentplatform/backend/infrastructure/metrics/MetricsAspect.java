@@ -0,0 +1,132 @@
+package com.contentplatform.backend.infrastructure.metrics;
+
+import com.contentplatform.backend.domain.value.ContentType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Aspect
+@Component
+public class MetricsAspect {
+    private final MeterRegistry registry;
+    private final ApplicationTagGuard applicationTagGuard;
+    private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry registry, ApplicationTagGuard applicationTagGuard) {
+        this.registry = registry;
+        this.applicationTagGuard = applicationTagGuard;
+    }
+
+    @Around("execution(public * com.contentplatform.backend.application.service.*Service.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("content.usecase", joinPoint, true);
+    }
+
+    @Around("execution(public * com.contentplatform.backend.infrastructure.jpa.*Adapter.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("content.repository", joinPoint, true);
+    }
+
+    @Around("execution(public * com.contentplatform.backend.infrastructure.storage.MinioMediaStorageAdapter.*(..))")
+    public Object timeStorage(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("content.storage", joinPoint, true);
+    }
+
+    @Around("execution(public * com.contentplatform.backend.infrastructure.security.JwtTokenProvider.parse(..))"
+        + " || execution(public * com.contentplatform.backend.infrastructure.security.BCryptPasswordHasher.matches(..))")
+    public Object timeAuth(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("auth.operation", joinPoint, false);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint, boolean contentTags) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Operation operation = operations.computeIfAbsent(method, Operation::of);
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            Tags tags = Tags.of("operation", operation.name(), "exception", exception);
+            if (contentTags) {
+                tags = tags.and(
+                    "type", operation.type(),
+                    "applicationId", applicationTagGuard.tagValue(operation.applicationId().apply(joinPoint.getArgs()))
+                );
+            }
+            sample.stop(registry.timer(name, tags));
+        }
+    }
+
+    private record Operation(String name, String type, Function<Object[], String> applicationId) {
+        static Operation of(Method method) {
+            String className = method.getDeclaringClass().getSimpleName();
+            return new Operation(className + "." + method.getName(), resolveType(className, method.getName()), applicationIdResolver(method));
+        }
+
+        private static String resolveType(String className, String methodName) {
+            for (String candidate : new String[] {className, methodName}) {
+                for (ContentType type : ContentType.values()) {
+                    String lower = type.name().toLowerCase(Locale.ROOT);
+                    if (candidate.contains(Character.toUpperCase(lower.charAt(0)) + lower.substring(1))) {
+                        return lower;
+                    }
+                }
+            }
+            return ApplicationTagGuard.NONE;
+        }
+
+        private static Function<Object[], String> applicationIdResolver(Method method) {
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                int index = i;
+                if (parameters[i].getType() == String.class && parameters[i].getName().equals("applicationId")) {
+                    return args -> (String) args[index];
+                }
+                if (parameters[i].getType() == String.class && parameters[i].getName().equals("objectKey")) {
+                    return args -> args[index] == null ? null : ((String) args[index]).split("/", 2)[0];
+                }
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                int index = i;
+                Method getter = findApplicationIdGetter(parameters[i].getType());
+                if (getter != null) {
+                    return args -> {
+                        try {
+                            return args[index] == null ? null : (String) getter.invoke(args[index]);
+                        } catch (ReflectiveOperationException ex) {
+                            return null;
+                        }
+                    };
+                }
+            }
+            return args -> null;
+        }
+
+        private static Method findApplicationIdGetter(Class<?> type) {
+            if (!type.getPackageName().startsWith("com.contentplatform.backend")) {
+                return null;
+            }
+            try {
+                Method getter = type.getMethod("getApplicationId");
+                return getter.getReturnType() == String.class ? getter : null;
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.contentplatform.backend.infrastructure.processing;
+
+import com.contentplatform.backend.application.port.out.MediaProcessingQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class BoundedMediaProcessingQueue implements MediaProcessingQueue, DisposableBean {
+    private final ThreadPoolExecutor executor;
+    private final long shutdownTimeoutSeconds;
+
+    public BoundedMediaProcessingQueue(MeterRegistry meterRegistry,
+                                       @Value("${app.processing.workers:4}") int workers,
+                                       @Value("${app.processing.queue-capacity:32}") int queueCapacity,
+                                       @Value("${app.processing.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("media-processing-", 0).factory()
+            : Thread.ofPlatform().name("media-processing-", 0).factory();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+        new ExecutorServiceMetrics(executor, "media.processing", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        return executor.getQueue().remainingCapacity() > 0
+            || executor.getActiveCount() < executor.getMaximumPoolSize();
+    }
+
+    @Override
+    public boolean trySubmit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.contentplatform.backend.infrastructure.processing;
+
+import com.contentplatform.backend.application.port.in.VideoProcessingUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VideoProcessingRecovery {
+    private static final Logger logger = LoggerFactory.getLogger(VideoProcessingRecovery.class);
+
+    private final VideoProcessingUseCase processingUseCase;
+
+    public VideoProcessingRecovery(VideoProcessingUseCase processingUseCase) {
+        this.processingUseCase = processingUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int failed = processingUseCase.recoverInterrupted();
+        if (failed > 0) {
+            logger.warn("Marked {} interrupted video processing jobs as FAILED", failed);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.contentplatform.backend.infrastructure.scheduling;
+
+import com.contentplatform.backend.application.dto.ScheduleAction;
+import com.contentplatform.backend.application.dto.ScheduledFiringDto;
+import com.contentplatform.backend.application.port.in.ContentSchedulingUseCase;
+import com.contentplatform.backend.domain.value.ContentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class ContentSchedulePoller {
+    private static final Logger logger = LoggerFactory.getLogger(ContentSchedulePoller.class);
+
+    private final ContentSchedulingUseCase schedulingUseCase;
+    private final MeterRegistry registry;
+    private final int batchSize;
+
+    public ContentSchedulePoller(ContentSchedulingUseCase schedulingUseCase,
+                                 MeterRegistry registry,
+                                 @Value("${app.scheduling.batch-size:100}") int batchSize) {
+        this.schedulingUseCase = schedulingUseCase;
+        this.registry = registry;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.scheduling.poll-interval-millis:5000}")
+    public void poll() {
+        for (ScheduleAction action : ScheduleAction.values()) {
+            for (ContentType type : ContentType.values()) {
+                try {
+                    drain(type, action);
+                } catch (RuntimeException ex) {
+                    logger.warn("Scheduled {} of {} content failed", action, type, ex);
+                }
+            }
+        }
+    }
+
+    private void drain(ContentType type, ScheduleAction action) {
+        String typeTag = type.name().toLowerCase(Locale.ROOT);
+        String actionTag = action.name().toLowerCase(Locale.ROOT);
+        Timer lag = Timer.builder("content.schedule.lag")
+            .description("Delay between the scheduled time and the moment content was published or unpublished")
+            .tags("type", typeTag, "action", actionTag)
+            .register(registry);
+        DistributionSummary batch = DistributionSummary.builder("content.schedule.batch.size")
+            .description("Number of scheduled items fired per polling batch")
+            .tags("type", typeTag, "action", actionTag)
+            .register(registry);
+        List<ScheduledFiringDto> fired;
+        do {
+            fired = schedulingUseCase.fireDue(type, action, batchSize);
+            if (!fired.isEmpty()) {
+                batch.record(fired.size());
+            }
+            for (ScheduledFiringDto firing : fired) {
+                lag.record(Duration.between(firing.scheduledAt(), firing.firedAt()));
+            }
+        } while (fired.size() == batchSize);
+    }
+}
@@ -0,0 +1,36 @@
+package com.contentplatform.backend.infrastructure.scheduling;
+
+import com.contentplatform.backend.application.port.in.UploadSessionUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class UploadSessionExpiryPoller {
+    private static final Logger logger = LoggerFactory.getLogger(UploadSessionExpiryPoller.class);
+
+    private final UploadSessionUseCase uploadSessionUseCase;
+    private final int batchSize;
+
+    public UploadSessionExpiryPoller(UploadSessionUseCase uploadSessionUseCase,
+                                     @Value("${app.storage.upload-session.expiry-batch-size:100}") int batchSize) {
+        this.uploadSessionUseCase = uploadSessionUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.upload-session.expiry-interval-millis:600000}")
+    public void expire() {
+        try {
+            int expired;
+            do {
+                expired = uploadSessionUseCase.expireAbandoned(batchSize);
+            } while (expired == batchSize);
+        } catch (RuntimeException ex) {
+            logger.warn("Expiring abandoned upload sessions failed", ex);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.contentplatform.backend.infrastructure.security;
+
+import com.contentplatform.backend.application.port.out.UploadTicketSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+@Component
+public class HmacUploadTicketSigner implements UploadTicketSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public HmacUploadTicketSigner(@Value("${app.storage.upload.ticket-secret:}") String secret,
+                                  @Value("${app.jwt.secret}") String jwtSecret) {
+        this.key = SigningKeys.forPurpose(secret, "app.storage.upload.ticket-secret", jwtSecret, "upload-ticket");
+    }
+
+    @Override
+    public String sign(String applicationId, String objectKey) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal((applicationId + '\n' + objectKey).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to sign upload ticket", ex);
+        }
+    }
+
+    @Override
+    public boolean verify(String applicationId, String objectKey, String uploadToken) {
+        if (objectKey == null || uploadToken == null || uploadToken.isBlank()) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            sign(applicationId, objectKey).getBytes(StandardCharsets.UTF_8),
+            uploadToken.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -2,7 +2,11 @@ package com.contentplatform.backend.infrastructure.security;
 
 import com.contentplatform.backend.application.port.out.TokenProvider;
 import com.contentplatform.backend.domain.model.AdminUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,20 +14,36 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import javax.crypto.SecretKey;
 
 @Component
 public class JwtTokenProvider implements TokenProvider {
-    private final byte[] secret;
+    private final SecretKey key;
+    private final JwtParser parser;
     private final long expirationMinutes;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(@Value("${app.jwt.secret}") String secret,
-                            @Value("${app.jwt.expiration-minutes}") long expirationMinutes) {
-        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+                            @Value("${app.jwt.expiration-minutes}") long expirationMinutes,
+                            @Value("${app.jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize) {
+        SigningKeys.requireConfigured(secret, SigningKeys.JWT_SECRET_PROPERTY);
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
         this.expirationMinutes = expirationMinutes;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaximumSize)
+            .expireAfter(new VerifiedTokenExpiry())
+            .build();
     }
 
     @Override
@@ -36,19 +56,54 @@ public class JwtTokenProvider implements TokenProvider {
             .claim("applicationIds", adminUser.getAllowedApplicationIds())
             .setIssuedAt(Date.from(now))
             .setExpiration(Date.from(expiry))
-            .signWith(Keys.hmacShaKeyFor(secret), SignatureAlgorithm.HS256)
+            .signWith(key, SignatureAlgorithm.HS256)
             .compact();
     }
 
     public JwtUser parse(String token) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(Keys.hmacShaKeyFor(secret))
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        String tokenHash = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified != null && verified.expiresAt().isAfter(Instant.now())) {
+            return verified.user();
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
         String subject = claims.getSubject();
         String email = claims.get("email", String.class);
         List<String> applicationIds = claims.get("applicationIds", List.class);
-        return new JwtUser(subject, email, applicationIds);
+        JwtUser user = new JwtUser(subject, email, applicationIds);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, new VerifiedToken(user, claims.getExpiration().toInstant()));
+        }
+        return user;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record VerifiedToken(JwtUser user, Instant expiresAt) {
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), value.expiresAt());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
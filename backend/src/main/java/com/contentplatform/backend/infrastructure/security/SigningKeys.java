@@ -0,0 +1,39 @@
+package com.contentplatform.backend.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+public final class SigningKeys {
+    public static final String JWT_SECRET_PROPERTY = "app.jwt.secret";
+    private static final String PLACEHOLDER_PREFIX = "change-me";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private SigningKeys() {
+    }
+
+    public static String requireConfigured(String secret, String property) {
+        if (secret == null || secret.isBlank() || secret.startsWith(PLACEHOLDER_PREFIX)) {
+            throw new IllegalStateException(property + " must be set to a secret other than the change-me default");
+        }
+        return secret;
+    }
+
+    public static SecretKeySpec forPurpose(String secret, String property, String jwtSecret, String purpose) {
+        requireConfigured(jwtSecret, JWT_SECRET_PROPERTY);
+        if (secret != null && !secret.isBlank()) {
+            if (requireConfigured(secret, property).equals(jwtSecret)) {
+                throw new IllegalStateException(property + " must differ from " + JWT_SECRET_PROPERTY);
+            }
+            return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return new SecretKeySpec(mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to derive " + purpose + " key", ex);
+        }
+    }
+}
@@ -49,7 +49,7 @@ public class SeedDataRunner implements CommandLineRunner {
         }
         String applicationId = UUID.randomUUID().toString();
         Application app = new Application(applicationId, "Demo Application", null);
-        applicationRepository.save(app);
+        applicationRepository.insert(app);
         logger.info("Seeded applicationId: {}", applicationId);
         return applicationId;
     }
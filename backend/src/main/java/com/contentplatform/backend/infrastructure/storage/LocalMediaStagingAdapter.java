@@ -0,0 +1,68 @@
+package com.contentplatform.backend.infrastructure.storage;
+
+import com.contentplatform.backend.application.dto.MediaContent;
+import com.contentplatform.backend.application.port.out.MediaStagingPort;
+import com.contentplatform.backend.application.port.out.StagedMedia;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Component
+public class LocalMediaStagingAdapter implements MediaStagingPort {
+    private static final String STAGED_SUFFIX = ".staged";
+
+    private final Path directory;
+
+    public LocalMediaStagingAdapter(@Value("${app.processing.staging-dir:${java.io.tmpdir}/content-platform-staging}") String directory) throws IOException {
+        this.directory = Files.createDirectories(Path.of(directory));
+    }
+
+    @Override
+    public StagedMedia stage(MediaContent content) {
+        Path file = directory.resolve("video-" + UUID.randomUUID() + STAGED_SUFFIX);
+        try {
+            content.transferTo(file);
+            return new StagedMedia(file.toString(), Files.size(file));
+        } catch (IOException ex) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Failed to stage media", ex);
+        }
+    }
+
+    @Override
+    public InputStream open(StagedMedia media) {
+        try {
+            return Files.newInputStream(Path.of(media.location()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open staged media", ex);
+        }
+    }
+
+    @Override
+    public void discard(StagedMedia media) {
+        deleteQuietly(Path.of(media.location()));
+    }
+
+    @Override
+    public void discardAll() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(STAGED_SUFFIX)).forEach(this::deleteQuietly);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to clear staging directory", ex);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+}
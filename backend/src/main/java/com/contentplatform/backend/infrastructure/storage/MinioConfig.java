@@ -1,19 +1,65 @@
 package com.contentplatform.backend.infrastructure.storage;
 
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class MinioConfig {
+    private static final long DEFAULT_TIMEOUT_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    @Bean
+    public OkHttpClient minioHttpClient(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                        @Value("${app.storage.http.max-requests:64}") int maxRequests,
+                                        @Value("${app.storage.http.max-requests-per-host:64}") int maxRequestsPerHost) {
+        Dispatcher dispatcher = virtualThreads
+            ? new Dispatcher(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("minio-http-", 0).factory()))
+            : new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return HttpUtils.newDefaultHttpClient(DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS)
+            .newBuilder()
+            .dispatcher(dispatcher)
+            .build();
+    }
+
     @Bean
-    public MinioClient minioClient(@Value("${minio.url}") String url,
+    public MinioClient minioClient(OkHttpClient minioHttpClient,
+                                   @Value("${minio.url}") String url,
                                    @Value("${minio.access-key}") String accessKey,
-                                   @Value("${minio.secret-key}") String secretKey) {
-        return MinioClient.builder()
+                                   @Value("${minio.secret-key}") String secretKey,
+                                   @Value("${minio.region:}") String region) {
+        MinioClient.Builder builder = MinioClient.builder()
             .endpoint(url)
             .credentials(accessKey, secretKey)
-            .build();
+            .httpClient(minioHttpClient);
+        if (!region.isBlank()) {
+            builder.region(region);
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public MultipartMinioClient multipartMinioClient(OkHttpClient minioHttpClient,
+                                                     @Value("${minio.url}") String url,
+                                                     @Value("${minio.access-key}") String accessKey,
+                                                     @Value("${minio.secret-key}") String secretKey,
+                                                     @Value("${minio.region:}") String region) {
+        MinioAsyncClient.Builder builder = MinioAsyncClient.builder()
+            .endpoint(url)
+            .credentials(accessKey, secretKey)
+            .httpClient(minioHttpClient);
+        if (!region.isBlank()) {
+            builder.region(region);
+        }
+        return new MultipartMinioClient(builder.build());
     }
 }
@@ -2,45 +2,197 @@ package com.contentplatform.backend.infrastructure.storage;
 
 import com.contentplatform.backend.application.port.out.MediaStoragePort;
 import com.contentplatform.backend.application.port.out.MediaUploadResult;
+import com.contentplatform.backend.domain.model.UploadPart;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
+import io.minio.messages.Part;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class MinioMediaStorageAdapter implements MediaStoragePort {
     private final MinioClient minioClient;
+    private final MultipartMinioClient multipartClient;
     private final String bucket;
+    private final Duration refreshMargin;
+    private final Cache<SignedUrlKey, SignedUrl> signedUrls;
+    private final long partSizeBytes;
+    private final UploadThroughput bufferedUploads;
+    private final UploadThroughput streamingUploads;
+    private final UploadThroughput chunkedUploads;
 
     public MinioMediaStorageAdapter(MinioClient minioClient,
-                                    @Value("${minio.bucket}") String bucket) {
+                                    MultipartMinioClient multipartClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${minio.bucket}") String bucket,
+                                    @Value("${app.storage.presign-cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${app.storage.presign-cache.refresh-margin-seconds:60}") long refreshMarginSeconds,
+                                    @Value("${app.storage.upload.part-size-bytes:8388608}") long partSizeBytes) {
         this.minioClient = minioClient;
+        this.multipartClient = multipartClient;
         this.bucket = bucket;
+        this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+        this.signedUrls = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new SignedUrlExpiry())
+            .build();
+        this.partSizeBytes = partSizeBytes;
+        this.bufferedUploads = new UploadThroughput(meterRegistry, "buffered");
+        this.streamingUploads = new UploadThroughput(meterRegistry, "streaming");
+        this.chunkedUploads = new UploadThroughput(meterRegistry, "chunked");
     }
 
     @Override
     public MediaUploadResult upload(String objectKey, InputStream inputStream, long sizeBytes, String contentType) {
+        return put(bufferedUploads, objectKey, inputStream, sizeBytes, contentType);
+    }
+
+    @Override
+    public MediaUploadResult uploadStream(String objectKey, InputStream inputStream, long sizeBytes, String contentType) {
+        return put(streamingUploads, objectKey, inputStream, sizeBytes, contentType);
+    }
+
+    @Override
+    public String getPresignedUrl(String objectKey, int expirySeconds) {
+        return signedUrls.get(new SignedUrlKey(objectKey, expirySeconds), key -> sign(key.objectKey(), key.expirySeconds())).url();
+    }
+
+    @Override
+    public Map<String, String> getPresignedUrls(Collection<String> objectKeys, int expirySeconds) {
+        Set<SignedUrlKey> keys = new LinkedHashSet<>();
+        objectKeys.forEach(objectKey -> keys.add(new SignedUrlKey(objectKey, expirySeconds)));
+        Map<SignedUrlKey, SignedUrl> cached = signedUrls.getAll(keys, this::signAll);
+        Map<String, String> urls = new LinkedHashMap<>();
+        cached.forEach((key, signedUrl) -> urls.put(key.objectKey(), signedUrl.url()));
+        return urls;
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectKey, int expirySeconds) {
+        try {
+            return minioClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                    .bucket(bucket)
+                    .object(objectKey)
+                    .method(Method.PUT)
+                    .expiry(expirySeconds)
+                    .build()
+            );
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to generate presigned upload url", ex);
+        }
+    }
+
+    @Override
+    public Optional<MediaUploadResult> statObject(String objectKey) {
+        try {
+            StatObjectResponse stat = minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucket)
+                .object(objectKey)
+                .build());
+            return Optional.of(new MediaUploadResult(objectKey, stat.size(), stat.contentType()));
+        } catch (ErrorResponseException ex) {
+            if ("NoSuchKey".equals(ex.errorResponse().code())) {
+                return Optional.empty();
+            }
+            throw new IllegalStateException("Failed to read media metadata", ex);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to read media metadata", ex);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String objectKey, String contentType) {
+        try {
+            return multipartClient.createMultipartUpload(bucket, objectKey, contentType);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to start multipart upload", ex);
+        }
+    }
+
+    @Override
+    public String uploadPart(String objectKey, String uploadId, int partNumber, InputStream inputStream, long sizeBytes) {
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        long startedAt = System.nanoTime();
+        try {
+            String etag = multipartClient.uploadPart(bucket, objectKey, uploadId, partNumber, counting, sizeBytes);
+            chunkedUploads.recordSuccess(counting.count(), System.nanoTime() - startedAt);
+            return etag;
+        } catch (Exception ex) {
+            chunkedUploads.recordFailure(counting.count(), System.nanoTime() - startedAt);
+            throw new IllegalStateException("Failed to upload part", ex);
+        }
+    }
+
+    @Override
+    public void completeMultipartUpload(String objectKey, String uploadId, List<UploadPart> parts) {
+        Part[] storageParts = parts.stream()
+            .map(part -> new Part(part.getPartNumber(), part.getEtag()))
+            .toArray(Part[]::new);
+        try {
+            multipartClient.completeMultipartUpload(bucket, objectKey, uploadId, storageParts);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to complete multipart upload", ex);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String objectKey, String uploadId) {
+        try {
+            multipartClient.abortMultipartUpload(bucket, objectKey, uploadId);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to abort multipart upload", ex);
+        }
+    }
+
+    private MediaUploadResult put(UploadThroughput throughput, String objectKey, InputStream inputStream, long sizeBytes, String contentType) {
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        long startedAt = System.nanoTime();
         try {
             minioClient.putObject(PutObjectArgs.builder()
                 .bucket(bucket)
                 .object(objectKey)
-                .stream(inputStream, sizeBytes, -1)
+                .stream(counting, sizeBytes, sizeBytes < 0 ? partSizeBytes : -1)
                 .contentType(contentType)
                 .build());
-            return new MediaUploadResult(objectKey, sizeBytes, contentType);
+            throughput.recordSuccess(counting.count(), System.nanoTime() - startedAt);
+            return new MediaUploadResult(objectKey, counting.count(), contentType);
         } catch (Exception ex) {
+            throughput.recordFailure(counting.count(), System.nanoTime() - startedAt);
             throw new IllegalStateException("Failed to upload media", ex);
         }
     }
 
-    @Override
-    public String getPresignedUrl(String objectKey, int expirySeconds) {
+    private Map<SignedUrlKey, SignedUrl> signAll(Set<? extends SignedUrlKey> keys) {
+        Map<SignedUrlKey, SignedUrl> signed = new LinkedHashMap<>();
+        keys.forEach(key -> signed.put(key, sign(key.objectKey(), key.expirySeconds())));
+        return signed;
+    }
+
+    private SignedUrl sign(String objectKey, int expirySeconds) {
         try {
-            return minioClient.getPresignedObjectUrl(
+            String url = minioClient.getPresignedObjectUrl(
                 GetPresignedObjectUrlArgs.builder()
                     .bucket(bucket)
                     .object(objectKey)
@@ -48,8 +200,70 @@ public class MinioMediaStorageAdapter implements MediaStoragePort {
                     .expiry(expirySeconds)
                     .build()
             );
+            Duration reusableFor = Duration.ofSeconds(expirySeconds).minus(refreshMargin);
+            return new SignedUrl(url, reusableFor.isNegative() ? Duration.ZERO : reusableFor);
         } catch (Exception ex) {
             throw new IllegalStateException("Failed to generate presigned url", ex);
         }
     }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+
+    private record SignedUrlKey(String objectKey, int expirySeconds) {
+    }
+
+    private record SignedUrl(String url, Duration reusableFor) {
+    }
+
+    private static class SignedUrlExpiry implements Expiry<SignedUrlKey, SignedUrl> {
+        @Override
+        public long expireAfterCreate(SignedUrlKey key, SignedUrl value, long currentTime) {
+            return value.reusableFor().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(SignedUrlKey key, SignedUrl value, long currentTime, long currentDuration) {
+            return value.reusableFor().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(SignedUrlKey key, SignedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.contentplatform.backend.infrastructure.storage;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.MinioAsyncClient;
+import io.minio.messages.Part;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class MultipartMinioClient extends MinioAsyncClient {
+    public MultipartMinioClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    public String createMultipartUpload(String bucket, String objectKey, String contentType) throws Exception {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put("Content-Type", contentType);
+        return join(createMultipartUploadAsync(bucket, null, objectKey, headers, null)).result().uploadId();
+    }
+
+    public String uploadPart(String bucket, String objectKey, String uploadId, int partNumber, InputStream inputStream, long sizeBytes) throws Exception {
+        return join(uploadPartAsync(bucket, null, objectKey, inputStream, sizeBytes, uploadId, partNumber, null, null)).etag();
+    }
+
+    public void completeMultipartUpload(String bucket, String objectKey, String uploadId, Part[] parts) throws Exception {
+        join(completeMultipartUploadAsync(bucket, null, objectKey, uploadId, parts, null, null));
+    }
+
+    public void abortMultipartUpload(String bucket, String objectKey, String uploadId) throws Exception {
+        join(abortMultipartUploadAsync(bucket, null, objectKey, uploadId, null, null));
+    }
+
+    private <T> T join(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.contentplatform.backend.infrastructure.storage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+class UploadThroughput {
+    private final Timer succeeded;
+    private final Timer failed;
+    private final DistributionSummary succeededBytes;
+    private final DistributionSummary failedBytes;
+
+    UploadThroughput(MeterRegistry registry, String mode) {
+        this.succeeded = timer(registry, mode, "success");
+        this.failed = timer(registry, mode, "failure");
+        this.succeededBytes = bytes(registry, mode, "success");
+        this.failedBytes = bytes(registry, mode, "failure");
+    }
+
+    void recordSuccess(long transferredBytes, long elapsedNanos) {
+        succeeded.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        succeededBytes.record(transferredBytes);
+    }
+
+    void recordFailure(long transferredBytes, long elapsedNanos) {
+        failed.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        failedBytes.record(transferredBytes);
+    }
+
+    private static Timer timer(MeterRegistry registry, String mode, String outcome) {
+        return Timer.builder("storage.upload")
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static DistributionSummary bytes(MeterRegistry registry, String mode, String outcome) {
+        return DistributionSummary.builder("storage.upload.bytes")
+            .baseUnit("bytes")
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Bulkhead {
+    private final TrafficClass trafficClass;
+    private final int queueCapacity;
+    private final long maxWaitMillis;
+    private final int retryAfterSeconds;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(TrafficClass trafficClass,
+                    int maxConcurrent,
+                    int queueCapacity,
+                    long maxWaitMillis,
+                    int retryAfterSeconds,
+                    MeterRegistry registry) {
+        this.trafficClass = trafficClass;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.permits = new Semaphore(maxConcurrent, true);
+        Tags tags = Tags.of("class", trafficClass.name().toLowerCase(Locale.ROOT));
+        Gauge.builder("http.bulkhead.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+            .description("Requests currently executing inside the traffic class bulkhead")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("http.bulkhead.queued", queued, AtomicInteger::get)
+            .description("Requests waiting for a free slot in the traffic class bulkhead")
+            .tags(tags)
+            .register(registry);
+        this.rejected = Counter.builder("http.bulkhead.rejected")
+            .description("Requests rejected because the traffic class bulkhead and its queue were full")
+            .tags(tags)
+            .register(registry);
+    }
+
+    public boolean tryAcquire() throws InterruptedException {
+        if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            rejected.increment();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public TrafficClass getTrafficClass() {
+        return trafficClass;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,36 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BulkheadConfig {
+    @Bean
+    public Bulkhead publicBulkhead(MeterRegistry registry,
+                                   @Value("${app.bulkhead.public.max-concurrent:120}") int maxConcurrent,
+                                   @Value("${app.bulkhead.public.queue-capacity:40}") int queueCapacity,
+                                   @Value("${app.bulkhead.public.max-wait-millis:100}") long maxWaitMillis,
+                                   @Value("${app.bulkhead.public.retry-after-seconds:1}") int retryAfterSeconds) {
+        return new Bulkhead(TrafficClass.PUBLIC, maxConcurrent, queueCapacity, maxWaitMillis, retryAfterSeconds, registry);
+    }
+
+    @Bean
+    public Bulkhead adminBulkhead(MeterRegistry registry,
+                                  @Value("${app.bulkhead.admin.max-concurrent:24}") int maxConcurrent,
+                                  @Value("${app.bulkhead.admin.queue-capacity:8}") int queueCapacity,
+                                  @Value("${app.bulkhead.admin.max-wait-millis:2000}") long maxWaitMillis,
+                                  @Value("${app.bulkhead.admin.retry-after-seconds:5}") int retryAfterSeconds) {
+        return new Bulkhead(TrafficClass.ADMIN, maxConcurrent, queueCapacity, maxWaitMillis, retryAfterSeconds, registry);
+    }
+
+    @Bean
+    public Bulkhead uploadBulkhead(MeterRegistry registry,
+                                   @Value("${app.bulkhead.upload.max-concurrent:8}") int maxConcurrent,
+                                   @Value("${app.bulkhead.upload.queue-capacity:0}") int queueCapacity,
+                                   @Value("${app.bulkhead.upload.max-wait-millis:0}") long maxWaitMillis,
+                                   @Value("${app.bulkhead.upload.retry-after-seconds:30}") int retryAfterSeconds) {
+        return new Bulkhead(TrafficClass.UPLOAD, maxConcurrent, queueCapacity, maxWaitMillis, retryAfterSeconds, registry);
+    }
+}
@@ -0,0 +1,135 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+import com.contentplatform.backend.application.exception.ServiceUnavailableException;
+import com.contentplatform.backend.infrastructure.datasource.DataSourceRouteContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class TrafficBulkheadFilter extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final String PUBLIC_PATTERN = "/api/v1/public/**";
+    private static final List<String> UPLOAD_PATTERNS = List.of(
+        "/api/v1/admin/media/upload",
+        "/api/v1/admin/media/stream",
+        "/api/v1/admin/videos/upload",
+        "/api/v1/admin/videos/async",
+        "/api/v1/admin/videos/stream",
+        "/api/v1/admin/videos/upload-sessions/*/chunks/*"
+    );
+
+    private final Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public TrafficBulkheadFilter(List<Bulkhead> bulkheads,
+                                 @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        bulkheads.forEach(bulkhead -> this.bulkheads.put(bulkhead.getTrafficClass(), bulkhead));
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return path(request).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        TrafficClass trafficClass = classify(path(request));
+        Bulkhead bulkhead = bulkheads.get(trafficClass);
+        if (!acquire(bulkhead)) {
+            exceptionResolver.resolveException(request, response, null,
+                new ServiceUnavailableException("Too many concurrent requests, retry later", bulkhead.getRetryAfterSeconds()));
+            return;
+        }
+        DataSourceRouteContext.setTrafficClass(trafficClass);
+        boolean releaseOnAsyncCompletion = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(bulkhead));
+                releaseOnAsyncCompletion = true;
+            }
+        } finally {
+            DataSourceRouteContext.clearTrafficClass();
+            if (!releaseOnAsyncCompletion) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private static TrafficClass classify(String path) {
+        if (PATH_MATCHER.match(PUBLIC_PATTERN, path)) {
+            return TrafficClass.PUBLIC;
+        }
+        for (String pattern : UPLOAD_PATTERNS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return TrafficClass.UPLOAD;
+            }
+        }
+        return TrafficClass.ADMIN;
+    }
+
+    private static boolean acquire(Bulkhead bulkhead) {
+        try {
+            return bulkhead.tryAcquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class PermitReleasingListener implements AsyncListener {
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingListener(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,7 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+public enum TrafficClass {
+    PUBLIC,
+    ADMIN,
+    UPLOAD
+}
@@ -0,0 +1,52 @@
+package com.contentplatform.backend.interfaces.web;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+public final class ConditionalRequests {
+    private ConditionalRequests() {
+    }
+
+    public static boolean isNotModified(WebRequest request, String id, Instant updatedAt) {
+        return request.checkNotModified(strongTag(id + ":" + updatedAt), lastModified(updatedAt));
+    }
+
+    public static <T> boolean isNotModified(WebRequest request,
+                                            List<T> items,
+                                            Function<T, String> id,
+                                            Function<T, Instant> updatedAt,
+                                            Object... pageState) {
+        return isTagNotModified(request, items, item -> id.apply(item) + ":" + updatedAt.apply(item), pageState);
+    }
+
+    public static <T> boolean isTagNotModified(WebRequest request,
+                                               List<T> items,
+                                               Function<T, String> fingerprint,
+                                               Object... pageState) {
+        StringBuilder source = new StringBuilder();
+        for (T item : items) {
+            source.append(fingerprint.apply(item)).append(';');
+        }
+        appendPageState(source, pageState);
+        return request.checkNotModified(strongTag(source.toString()));
+    }
+
+    private static void appendPageState(StringBuilder source, Object... pageState) {
+        for (Object state : pageState) {
+            source.append('|').append(state);
+        }
+    }
+
+    private static long lastModified(Instant updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.toEpochMilli();
+    }
+
+    private static String strongTag(String source) {
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
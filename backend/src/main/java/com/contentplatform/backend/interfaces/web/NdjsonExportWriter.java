@@ -0,0 +1,42 @@
+package com.contentplatform.backend.interfaces.web;
+
+import com.contentplatform.backend.application.dto.ContentExport;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+@Component
+public class NdjsonExportWriter {
+    private final ObjectWriter writer;
+
+    public NdjsonExportWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> StreamingResponseBody write(ContentExport<T> export, Function<T, ?> toResponse) {
+        return outputStream -> {
+            JsonGenerator generator = writer.createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            try (generator) {
+                export.forEach(item -> {
+                    try {
+                        writer.writeValue(generator, toResponse.apply(item));
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
+}
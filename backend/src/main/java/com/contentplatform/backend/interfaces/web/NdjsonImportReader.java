@@ -0,0 +1,58 @@
+package com.contentplatform.backend.interfaces.web;
+
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class NdjsonImportReader {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public NdjsonImportReader(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public <R, C> Stream<ImportItem<C>> read(InputStream inputStream, Class<R> type, Function<R, C> toCommand) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        AtomicLong lineNumber = new AtomicLong();
+        return reader.lines()
+            .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+            .filter(line -> !line.text().isBlank())
+            .map(line -> parse(line, type, toCommand));
+    }
+
+    private <R, C> ImportItem<C> parse(NumberedLine line, Class<R> type, Function<R, C> toCommand) {
+        R request;
+        try {
+            request = objectMapper.readValue(line.text(), type);
+        } catch (JsonProcessingException ex) {
+            return ImportItem.failed(line.number(), "Malformed JSON");
+        }
+        Set<ConstraintViolation<R>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return ImportItem.failed(line.number(), violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        }
+        return ImportItem.of(line.number(), toCommand.apply(request));
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+}
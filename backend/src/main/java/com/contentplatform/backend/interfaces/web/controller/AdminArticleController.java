@@ -1,20 +1,37 @@
 package com.contentplatform.backend.interfaces.web.controller;
 
 import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.ContentExport;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.CreateArticleCommand;
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.contentplatform.backend.application.dto.ImportReportDto;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
 import com.contentplatform.backend.application.dto.UpdateArticleCommand;
 import com.contentplatform.backend.application.port.in.ArticleUseCase;
+import com.contentplatform.backend.application.port.in.ContentExportUseCase;
+import com.contentplatform.backend.application.port.in.ContentImportUseCase;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.interfaces.web.NdjsonExportWriter;
+import com.contentplatform.backend.interfaces.web.NdjsonImportReader;
 import com.contentplatform.backend.interfaces.web.SecurityUtils;
 import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
 import com.contentplatform.backend.interfaces.web.request.ArticleUpsertRequest;
+import com.contentplatform.backend.interfaces.web.request.BulkChangeStatusRequest;
 import com.contentplatform.backend.interfaces.web.request.ChangeStatusRequest;
+import com.contentplatform.backend.interfaces.web.request.ScheduleRequest;
 import com.contentplatform.backend.interfaces.web.response.ArticleResponse;
+import com.contentplatform.backend.interfaces.web.response.BulkStatusChangeResponse;
+import com.contentplatform.backend.interfaces.web.response.ImportReportResponse;
 import com.contentplatform.backend.interfaces.web.response.PageResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -25,17 +42,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/admin/articles")
 public class AdminArticleController {
     private final ArticleUseCase articleUseCase;
+    private final ContentImportUseCase importUseCase;
+    private final NdjsonImportReader importReader;
+    private final ContentExportUseCase exportUseCase;
+    private final NdjsonExportWriter exportWriter;
     private final WebMapper mapper;
 
-    public AdminArticleController(ArticleUseCase articleUseCase, WebMapper mapper) {
+    public AdminArticleController(ArticleUseCase articleUseCase,
+                                  ContentImportUseCase importUseCase,
+                                  NdjsonImportReader importReader,
+                                  ContentExportUseCase exportUseCase,
+                                  NdjsonExportWriter exportWriter,
+                                  WebMapper mapper) {
         this.articleUseCase = articleUseCase;
+        this.importUseCase = importUseCase;
+        this.importReader = importReader;
+        this.exportUseCase = exportUseCase;
+        this.exportWriter = exportWriter;
         this.mapper = mapper;
     }
 
@@ -55,6 +89,16 @@ public class AdminArticleController {
         return ResponseEntity.ok(mapper.toArticleResponse(dto));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReportResponse> importNdjson(HttpServletRequest request) throws IOException {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        try (Stream<ImportItem<CreateArticleCommand>> items = importReader.read(request.getInputStream(), ArticleUpsertRequest.class,
+            item -> new CreateArticleCommand(item.getApplicationId(), item.getTitle(), item.getSlug(), item.getContent(), item.getStatus()))) {
+            ImportReportDto report = importUseCase.importArticles(items, allowed);
+            return ResponseEntity.ok(mapper.toImportReportResponse(report));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ArticleResponse> update(@PathVariable String id, @Valid @RequestBody ArticleUpsertRequest request) {
         List<String> allowed = SecurityUtils.getAllowedApplicationIds();
@@ -72,6 +116,16 @@ public class AdminArticleController {
         return ResponseEntity.ok(mapper.toArticleResponse(dto));
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusChangeResponse> changeStatuses(@Valid @RequestBody BulkChangeStatusRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        List<StatusChangeResultDto> results = articleUseCase.changeStatuses(
+            new BulkChangeStatusCommand(request.getApplicationId(), request.getIds(), request.getStatus()),
+            allowed
+        );
+        return ResponseEntity.ok(mapper.toBulkStatusChangeResponse(results));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<ArticleResponse> changeStatus(@PathVariable String id, @Valid @RequestBody ChangeStatusRequest request) {
         List<String> allowed = SecurityUtils.getAllowedApplicationIds();
@@ -79,12 +133,33 @@ public class AdminArticleController {
         return ResponseEntity.ok(mapper.toArticleResponse(dto));
     }
 
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<ArticleResponse> schedule(@PathVariable String id, @Valid @RequestBody ScheduleRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        ArticleDto dto = articleUseCase.schedule(
+            new ScheduleCommand(id, request.getApplicationId(), request.getPublishAt(), request.getUnpublishAt()),
+            allowed
+        );
+        return ResponseEntity.ok(mapper.toArticleResponse(dto));
+    }
+
     @GetMapping
     public ResponseEntity<PageResponse<ArticleResponse>> list(@RequestParam String applicationId,
                                                               @RequestParam(required = false) ContentStatus status,
                                                               @RequestParam(defaultValue = "0") int page,
-                                                              @RequestParam(defaultValue = "10") int size) {
-        PageResult<ArticleDto> result = articleUseCase.list(applicationId, status, new PageRequest(page, size));
+                                                              @RequestParam(defaultValue = "10") int size,
+                                                              @RequestParam(defaultValue = "EXACT") CountMode count) {
+        PageResult<ArticleDto> result = articleUseCase.list(applicationId, status, new PageRequest(page, size, count));
         return ResponseEntity.ok(mapper.toArticlePage(result));
     }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam String applicationId,
+                                                        @RequestParam(required = false) Instant updatedSince) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        ContentExport<ArticleDto> export = exportUseCase.exportArticles(applicationId, updatedSince, allowed);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(exportWriter.write(export, mapper::toArticleResponse));
+    }
 }
@@ -0,0 +1,40 @@
+package com.contentplatform.backend.interfaces.web.controller;
+
+import com.contentplatform.backend.application.port.out.CacheStatistics;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.interfaces.web.response.CacheStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+public class AdminCacheController {
+    private final List<SlugCache<?>> caches;
+
+    public AdminCacheController(List<SlugCache<?>> caches) {
+        this.caches = caches;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> stats() {
+        List<CacheStatsResponse> items = caches.stream()
+            .map(SlugCache::statistics)
+            .map(this::toResponse)
+            .toList();
+        return ResponseEntity.ok(items);
+    }
+
+    private CacheStatsResponse toResponse(CacheStatistics statistics) {
+        return new CacheStatsResponse(
+            statistics.name(),
+            statistics.size(),
+            statistics.hits(),
+            statistics.misses(),
+            statistics.evictions()
+        );
+    }
+}
@@ -2,12 +2,19 @@ package com.contentplatform.backend.interfaces.web.controller;
 
 import com.contentplatform.backend.application.dto.MediaUploadDto;
 import com.contentplatform.backend.application.dto.UploadMediaCommand;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
 import com.contentplatform.backend.application.port.in.MediaUseCase;
 import com.contentplatform.backend.interfaces.web.SecurityUtils;
+import com.contentplatform.backend.interfaces.web.request.CompleteMediaUploadRequest;
+import com.contentplatform.backend.interfaces.web.request.UploadTicketRequest;
 import com.contentplatform.backend.interfaces.web.response.MediaUploadResponse;
+import com.contentplatform.backend.interfaces.web.response.UploadTicketResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -41,4 +48,36 @@ public class AdminMediaController {
         MediaUploadDto dto = mediaUseCase.upload(command, allowed);
         return ResponseEntity.ok(new MediaUploadResponse(dto.objectKey(), dto.contentType(), dto.sizeBytes(), dto.url()));
     }
+
+    @PostMapping("/stream")
+    public ResponseEntity<MediaUploadResponse> uploadStream(@RequestParam("applicationId") String applicationId,
+                                                            @RequestParam(value = "kind", required = false) String kind,
+                                                            @RequestParam(value = "fileName", required = false) String fileName,
+                                                            HttpServletRequest request) throws IOException {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        UploadMediaCommand command = new UploadMediaCommand(
+            applicationId,
+            kind,
+            fileName,
+            request.getContentType() == null ? "application/octet-stream" : request.getContentType(),
+            request.getContentLengthLong(),
+            request.getInputStream()
+        );
+        MediaUploadDto dto = mediaUseCase.uploadStream(command, allowed);
+        return ResponseEntity.ok(new MediaUploadResponse(dto.objectKey(), dto.contentType(), dto.sizeBytes(), dto.url()));
+    }
+
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadTicketResponse> requestUpload(@Valid @RequestBody UploadTicketRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        UploadTicketDto ticket = mediaUseCase.requestUpload(request.getApplicationId(), request.getKind(), request.getFileName(), allowed);
+        return ResponseEntity.ok(new UploadTicketResponse(ticket.objectKey(), ticket.uploadUrl(), ticket.uploadToken(), ticket.expiresAt()));
+    }
+
+    @PostMapping("/uploads/complete")
+    public ResponseEntity<MediaUploadResponse> completeUpload(@Valid @RequestBody CompleteMediaUploadRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        MediaUploadDto dto = mediaUseCase.completeUpload(request.getApplicationId(), request.getObjectKey(), request.getUploadToken(), allowed);
+        return ResponseEntity.ok(new MediaUploadResponse(dto.objectKey(), dto.contentType(), dto.sizeBytes(), dto.url()));
+    }
 }
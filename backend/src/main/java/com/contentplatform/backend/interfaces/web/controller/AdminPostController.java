@@ -1,41 +1,75 @@
 package com.contentplatform.backend.interfaces.web.controller;
 
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.ContentExport;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.contentplatform.backend.application.dto.ImportReportDto;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
 import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
 import com.contentplatform.backend.application.dto.UpdatePostCommand;
+import com.contentplatform.backend.application.port.in.ContentExportUseCase;
+import com.contentplatform.backend.application.port.in.ContentImportUseCase;
 import com.contentplatform.backend.application.port.in.PostUseCase;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.interfaces.web.NdjsonExportWriter;
+import com.contentplatform.backend.interfaces.web.NdjsonImportReader;
 import com.contentplatform.backend.interfaces.web.SecurityUtils;
 import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
+import com.contentplatform.backend.interfaces.web.request.BulkChangeStatusRequest;
 import com.contentplatform.backend.interfaces.web.request.ChangeStatusRequest;
 import com.contentplatform.backend.interfaces.web.request.PostUpsertRequest;
+import com.contentplatform.backend.interfaces.web.request.ScheduleRequest;
+import com.contentplatform.backend.interfaces.web.response.BulkStatusChangeResponse;
+import com.contentplatform.backend.interfaces.web.response.ImportReportResponse;
 import com.contentplatform.backend.interfaces.web.response.PageResponse;
 import com.contentplatform.backend.interfaces.web.response.PostResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/admin/posts")
 public class AdminPostController {
     private final PostUseCase postUseCase;
+    private final ContentImportUseCase importUseCase;
+    private final NdjsonImportReader importReader;
+    private final ContentExportUseCase exportUseCase;
+    private final NdjsonExportWriter exportWriter;
     private final WebMapper mapper;
 
-    public AdminPostController(PostUseCase postUseCase, WebMapper mapper) {
+    public AdminPostController(PostUseCase postUseCase,
+                               ContentImportUseCase importUseCase,
+                               NdjsonImportReader importReader,
+                               ContentExportUseCase exportUseCase,
+                               NdjsonExportWriter exportWriter,
+                               WebMapper mapper) {
         this.postUseCase = postUseCase;
+        this.importUseCase = importUseCase;
+        this.importReader = importReader;
+        this.exportUseCase = exportUseCase;
+        this.exportWriter = exportWriter;
         this.mapper = mapper;
     }
 
@@ -55,6 +89,16 @@ public class AdminPostController {
         return ResponseEntity.ok(mapper.toPostResponse(dto));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReportResponse> importNdjson(HttpServletRequest request) throws IOException {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        try (Stream<ImportItem<CreatePostCommand>> items = importReader.read(request.getInputStream(), PostUpsertRequest.class,
+            item -> new CreatePostCommand(item.getApplicationId(), item.getTitle(), item.getSlug(), item.getContent(), item.getStatus()))) {
+            ImportReportDto report = importUseCase.importPosts(items, allowed);
+            return ResponseEntity.ok(mapper.toImportReportResponse(report));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PostResponse> update(@PathVariable String id, @Valid @RequestBody PostUpsertRequest request) {
         List<String> allowed = SecurityUtils.getAllowedApplicationIds();
@@ -72,6 +116,16 @@ public class AdminPostController {
         return ResponseEntity.ok(mapper.toPostResponse(dto));
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusChangeResponse> changeStatuses(@Valid @RequestBody BulkChangeStatusRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        List<StatusChangeResultDto> results = postUseCase.changeStatuses(
+            new BulkChangeStatusCommand(request.getApplicationId(), request.getIds(), request.getStatus()),
+            allowed
+        );
+        return ResponseEntity.ok(mapper.toBulkStatusChangeResponse(results));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<PostResponse> changeStatus(@PathVariable String id, @Valid @RequestBody ChangeStatusRequest request) {
         List<String> allowed = SecurityUtils.getAllowedApplicationIds();
@@ -79,12 +133,33 @@ public class AdminPostController {
         return ResponseEntity.ok(mapper.toPostResponse(dto));
     }
 
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<PostResponse> schedule(@PathVariable String id, @Valid @RequestBody ScheduleRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        PostDto dto = postUseCase.schedule(
+            new ScheduleCommand(id, request.getApplicationId(), request.getPublishAt(), request.getUnpublishAt()),
+            allowed
+        );
+        return ResponseEntity.ok(mapper.toPostResponse(dto));
+    }
+
     @GetMapping
     public ResponseEntity<PageResponse<PostResponse>> list(@RequestParam String applicationId,
                                                            @RequestParam(required = false) ContentStatus status,
                                                            @RequestParam(defaultValue = "0") int page,
-                                                           @RequestParam(defaultValue = "10") int size) {
-        PageResult<PostDto> result = postUseCase.list(applicationId, status, new PageRequest(page, size));
+                                                           @RequestParam(defaultValue = "10") int size,
+                                                           @RequestParam(defaultValue = "EXACT") CountMode count) {
+        PageResult<PostDto> result = postUseCase.list(applicationId, status, new PageRequest(page, size, count));
         return ResponseEntity.ok(mapper.toPostPage(result));
     }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam String applicationId,
+                                                        @RequestParam(required = false) Instant updatedSince) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        ContentExport<PostDto> export = exportUseCase.exportPosts(applicationId, updatedSince, allowed);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(exportWriter.write(export, mapper::toPostResponse));
+    }
 }
@@ -0,0 +1,75 @@
+package com.contentplatform.backend.interfaces.web.controller;
+
+import com.contentplatform.backend.application.dto.CreateUploadSessionCommand;
+import com.contentplatform.backend.application.dto.UploadSessionDto;
+import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.port.in.UploadSessionUseCase;
+import com.contentplatform.backend.interfaces.web.SecurityUtils;
+import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
+import com.contentplatform.backend.interfaces.web.request.CreateUploadSessionRequest;
+import com.contentplatform.backend.interfaces.web.response.UploadSessionResponse;
+import com.contentplatform.backend.interfaces.web.response.VideoResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/videos/upload-sessions")
+public class AdminUploadSessionController {
+    private final UploadSessionUseCase uploadSessionUseCase;
+    private final WebMapper mapper;
+
+    public AdminUploadSessionController(UploadSessionUseCase uploadSessionUseCase, WebMapper mapper) {
+        this.uploadSessionUseCase = uploadSessionUseCase;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> create(@Valid @RequestBody CreateUploadSessionRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        CreateUploadSessionCommand command = new CreateUploadSessionCommand(
+            request.getApplicationId(),
+            request.getTitle(),
+            request.getDescription(),
+            request.getStatus(),
+            request.getFileName(),
+            request.getContentType() == null ? "application/octet-stream" : request.getContentType(),
+            request.getTotalSizeBytes()
+        );
+        UploadSessionDto dto = uploadSessionUseCase.create(command, allowed);
+        return ResponseEntity.ok(mapper.toUploadSessionResponse(dto));
+    }
+
+    @PutMapping("/{id}/chunks/{partNumber}")
+    public ResponseEntity<UploadSessionResponse> uploadChunk(@PathVariable String id,
+                                                             @PathVariable int partNumber,
+                                                             HttpServletRequest request) throws IOException {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        UploadSessionDto dto = uploadSessionUseCase.uploadChunk(id, partNumber, request.getInputStream(), request.getContentLengthLong(), allowed);
+        return ResponseEntity.ok(mapper.toUploadSessionResponse(dto));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UploadSessionResponse> get(@PathVariable String id) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        UploadSessionDto dto = uploadSessionUseCase.get(id, allowed);
+        return ResponseEntity.ok(mapper.toUploadSessionResponse(dto));
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<VideoResponse> complete(@PathVariable String id) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        VideoDto dto = uploadSessionUseCase.complete(id, allowed);
+        return ResponseEntity.ok(mapper.toVideoResponse(dto, null));
+    }
+}
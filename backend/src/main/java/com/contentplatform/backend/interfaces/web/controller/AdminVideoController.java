@@ -1,17 +1,37 @@
 package com.contentplatform.backend.interfaces.web.controller;
 
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
 import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CompleteVideoUploadCommand;
+import com.contentplatform.backend.application.dto.ContentExport;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
+import com.contentplatform.backend.application.dto.SubmitVideoCommand;
 import com.contentplatform.backend.application.dto.UploadVideoCommand;
 import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.dto.VideoProcessingJobDto;
+import com.contentplatform.backend.application.port.in.ContentExportUseCase;
+import com.contentplatform.backend.application.port.in.VideoProcessingUseCase;
 import com.contentplatform.backend.application.port.in.VideoUseCase;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.interfaces.web.NdjsonExportWriter;
 import com.contentplatform.backend.interfaces.web.SecurityUtils;
 import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
+import com.contentplatform.backend.interfaces.web.request.BulkChangeStatusRequest;
 import com.contentplatform.backend.interfaces.web.request.ChangeStatusRequest;
+import com.contentplatform.backend.interfaces.web.request.CompleteVideoUploadRequest;
+import com.contentplatform.backend.interfaces.web.request.ScheduleRequest;
+import com.contentplatform.backend.interfaces.web.request.UploadTicketRequest;
+import com.contentplatform.backend.interfaces.web.response.BulkStatusChangeResponse;
 import com.contentplatform.backend.interfaces.web.response.PageResponse;
+import com.contentplatform.backend.interfaces.web.response.UploadTicketResponse;
+import com.contentplatform.backend.interfaces.web.response.VideoJobResponse;
 import com.contentplatform.backend.interfaces.web.response.VideoResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,23 +39,37 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/admin/videos")
 public class AdminVideoController {
     private final VideoUseCase videoUseCase;
+    private final VideoProcessingUseCase processingUseCase;
+    private final ContentExportUseCase exportUseCase;
+    private final NdjsonExportWriter exportWriter;
     private final WebMapper mapper;
 
-    public AdminVideoController(VideoUseCase videoUseCase, WebMapper mapper) {
+    public AdminVideoController(VideoUseCase videoUseCase,
+                                VideoProcessingUseCase processingUseCase,
+                                ContentExportUseCase exportUseCase,
+                                NdjsonExportWriter exportWriter,
+                                WebMapper mapper) {
         this.videoUseCase = videoUseCase;
+        this.processingUseCase = processingUseCase;
+        this.exportUseCase = exportUseCase;
+        this.exportWriter = exportWriter;
         this.mapper = mapper;
     }
 
@@ -60,6 +94,88 @@ public class AdminVideoController {
         return ResponseEntity.ok(mapper.toVideoResponse(dto, null));
     }
 
+    @PostMapping(value = "/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<VideoJobResponse> uploadAsync(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam("title") String title,
+                                                        @RequestParam(value = "description", required = false) String description,
+                                                        @RequestParam("applicationId") String applicationId,
+                                                        @RequestParam("status") ContentStatus status) throws IOException {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        SubmitVideoCommand command = new SubmitVideoCommand(
+            applicationId,
+            title,
+            description,
+            status,
+            file.getOriginalFilename(),
+            file.getContentType() == null ? "application/octet-stream" : file.getContentType(),
+            target -> file.transferTo(target.toFile())
+        );
+        VideoProcessingJobDto job = processingUseCase.submit(command, allowed);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/admin/videos/jobs/" + job.jobId()))
+            .body(mapper.toVideoJobResponse(job));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<VideoJobResponse> getJob(@PathVariable String jobId) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        return ResponseEntity.ok(mapper.toVideoJobResponse(processingUseCase.getJob(jobId, allowed)));
+    }
+
+    @PostMapping("/stream")
+    public ResponseEntity<VideoResponse> uploadStream(@RequestParam("title") String title,
+                                                      @RequestParam(value = "description", required = false) String description,
+                                                      @RequestParam("applicationId") String applicationId,
+                                                      @RequestParam("status") ContentStatus status,
+                                                      @RequestParam(value = "fileName", required = false) String fileName,
+                                                      HttpServletRequest request) throws IOException {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        UploadVideoCommand command = new UploadVideoCommand(
+            applicationId,
+            title,
+            description,
+            status,
+            fileName,
+            request.getContentType() == null ? "application/octet-stream" : request.getContentType(),
+            request.getContentLengthLong(),
+            request.getInputStream()
+        );
+        VideoDto dto = videoUseCase.uploadStream(command, allowed);
+        return ResponseEntity.ok(mapper.toVideoResponse(dto, null));
+    }
+
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadTicketResponse> requestUpload(@Valid @RequestBody UploadTicketRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        UploadTicketDto ticket = videoUseCase.requestUpload(request.getApplicationId(), request.getFileName(), allowed);
+        return ResponseEntity.ok(new UploadTicketResponse(ticket.objectKey(), ticket.uploadUrl(), ticket.uploadToken(), ticket.expiresAt()));
+    }
+
+    @PostMapping("/uploads/complete")
+    public ResponseEntity<VideoResponse> completeUpload(@Valid @RequestBody CompleteVideoUploadRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        CompleteVideoUploadCommand command = new CompleteVideoUploadCommand(
+            request.getApplicationId(),
+            request.getObjectKey(),
+            request.getUploadToken(),
+            request.getTitle(),
+            request.getDescription(),
+            request.getStatus()
+        );
+        VideoDto dto = videoUseCase.completeUpload(command, allowed);
+        return ResponseEntity.ok(mapper.toVideoResponse(dto, null));
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusChangeResponse> changeStatuses(@Valid @RequestBody BulkChangeStatusRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        List<StatusChangeResultDto> results = videoUseCase.changeStatuses(
+            new BulkChangeStatusCommand(request.getApplicationId(), request.getIds(), request.getStatus()),
+            allowed
+        );
+        return ResponseEntity.ok(mapper.toBulkStatusChangeResponse(results));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<VideoResponse> changeStatus(@PathVariable String id, @Valid @RequestBody ChangeStatusRequest request) {
         List<String> allowed = SecurityUtils.getAllowedApplicationIds();
@@ -67,12 +183,33 @@ public class AdminVideoController {
         return ResponseEntity.ok(mapper.toVideoResponse(dto, null));
     }
 
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<VideoResponse> schedule(@PathVariable String id, @Valid @RequestBody ScheduleRequest request) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        VideoDto dto = videoUseCase.schedule(
+            new ScheduleCommand(id, request.getApplicationId(), request.getPublishAt(), request.getUnpublishAt()),
+            allowed
+        );
+        return ResponseEntity.ok(mapper.toVideoResponse(dto, null));
+    }
+
     @GetMapping
     public ResponseEntity<PageResponse<VideoResponse>> list(@RequestParam String applicationId,
                                                             @RequestParam(required = false) ContentStatus status,
                                                             @RequestParam(defaultValue = "0") int page,
-                                                            @RequestParam(defaultValue = "10") int size) {
-        PageResult<VideoDto> result = videoUseCase.list(applicationId, status, new PageRequest(page, size));
+                                                            @RequestParam(defaultValue = "10") int size,
+                                                            @RequestParam(defaultValue = "EXACT") CountMode count) {
+        PageResult<VideoDto> result = videoUseCase.list(applicationId, status, new PageRequest(page, size, count));
         return ResponseEntity.ok(mapper.toVideoPage(result, video -> null));
     }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam String applicationId,
+                                                        @RequestParam(required = false) Instant updatedSince) {
+        List<String> allowed = SecurityUtils.getAllowedApplicationIds();
+        ContentExport<VideoDto> export = exportUseCase.exportVideos(applicationId, updatedSince, allowed);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(exportWriter.write(export, video -> mapper.toVideoResponse(video, null)));
+    }
 }
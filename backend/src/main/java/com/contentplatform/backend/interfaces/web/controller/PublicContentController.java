@@ -1,84 +1,222 @@
 package com.contentplatform.backend.interfaces.web.controller;
 
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.ArticleReadModel;
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.dto.CountMode;
+import com.contentplatform.backend.application.dto.CursorPageResult;
+import com.contentplatform.backend.application.dto.CursorRequest;
 import com.contentplatform.backend.application.dto.PageRequest;
 import com.contentplatform.backend.application.dto.PageResult;
 import com.contentplatform.backend.application.dto.PostDto;
-import com.contentplatform.backend.application.dto.ArticleDto;
-import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.dto.PostReadModel;
+import com.contentplatform.backend.application.dto.VideoReadModel;
 import com.contentplatform.backend.application.exception.NotFoundException;
 import com.contentplatform.backend.application.port.in.ArticleUseCase;
 import com.contentplatform.backend.application.port.in.PostUseCase;
-import com.contentplatform.backend.application.port.in.VideoUseCase;
+import com.contentplatform.backend.application.port.in.PublicContentQueryUseCase;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.interfaces.web.ConditionalRequests;
 import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
 import com.contentplatform.backend.interfaces.web.response.ArticleResponse;
+import com.contentplatform.backend.interfaces.web.response.CursorPageResponse;
 import com.contentplatform.backend.interfaces.web.response.PageResponse;
 import com.contentplatform.backend.interfaces.web.response.PostResponse;
-import com.contentplatform.backend.interfaces.web.response.VideoResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/public")
 public class PublicContentController {
+    private static final Function<VideoReadModel, String> VIDEO_FINGERPRINT =
+        video -> video.id() + ":" + video.updatedAt() + ":" + video.presignedUrl();
+
     private final PostUseCase postUseCase;
     private final ArticleUseCase articleUseCase;
-    private final VideoUseCase videoUseCase;
+    private final PublicContentQueryUseCase queryUseCase;
     private final WebMapper mapper;
 
-    public PublicContentController(PostUseCase postUseCase, ArticleUseCase articleUseCase, VideoUseCase videoUseCase, WebMapper mapper) {
+    public PublicContentController(PostUseCase postUseCase,
+                                   ArticleUseCase articleUseCase,
+                                   PublicContentQueryUseCase queryUseCase,
+                                   WebMapper mapper) {
         this.postUseCase = postUseCase;
         this.articleUseCase = articleUseCase;
-        this.videoUseCase = videoUseCase;
+        this.queryUseCase = queryUseCase;
         this.mapper = mapper;
     }
 
     @GetMapping("/{applicationId}/posts")
-    public ResponseEntity<PageResponse<PostResponse>> listPosts(@PathVariable String applicationId,
-                                                                @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
-                                                                @RequestParam(defaultValue = "0") int page,
-                                                                @RequestParam(defaultValue = "10") int size) {
-        PageResult<PostDto> result = postUseCase.list(applicationId, status, new PageRequest(page, size));
-        return ResponseEntity.ok(mapper.toPostPage(result));
+    public ResponseEntity<PageResponse<?>> listPosts(@PathVariable String applicationId,
+                                                     @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "10") int size,
+                                                     @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                     @RequestParam(defaultValue = "false") boolean full,
+                                                     @RequestParam(defaultValue = "0") int excerptLength,
+                                                     WebRequest request) {
+        PageRequest pageRequest = new PageRequest(page, size, count);
+        if (full) {
+            PageResult<PostReadModel> result = queryUseCase.listPosts(applicationId, status, pageRequest);
+            if (isNotModified(request, result, PostReadModel::id, PostReadModel::updatedAt)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
+        }
+        PageResult<ContentSummaryReadModel> result = queryUseCase.listPostSummaries(applicationId, status, pageRequest, excerptLength);
+        if (isNotModified(request, result, ContentSummaryReadModel::id, ContentSummaryReadModel::updatedAt)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
+    }
+
+    @GetMapping(value = "/{applicationId}/posts", params = "cursor")
+    public ResponseEntity<CursorPageResponse<PostReadModel>> listPostsByCursor(@PathVariable String applicationId,
+                                                                               @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                                               @RequestParam String cursor,
+                                                                               @RequestParam(defaultValue = "10") int size,
+                                                                               WebRequest request) {
+        CursorPageResult<PostReadModel> result = queryUseCase.listPostsByCursor(applicationId, status, new CursorRequest(cursor, size));
+        if (ConditionalRequests.isNotModified(request, result.getItems(), PostReadModel::id, PostReadModel::updatedAt, result.getNextCursor())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toCursorPage(result));
+    }
+
+    @GetMapping(value = "/{applicationId}/posts", params = "q")
+    public ResponseEntity<PageResponse<ContentSummaryReadModel>> searchPosts(@PathVariable String applicationId,
+                                                                             @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                                             @RequestParam String q,
+                                                                             @RequestParam(defaultValue = "0") int page,
+                                                                             @RequestParam(defaultValue = "10") int size,
+                                                                             @RequestParam(defaultValue = "0") int excerptLength,
+                                                                             WebRequest request) {
+        PageResult<ContentSummaryReadModel> result = queryUseCase.searchPosts(applicationId, status, q, new PageRequest(page, size), excerptLength);
+        if (isNotModified(request, result, ContentSummaryReadModel::id, ContentSummaryReadModel::updatedAt)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
     }
 
     @GetMapping("/{applicationId}/posts/{slug}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable String applicationId, @PathVariable String slug) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable String applicationId,
+                                                @PathVariable String slug,
+                                                WebRequest request) {
         PostDto dto = postUseCase.getBySlug(applicationId, slug);
         if (dto.getStatus() != ContentStatus.PUBLISHED) {
             throw new NotFoundException("Post not found");
         }
-        return ResponseEntity.ok(mapper.toPostResponse(dto));
+        if (ConditionalRequests.isNotModified(request, dto.getId(), dto.getUpdatedAt())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPostResponse(dto));
     }
 
     @GetMapping("/{applicationId}/articles")
-    public ResponseEntity<PageResponse<ArticleResponse>> listArticles(@PathVariable String applicationId,
-                                                                       @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
-                                                                       @RequestParam(defaultValue = "0") int page,
-                                                                       @RequestParam(defaultValue = "10") int size) {
-        PageResult<ArticleDto> result = articleUseCase.list(applicationId, status, new PageRequest(page, size));
-        return ResponseEntity.ok(mapper.toArticlePage(result));
+    public ResponseEntity<PageResponse<?>> listArticles(@PathVariable String applicationId,
+                                                        @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "10") int size,
+                                                        @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                        @RequestParam(defaultValue = "false") boolean full,
+                                                        @RequestParam(defaultValue = "0") int excerptLength,
+                                                        WebRequest request) {
+        PageRequest pageRequest = new PageRequest(page, size, count);
+        if (full) {
+            PageResult<ArticleReadModel> result = queryUseCase.listArticles(applicationId, status, pageRequest);
+            if (isNotModified(request, result, ArticleReadModel::id, ArticleReadModel::updatedAt)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
+        }
+        PageResult<ContentSummaryReadModel> result = queryUseCase.listArticleSummaries(applicationId, status, pageRequest, excerptLength);
+        if (isNotModified(request, result, ContentSummaryReadModel::id, ContentSummaryReadModel::updatedAt)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
+    }
+
+    @GetMapping(value = "/{applicationId}/articles", params = "cursor")
+    public ResponseEntity<CursorPageResponse<ArticleReadModel>> listArticlesByCursor(@PathVariable String applicationId,
+                                                                                     @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                                                     @RequestParam String cursor,
+                                                                                     @RequestParam(defaultValue = "10") int size,
+                                                                                     WebRequest request) {
+        CursorPageResult<ArticleReadModel> result = queryUseCase.listArticlesByCursor(applicationId, status, new CursorRequest(cursor, size));
+        if (ConditionalRequests.isNotModified(request, result.getItems(), ArticleReadModel::id, ArticleReadModel::updatedAt, result.getNextCursor())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toCursorPage(result));
+    }
+
+    @GetMapping(value = "/{applicationId}/articles", params = "q")
+    public ResponseEntity<PageResponse<ContentSummaryReadModel>> searchArticles(@PathVariable String applicationId,
+                                                                                @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                                                @RequestParam String q,
+                                                                                @RequestParam(defaultValue = "0") int page,
+                                                                                @RequestParam(defaultValue = "10") int size,
+                                                                                @RequestParam(defaultValue = "0") int excerptLength,
+                                                                                WebRequest request) {
+        PageResult<ContentSummaryReadModel> result = queryUseCase.searchArticles(applicationId, status, q, new PageRequest(page, size), excerptLength);
+        if (isNotModified(request, result, ContentSummaryReadModel::id, ContentSummaryReadModel::updatedAt)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
     }
 
     @GetMapping("/{applicationId}/articles/{slug}")
-    public ResponseEntity<ArticleResponse> getArticle(@PathVariable String applicationId, @PathVariable String slug) {
+    public ResponseEntity<ArticleResponse> getArticle(@PathVariable String applicationId,
+                                                      @PathVariable String slug,
+                                                      WebRequest request) {
         ArticleDto dto = articleUseCase.getBySlug(applicationId, slug);
         if (dto.getStatus() != ContentStatus.PUBLISHED) {
             throw new NotFoundException("Article not found");
         }
-        return ResponseEntity.ok(mapper.toArticleResponse(dto));
+        if (ConditionalRequests.isNotModified(request, dto.getId(), dto.getUpdatedAt())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toArticleResponse(dto));
     }
 
     @GetMapping("/{applicationId}/videos")
-    public ResponseEntity<PageResponse<VideoResponse>> listVideos(@PathVariable String applicationId,
+    public ResponseEntity<PageResponse<VideoReadModel>> listVideos(@PathVariable String applicationId,
                                                                    @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
                                                                    @RequestParam(defaultValue = "0") int page,
-                                                                   @RequestParam(defaultValue = "10") int size) {
-        PageResult<VideoDto> result = videoUseCase.list(applicationId, status, new PageRequest(page, size));
-        return ResponseEntity.ok(mapper.toVideoPage(result, video -> videoUseCase.getPresignedUrl(video.getObjectKey())));
+                                                                   @RequestParam(defaultValue = "10") int size,
+                                                                   @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                                   WebRequest request) {
+        PageResult<VideoReadModel> result = queryUseCase.listVideos(applicationId, status, new PageRequest(page, size, count));
+        if (ConditionalRequests.isTagNotModified(request, result.getItems(), VIDEO_FINGERPRINT, result.getTotalElements(), result.getTotalPages(), result.isHasNext())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toPage(result));
+    }
+
+    @GetMapping(value = "/{applicationId}/videos", params = "cursor")
+    public ResponseEntity<CursorPageResponse<VideoReadModel>> listVideosByCursor(@PathVariable String applicationId,
+                                                                                 @RequestParam(defaultValue = "PUBLISHED") ContentStatus status,
+                                                                                 @RequestParam String cursor,
+                                                                                 @RequestParam(defaultValue = "10") int size,
+                                                                                 WebRequest request) {
+        CursorPageResult<VideoReadModel> result = queryUseCase.listVideosByCursor(applicationId, status, new CursorRequest(cursor, size));
+        if (ConditionalRequests.isTagNotModified(request, result.getItems(), VIDEO_FINGERPRINT, result.getNextCursor())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapper.toCursorPage(result));
+    }
+
+    private <T> boolean isNotModified(WebRequest request, PageResult<T> result, Function<T, String> id, Function<T, Instant> updatedAt) {
+        return ConditionalRequests.isNotModified(request, result.getItems(), id, updatedAt,
+            result.getTotalElements(), result.getTotalPages(), result.isHasNext());
     }
 }
@@ -1,14 +1,28 @@
 package com.contentplatform.backend.interfaces.web.mapper;
 
-import com.contentplatform.backend.application.dto.ArticleDto;
 import com.contentplatform.backend.application.dto.ApplicationDto;
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.CursorPageResult;
+import com.contentplatform.backend.application.dto.ImportReportDto;
 import com.contentplatform.backend.application.dto.PageResult;
 import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
+import com.contentplatform.backend.application.dto.UploadSessionDto;
 import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.dto.VideoProcessingJobDto;
 import com.contentplatform.backend.interfaces.web.response.ApplicationResponse;
 import com.contentplatform.backend.interfaces.web.response.ArticleResponse;
+import com.contentplatform.backend.interfaces.web.response.BulkStatusChangeResponse;
+import com.contentplatform.backend.interfaces.web.response.CursorPageResponse;
+import com.contentplatform.backend.interfaces.web.response.ImportErrorResponse;
+import com.contentplatform.backend.interfaces.web.response.ImportReportResponse;
 import com.contentplatform.backend.interfaces.web.response.PageResponse;
 import com.contentplatform.backend.interfaces.web.response.PostResponse;
+import com.contentplatform.backend.interfaces.web.response.StatusChangeResultResponse;
+import com.contentplatform.backend.interfaces.web.response.UploadSessionResponse;
+import com.contentplatform.backend.interfaces.web.response.UploadedRangeResponse;
+import com.contentplatform.backend.interfaces.web.response.VideoJobResponse;
 import com.contentplatform.backend.interfaces.web.response.VideoResponse;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +39,8 @@ public class WebMapper {
             dto.getContent(),
             dto.getStatus(),
             dto.getPublishedAt(),
+            dto.getPublishAt(),
+            dto.getUnpublishAt(),
             dto.getCreatedAt(),
             dto.getUpdatedAt()
         );
@@ -43,6 +59,8 @@ public class WebMapper {
             dto.getContent(),
             dto.getStatus(),
             dto.getPublishedAt(),
+            dto.getPublishAt(),
+            dto.getUnpublishAt(),
             dto.getCreatedAt(),
             dto.getUpdatedAt()
         );
@@ -56,29 +74,80 @@ public class WebMapper {
             dto.getDescription(),
             dto.getStatus(),
             dto.getPublishedAt(),
+            dto.getPublishAt(),
+            dto.getUnpublishAt(),
             dto.getObjectKey(),
             dto.getContentType(),
             dto.getSizeBytes(),
+            dto.getProcessingState(),
             dto.getCreatedAt(),
             dto.getUpdatedAt(),
             presignedUrl
         );
     }
 
+    public <T> PageResponse<T> toPage(PageResult<T> page) {
+        return new PageResponse<>(page.getItems(), page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize(),
+            page.isHasNext(), page.isTotalEstimated());
+    }
+
+    public <T> CursorPageResponse<T> toCursorPage(CursorPageResult<T> page) {
+        return new CursorPageResponse<>(page.getItems(), page.getNextCursor(), page.getSize());
+    }
+
     public PageResponse<PostResponse> toPostPage(PageResult<PostDto> page) {
         List<PostResponse> items = page.getItems().stream().map(this::toPostResponse).toList();
-        return new PageResponse<>(items, page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize());
+        return new PageResponse<>(items, page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize(),
+            page.isHasNext(), page.isTotalEstimated());
     }
 
     public PageResponse<ArticleResponse> toArticlePage(PageResult<ArticleDto> page) {
         List<ArticleResponse> items = page.getItems().stream().map(this::toArticleResponse).toList();
-        return new PageResponse<>(items, page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize());
+        return new PageResponse<>(items, page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize(),
+            page.isHasNext(), page.isTotalEstimated());
     }
 
     public PageResponse<VideoResponse> toVideoPage(PageResult<VideoDto> page, java.util.function.Function<VideoDto, String> presigner) {
         List<VideoResponse> items = page.getItems().stream()
             .map(video -> toVideoResponse(video, presigner.apply(video)))
             .toList();
-        return new PageResponse<>(items, page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize());
+        return new PageResponse<>(items, page.getTotalElements(), page.getTotalPages(), page.getPage(), page.getSize(),
+            page.isHasNext(), page.isTotalEstimated());
+    }
+
+    public BulkStatusChangeResponse toBulkStatusChangeResponse(List<StatusChangeResultDto> results) {
+        List<StatusChangeResultResponse> items = results.stream()
+            .map(result -> new StatusChangeResultResponse(result.id(), result.outcome(), result.previousStatus(), result.status(), result.publishedAt()))
+            .toList();
+        int updated = (int) results.stream().filter(result -> result.outcome() == StatusChangeOutcome.UPDATED).count();
+        return new BulkStatusChangeResponse(updated, results.size() - updated, items);
+    }
+
+    public ImportReportResponse toImportReportResponse(ImportReportDto dto) {
+        List<ImportErrorResponse> errors = dto.errors().stream()
+            .map(error -> new ImportErrorResponse(error.lineNumber(), error.message()))
+            .toList();
+        return new ImportReportResponse(dto.received(), dto.imported(), dto.failed(), errors, dto.errorsTruncated());
+    }
+
+    public VideoJobResponse toVideoJobResponse(VideoProcessingJobDto dto) {
+        return new VideoJobResponse(dto.jobId(), dto.applicationId(), dto.objectKey(), dto.state(), dto.submittedAt(), dto.updatedAt());
+    }
+
+    public UploadSessionResponse toUploadSessionResponse(UploadSessionDto dto) {
+        List<UploadedRangeResponse> ranges = dto.receivedRanges().stream()
+            .map(range -> new UploadedRangeResponse(range.partNumber(), range.offset(), range.sizeBytes()))
+            .toList();
+        return new UploadSessionResponse(
+            dto.id(),
+            dto.applicationId(),
+            dto.objectKey(),
+            dto.state(),
+            dto.totalSizeBytes(),
+            dto.chunkSizeBytes(),
+            dto.totalParts(),
+            ranges,
+            dto.videoId()
+        );
     }
 }
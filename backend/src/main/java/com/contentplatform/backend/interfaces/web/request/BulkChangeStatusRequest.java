@@ -0,0 +1,45 @@
+package com.contentplatform.backend.interfaces.web.request;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BulkChangeStatusRequest {
+    @NotBlank
+    private String applicationId;
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotBlank String> ids;
+
+    @NotNull
+    private ContentStatus status;
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContentStatus status) {
+        this.status = status;
+    }
+}
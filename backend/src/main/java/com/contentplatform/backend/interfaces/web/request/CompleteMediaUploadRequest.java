@@ -0,0 +1,38 @@
+package com.contentplatform.backend.interfaces.web.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class CompleteMediaUploadRequest {
+    @NotBlank
+    private String applicationId;
+
+    @NotBlank
+    private String objectKey;
+
+    @NotBlank
+    private String uploadToken;
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public void setObjectKey(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public String getUploadToken() {
+        return uploadToken;
+    }
+
+    public void setUploadToken(String uploadToken) {
+        this.uploadToken = uploadToken;
+    }
+}
@@ -0,0 +1,72 @@
+package com.contentplatform.backend.interfaces.web.request;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class CompleteVideoUploadRequest {
+    @NotBlank
+    private String applicationId;
+
+    @NotBlank
+    private String objectKey;
+
+    @NotBlank
+    private String uploadToken;
+
+    @NotBlank
+    private String title;
+
+    private String description;
+
+    @NotNull
+    private ContentStatus status;
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public void setObjectKey(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    public String getUploadToken() {
+        return uploadToken;
+    }
+
+    public void setUploadToken(String uploadToken) {
+        this.uploadToken = uploadToken;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContentStatus status) {
+        this.status = status;
+    }
+}
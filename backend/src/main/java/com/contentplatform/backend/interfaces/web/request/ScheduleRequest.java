@@ -0,0 +1,38 @@
+package com.contentplatform.backend.interfaces.web.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+
+public class ScheduleRequest {
+    @NotBlank
+    private String applicationId;
+
+    private Instant publishAt;
+
+    private Instant unpublishAt;
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public void setPublishAt(Instant publishAt) {
+        this.publishAt = publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
+    public void setUnpublishAt(Instant unpublishAt) {
+        this.unpublishAt = unpublishAt;
+    }
+}
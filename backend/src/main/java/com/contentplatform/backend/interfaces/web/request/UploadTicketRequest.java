@@ -0,0 +1,36 @@
+package com.contentplatform.backend.interfaces.web.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class UploadTicketRequest {
+    @NotBlank
+    private String applicationId;
+
+    private String fileName;
+
+    private String kind;
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+}
@@ -0,0 +1,27 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import java.util.List;
+
+public class BulkStatusChangeResponse {
+    private final int updated;
+    private final int notFound;
+    private final List<StatusChangeResultResponse> results;
+
+    public BulkStatusChangeResponse(int updated, int notFound, List<StatusChangeResultResponse> results) {
+        this.updated = updated;
+        this.notFound = notFound;
+        this.results = results;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public List<StatusChangeResultResponse> getResults() {
+        return results;
+    }
+}
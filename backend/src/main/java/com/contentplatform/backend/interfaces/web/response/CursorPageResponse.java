@@ -0,0 +1,27 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import java.util.List;
+
+public class CursorPageResponse<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final int size;
+
+    public CursorPageResponse(List<T> items, String nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,19 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+public class ImportErrorResponse {
+    private final long lineNumber;
+    private final String message;
+
+    public ImportErrorResponse(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
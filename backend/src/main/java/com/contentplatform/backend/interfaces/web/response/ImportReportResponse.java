@@ -0,0 +1,39 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import java.util.List;
+
+public class ImportReportResponse {
+    private final long received;
+    private final long imported;
+    private final long failed;
+    private final List<ImportErrorResponse> errors;
+    private final boolean errorsTruncated;
+
+    public ImportReportResponse(long received, long imported, long failed, List<ImportErrorResponse> errors, boolean errorsTruncated) {
+        this.received = received;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<ImportErrorResponse> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+}
@@ -4,28 +4,33 @@ import java.util.List;
 
 public class PageResponse<T> {
     private final List<T> items;
-    private final long totalElements;
-    private final int totalPages;
+    private final Long totalElements;
+    private final Integer totalPages;
     private final int page;
     private final int size;
+    private final boolean hasNext;
+    private final boolean totalEstimated;
 
-    public PageResponse(List<T> items, long totalElements, int totalPages, int page, int size) {
+    public PageResponse(List<T> items, Long totalElements, Integer totalPages, int page, int size,
+                        boolean hasNext, boolean totalEstimated) {
         this.items = items;
         this.totalElements = totalElements;
         this.totalPages = totalPages;
         this.page = page;
         this.size = size;
+        this.hasNext = hasNext;
+        this.totalEstimated = totalEstimated;
     }
 
     public List<T> getItems() {
         return items;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
@@ -36,4 +41,12 @@ public class PageResponse<T> {
     public int getSize() {
         return size;
     }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public boolean isTotalEstimated() {
+        return totalEstimated;
+    }
 }
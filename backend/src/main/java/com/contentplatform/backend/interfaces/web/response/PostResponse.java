@@ -12,11 +12,14 @@ public class PostResponse {
     private final String content;
     private final ContentStatus status;
     private final Instant publishedAt;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
     private final Instant createdAt;
     private final Instant updatedAt;
 
     public PostResponse(String id, String applicationId, String title, String slug, String content,
-                        ContentStatus status, Instant publishedAt, Instant createdAt, Instant updatedAt) {
+                        ContentStatus status, Instant publishedAt, Instant publishAt, Instant unpublishAt,
+                        Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.applicationId = applicationId;
         this.title = title;
@@ -24,6 +27,8 @@ public class PostResponse {
         this.content = content;
         this.status = status;
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -56,6 +61,14 @@ public class PostResponse {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
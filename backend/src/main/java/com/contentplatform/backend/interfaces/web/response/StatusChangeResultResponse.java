@@ -0,0 +1,46 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.domain.value.ContentStatus;
+
+import java.time.Instant;
+
+public class StatusChangeResultResponse {
+    private final String id;
+    private final StatusChangeOutcome outcome;
+    private final ContentStatus previousStatus;
+    private final ContentStatus status;
+    private final Instant publishedAt;
+
+    public StatusChangeResultResponse(String id,
+                                      StatusChangeOutcome outcome,
+                                      ContentStatus previousStatus,
+                                      ContentStatus status,
+                                      Instant publishedAt) {
+        this.id = id;
+        this.outcome = outcome;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.publishedAt = publishedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public StatusChangeOutcome getOutcome() {
+        return outcome;
+    }
+
+    public ContentStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public ContentStatus getStatus() {
+        return status;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+}
@@ -0,0 +1,73 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import com.contentplatform.backend.domain.value.UploadSessionState;
+
+import java.util.List;
+
+public class UploadSessionResponse {
+    private final String id;
+    private final String applicationId;
+    private final String objectKey;
+    private final UploadSessionState state;
+    private final long totalSizeBytes;
+    private final long chunkSizeBytes;
+    private final int totalParts;
+    private final List<UploadedRangeResponse> receivedRanges;
+    private final String videoId;
+
+    public UploadSessionResponse(String id,
+                                 String applicationId,
+                                 String objectKey,
+                                 UploadSessionState state,
+                                 long totalSizeBytes,
+                                 long chunkSizeBytes,
+                                 int totalParts,
+                                 List<UploadedRangeResponse> receivedRanges,
+                                 String videoId) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.objectKey = objectKey;
+        this.state = state;
+        this.totalSizeBytes = totalSizeBytes;
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.totalParts = totalParts;
+        this.receivedRanges = receivedRanges;
+        this.videoId = videoId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public UploadSessionState getState() {
+        return state;
+    }
+
+    public long getTotalSizeBytes() {
+        return totalSizeBytes;
+    }
+
+    public long getChunkSizeBytes() {
+        return chunkSizeBytes;
+    }
+
+    public int getTotalParts() {
+        return totalParts;
+    }
+
+    public List<UploadedRangeResponse> getReceivedRanges() {
+        return receivedRanges;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import java.time.Instant;
+
+public class UploadTicketResponse {
+    private final String objectKey;
+    private final String uploadUrl;
+    private final String uploadToken;
+    private final Instant expiresAt;
+
+    public UploadTicketResponse(String objectKey, String uploadUrl, String uploadToken, Instant expiresAt) {
+        this.objectKey = objectKey;
+        this.uploadUrl = uploadUrl;
+        this.uploadToken = uploadToken;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public String getUploadUrl() {
+        return uploadUrl;
+    }
+
+    public String getUploadToken() {
+        return uploadToken;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
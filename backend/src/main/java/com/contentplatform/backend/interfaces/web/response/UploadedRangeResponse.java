@@ -0,0 +1,27 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+public class UploadedRangeResponse {
+    private final int partNumber;
+    private final long offset;
+    private final long sizeBytes;
+
+    public UploadedRangeResponse(int partNumber,
+                                 long offset,
+                                 long sizeBytes) {
+        this.partNumber = partNumber;
+        this.offset = offset;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+}
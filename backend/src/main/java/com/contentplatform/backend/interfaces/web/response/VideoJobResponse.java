@@ -0,0 +1,52 @@
+package com.contentplatform.backend.interfaces.web.response;
+
+import com.contentplatform.backend.domain.value.ProcessingState;
+
+import java.time.Instant;
+
+public class VideoJobResponse {
+    private final String jobId;
+    private final String applicationId;
+    private final String objectKey;
+    private final ProcessingState state;
+    private final Instant submittedAt;
+    private final Instant updatedAt;
+
+    public VideoJobResponse(String jobId,
+                            String applicationId,
+                            String objectKey,
+                            ProcessingState state,
+                            Instant submittedAt,
+                            Instant updatedAt) {
+        this.jobId = jobId;
+        this.applicationId = applicationId;
+        this.objectKey = objectKey;
+        this.state = state;
+        this.submittedAt = submittedAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public ProcessingState getState() {
+        return state;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.contentplatform.backend.interfaces.web.response;
 
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
 
 import java.time.Instant;
 
@@ -11,9 +12,12 @@ public class VideoResponse {
     private final String description;
     private final ContentStatus status;
     private final Instant publishedAt;
+    private final Instant publishAt;
+    private final Instant unpublishAt;
     private final String objectKey;
     private final String contentType;
     private final long sizeBytes;
+    private final ProcessingState processingState;
     private final Instant createdAt;
     private final Instant updatedAt;
     private final String presignedUrl;
@@ -24,9 +28,12 @@ public class VideoResponse {
                          String description,
                          ContentStatus status,
                          Instant publishedAt,
+                         Instant publishAt,
+                         Instant unpublishAt,
                          String objectKey,
                          String contentType,
                          long sizeBytes,
+                         ProcessingState processingState,
                          Instant createdAt,
                          Instant updatedAt,
                          String presignedUrl) {
@@ -36,9 +43,12 @@ public class VideoResponse {
         this.description = description;
         this.status = status;
         this.publishedAt = publishedAt;
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         this.objectKey = objectKey;
         this.contentType = contentType;
         this.sizeBytes = sizeBytes;
+        this.processingState = processingState;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.presignedUrl = presignedUrl;
@@ -68,6 +78,14 @@ public class VideoResponse {
         return publishedAt;
     }
 
+    public Instant getPublishAt() {
+        return publishAt;
+    }
+
+    public Instant getUnpublishAt() {
+        return unpublishAt;
+    }
+
     public String getObjectKey() {
         return objectKey;
     }
@@ -80,6 +98,10 @@ public class VideoResponse {
         return sizeBytes;
     }
 
+    public ProcessingState getProcessingState() {
+        return processingState;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
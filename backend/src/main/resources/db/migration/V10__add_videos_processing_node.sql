@@ -0,0 +1,3 @@
+alter table videos add column processing_node varchar(255);
+
+create index idx_videos_processing_node on videos (processing_node, updated_at) where processing_state = 'PROCESSING';
@@ -0,0 +1 @@
+create unique index idx_videos_object_key on videos (object_key);
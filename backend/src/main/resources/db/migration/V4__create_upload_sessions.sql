@@ -0,0 +1,26 @@
+create table upload_sessions (
+    id varchar(36) primary key,
+    application_id varchar(36) not null,
+    object_key varchar(512) not null,
+    storage_upload_id varchar(255) not null,
+    title varchar(255) not null,
+    description text,
+    status varchar(16) not null,
+    content_type varchar(255) not null,
+    total_size_bytes bigint not null,
+    chunk_size_bytes bigint not null,
+    state varchar(16) not null,
+    video_id varchar(36),
+    created_at timestamptz not null,
+    updated_at timestamptz not null,
+    constraint fk_upload_sessions_app foreign key (application_id) references applications(id) on delete cascade
+);
+
+create table upload_session_parts (
+    session_id varchar(36) not null,
+    part_number integer not null,
+    etag varchar(255) not null,
+    size_bytes bigint not null,
+    primary key (session_id, part_number),
+    constraint fk_upload_session_parts_session foreign key (session_id) references upload_sessions(id) on delete cascade
+);
@@ -0,0 +1 @@
+alter table videos add column processing_state varchar(16) not null default 'READY';
@@ -0,0 +1,3 @@
+create index idx_posts_app_updated_at on posts (application_id, updated_at, id);
+create index idx_articles_app_updated_at on articles (application_id, updated_at, id);
+create index idx_videos_app_updated_at on videos (application_id, updated_at, id);
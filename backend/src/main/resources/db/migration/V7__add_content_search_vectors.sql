@@ -0,0 +1,14 @@
+alter table posts add column search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) stored;
+
+alter table articles add column search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) stored;
+
+create index idx_posts_search_vector on posts using gin (search_vector);
+create index idx_articles_search_vector on articles using gin (search_vector);
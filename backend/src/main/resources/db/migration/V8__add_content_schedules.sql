@@ -0,0 +1,13 @@
+alter table posts add column publish_at timestamptz;
+alter table posts add column unpublish_at timestamptz;
+alter table articles add column publish_at timestamptz;
+alter table articles add column unpublish_at timestamptz;
+alter table videos add column publish_at timestamptz;
+alter table videos add column unpublish_at timestamptz;
+
+create index idx_posts_publish_at on posts (publish_at) where publish_at is not null;
+create index idx_posts_unpublish_at on posts (unpublish_at) where unpublish_at is not null;
+create index idx_articles_publish_at on articles (publish_at) where publish_at is not null;
+create index idx_articles_unpublish_at on articles (unpublish_at) where unpublish_at is not null;
+create index idx_videos_publish_at on videos (publish_at) where publish_at is not null;
+create index idx_videos_unpublish_at on videos (unpublish_at) where unpublish_at is not null;
@@ -0,0 +1 @@
+create index idx_upload_sessions_state_updated_at on upload_sessions (state, updated_at);
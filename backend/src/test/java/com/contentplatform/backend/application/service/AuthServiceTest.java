@@ -19,7 +19,7 @@ class AuthServiceTest {
     @Test
     void loginReturnsTokenForValidCredentials() {
         AdminUser user = new AdminUser("user-1", "admin@example.com", "hashed", java.util.List.of("app-1"));
-        AdminUserRepository repository = email -> Optional.of(user);
+        AdminUserRepository repository = new SingleUserRepository(user);
         PasswordHasher passwordHasher = (raw, hashed) -> true;
         TokenProvider tokenProvider = adminUser -> "token-123";
 
@@ -33,7 +33,7 @@ class AuthServiceTest {
     @Test
     void loginThrowsWhenPasswordMismatch() {
         AdminUser user = new AdminUser("user-1", "admin@example.com", "hashed", java.util.List.of("app-1"));
-        AdminUserRepository repository = email -> Optional.of(user);
+        AdminUserRepository repository = new SingleUserRepository(user);
         PasswordHasher passwordHasher = (raw, hashed) -> false;
         TokenProvider tokenProvider = adminUser -> "token-123";
 
@@ -42,4 +42,22 @@ class AuthServiceTest {
         assertThrows(UnauthorizedException.class,
             () -> service.login(new LoginCommand("admin@example.com", "wrong")));
     }
+
+    private static class SingleUserRepository implements AdminUserRepository {
+        private final AdminUser user;
+
+        private SingleUserRepository(AdminUser user) {
+            this.user = user;
+        }
+
+        @Override
+        public Optional<AdminUser> findByEmail(String email) {
+            return Optional.of(user);
+        }
+
+        @Override
+        public AdminUser save(AdminUser adminUser) {
+            return adminUser;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.ImportErrorDto;
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.contentplatform.backend.application.dto.ImportReportDto;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.port.out.ArticleRepository;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.domain.model.Post;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentImportServiceTest {
+    private static final List<String> ALLOWED = List.of("app-1");
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    @SuppressWarnings("unchecked")
+    private final SlugCache<PostDto> postSlugCache = mock(SlugCache.class);
+    private final ContentCountCache countCache = mock(ContentCountCache.class);
+    private final List<List<String>> batches = new ArrayList<>();
+
+    @Test
+    void reportsParseAccessAndDuplicateErrorsByLine() {
+        when(postRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            return posts.stream().filter(post -> !post.getSlug().equals("taken")).toList();
+        });
+
+        ImportReportDto report = service(10, 10).importPosts(Stream.of(
+            item(1, "app-1", "first"),
+            ImportItem.failed(2, "Malformed JSON"),
+            item(3, "app-2", "foreign"),
+            item(4, "app-1", "taken"),
+            item(5, "app-1", "second")
+        ), ALLOWED);
+
+        assertThat(report.received()).isEqualTo(5);
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(3);
+        assertThat(report.errors()).containsExactly(
+            new ImportErrorDto(2, "Malformed JSON"),
+            new ImportErrorDto(3, "Application access denied"),
+            new ImportErrorDto(4, "Slug already exists")
+        );
+        assertThat(report.errorsTruncated()).isFalse();
+        verify(postSlugCache).invalidate("app-1", "first");
+        verify(postSlugCache).invalidate("app-1", "second");
+        verify(postSlugCache, never()).invalidate("app-1", "taken");
+        verify(countCache, times(2)).recordCreated(ContentType.POST, "app-1", ContentStatus.DRAFT);
+    }
+
+    @Test
+    void insertsInChunksAndRetriesFailedChunkRowByRow() {
+        when(postRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            batches.add(posts.stream().map(Post::getSlug).toList());
+            if (posts.stream().anyMatch(post -> post.getSlug().equals("broken"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return posts;
+        });
+
+        ImportReportDto report = service(2, 10).importPosts(Stream.of(
+            item(1, "app-1", "one"),
+            item(2, "app-1", "two"),
+            item(3, "app-1", "three"),
+            item(4, "app-1", "broken"),
+            item(5, "app-1", "five")
+        ), ALLOWED);
+
+        assertThat(batches).containsExactly(
+            List.of("one", "two"),
+            List.of("three", "broken"),
+            List.of("three"),
+            List.of("broken"),
+            List.of("five")
+        );
+        assertThat(report.imported()).isEqualTo(4);
+        assertThat(report.errors()).containsExactly(new ImportErrorDto(4, "Rejected by database"));
+    }
+
+    @Test
+    void capsReportedErrorsButCountsEveryFailure() {
+        ImportReportDto report = service(10, 2).importPosts(
+            IntStream.rangeClosed(1, 5).mapToObj(line -> ImportItem.<CreatePostCommand>failed(line, "Malformed JSON")),
+            ALLOWED
+        );
+
+        assertThat(report.failed()).isEqualTo(5);
+        assertThat(report.errors()).extracting(ImportErrorDto::lineNumber).containsExactly(1L, 2L);
+        assertThat(report.errorsTruncated()).isTrue();
+        verify(postRepository, never()).insertAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ContentImportService service(int chunkSize, int maxReportedErrors) {
+        return new ContentImportService(
+            postRepository,
+            mock(ArticleRepository.class),
+            () -> Instant.parse("2024-05-01T12:00:00Z"),
+            () -> UUID.randomUUID().toString(),
+            postSlugCache,
+            (SlugCache<ArticleDto>) mock(SlugCache.class),
+            countCache,
+            chunkSize,
+            maxReportedErrors
+        );
+    }
+
+    private static ImportItem<CreatePostCommand> item(long lineNumber, String applicationId, String slug) {
+        return ImportItem.of(lineNumber, new CreatePostCommand(applicationId, "Title", slug, "content", ContentStatus.DRAFT));
+    }
+}
@@ -0,0 +1,77 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.UploadMediaCommand;
+import com.contentplatform.backend.application.dto.UploadTicketDto;
+import com.contentplatform.backend.application.exception.BadRequestException;
+import com.contentplatform.backend.application.exception.PayloadTooLargeException;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.MediaUploadResult;
+import com.contentplatform.backend.application.port.out.UploadTicketSigner;
+import com.contentplatform.backend.infrastructure.security.HmacUploadTicketSigner;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MediaServiceTest {
+    private static final long MAX_STREAM_BYTES = 16;
+    private static final UploadTicketSigner SIGNER = new HmacUploadTicketSigner("", "test-jwt-secret");
+
+    @Test
+    void uploadStreamRejectsDeclaredLengthOverLimitBeforeTouchingStorage() {
+        MediaStoragePort storage = mock(MediaStoragePort.class);
+        MediaService service = new MediaService(storage, Instant::now, SIGNER, "media", "http://localhost:9000", 900, new StreamUploader(storage, MAX_STREAM_BYTES));
+
+        assertThrows(PayloadTooLargeException.class,
+            () -> service.uploadStream(command(new byte[32], 32), List.of("app-1")));
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    void uploadStreamStopsChunkedBodyOnceItPassesLimit() {
+        MediaStoragePort storage = mock(MediaStoragePort.class);
+        when(storage.uploadStream(anyString(), any(InputStream.class), anyLong(), anyString())).thenAnswer(invocation -> {
+            InputStream body = invocation.getArgument(1);
+            try {
+                body.readAllBytes();
+            } catch (Exception ex) {
+                throw new IllegalStateException("Failed to upload media", ex);
+            }
+            return new MediaUploadResult(invocation.getArgument(0), 0, invocation.getArgument(3));
+        });
+        MediaService service = new MediaService(storage, Instant::now, SIGNER, "media", "http://localhost:9000", 900, new StreamUploader(storage, MAX_STREAM_BYTES));
+
+        assertThrows(PayloadTooLargeException.class,
+            () -> service.uploadStream(command(new byte[32], -1), List.of("app-1")));
+        assertThat(service.uploadStream(command(new byte[16], -1), List.of("app-1")).contentType()).isEqualTo("video/mp4");
+    }
+
+    @Test
+    void completeUploadRejectsObjectKeyThatWasNotIssued() {
+        MediaStoragePort storage = mock(MediaStoragePort.class);
+        when(storage.getPresignedUploadUrl(anyString(), anyInt())).thenReturn("http://upload");
+        MediaService service = new MediaService(storage, Instant::now, SIGNER, "media", "http://localhost:9000", 900, new StreamUploader(storage, MAX_STREAM_BYTES));
+        UploadTicketDto ticket = service.requestUpload("app-1", "image", "a.png", List.of("app-1"));
+
+        assertThrows(BadRequestException.class,
+            () -> service.completeUpload("app-1", "app-1/image/forged.png", ticket.uploadToken(), List.of("app-1")));
+        assertThrows(BadRequestException.class,
+            () -> service.completeUpload("app-2", ticket.objectKey(), ticket.uploadToken(), List.of("app-1", "app-2")));
+    }
+
+    private static UploadMediaCommand command(byte[] body, long declaredSize) {
+        return new UploadMediaCommand("app-1", "video", "clip.mp4", "video/mp4", declaredSize, new ByteArrayInputStream(body));
+    }
+}
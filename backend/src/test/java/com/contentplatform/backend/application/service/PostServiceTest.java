@@ -1,32 +1,64 @@
 package com.contentplatform.backend.application.service;
 
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
+import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CountMode;
 import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.PageRequest;
+import com.contentplatform.backend.application.dto.PageResult;
 import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.ScheduleCommand;
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
+import com.contentplatform.backend.application.dto.UpdatePostCommand;
+import com.contentplatform.backend.application.exception.BadRequestException;
 import com.contentplatform.backend.application.exception.ForbiddenException;
+import com.contentplatform.backend.application.exception.NotFoundException;
 import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.out.CacheStatistics;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.application.port.out.IdGenerator;
 import com.contentplatform.backend.application.port.out.PageSlice;
 import com.contentplatform.backend.application.port.out.PostRepository;
+import com.contentplatform.backend.application.port.out.ScheduledTransition;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.application.port.out.StatusTransition;
 import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.domain.model.ContentSummary;
 import com.contentplatform.backend.domain.model.Post;
 import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PostServiceTest {
+    private static final IdGenerator IDS = () -> UUID.randomUUID().toString();
 
     @Test
     void createPublishedPostSetsPublishedAt() {
         Instant now = Instant.parse("2024-01-01T00:00:00Z");
         InMemoryPostRepository repository = new InMemoryPostRepository();
         TimeProvider timeProvider = () -> now;
-        PostService service = new PostService(repository, timeProvider, new ContentMapper());
+        PostService service = new PostService(repository, timeProvider, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
 
         CreatePostCommand command = new CreatePostCommand(
             "app-1",
@@ -47,7 +79,7 @@ class PostServiceTest {
     void createRejectsUnauthorizedTenant() {
         InMemoryPostRepository repository = new InMemoryPostRepository();
         TimeProvider timeProvider = Instant::now;
-        PostService service = new PostService(repository, timeProvider, new ContentMapper());
+        PostService service = new PostService(repository, timeProvider, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
 
         CreatePostCommand command = new CreatePostCommand(
             "app-1",
@@ -60,8 +92,199 @@ class PostServiceTest {
         assertThrows(ForbiddenException.class, () -> service.create(command, List.of("other-app")));
     }
 
+    @Test
+    void getBySlugIsServedFromCacheUntilPostIsUpdated() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        PostService service = new PostService(repository, Instant::now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+        PostDto created = service.create(
+            new CreatePostCommand("app-1", "Hello", "hello", "content", ContentStatus.PUBLISHED),
+            List.of("app-1")
+        );
+
+        service.getBySlug("app-1", "hello");
+        service.getBySlug("app-1", "hello");
+        assertThat(repository.slugLookups).isEqualTo(1);
+
+        service.update(
+            new UpdatePostCommand(created.getId(), "app-1", "Hello again", "hello", "content", ContentStatus.PUBLISHED),
+            List.of("app-1")
+        );
+
+        assertThat(service.getBySlug("app-1", "hello").getTitle()).isEqualTo("Hello again");
+        assertThat(repository.slugLookups).isEqualTo(2);
+    }
+
+    @Test
+    void updateInvalidatesSlugCacheOnlyAfterCommit() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        PostService service = new PostService(repository, Instant::now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+        PostDto created = service.create(
+            new CreatePostCommand("app-1", "Hello", "hello", "content", ContentStatus.PUBLISHED),
+            List.of("app-1")
+        );
+        service.getBySlug("app-1", "hello");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.update(
+                new UpdatePostCommand(created.getId(), "app-1", "Hello again", "hello", "content", ContentStatus.PUBLISHED),
+                List.of("app-1")
+            );
+            assertThat(service.getBySlug("app-1", "hello").getTitle()).isEqualTo("Hello");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.getBySlug("app-1", "hello").getTitle()).isEqualTo("Hello again");
+    }
+
+    @Test
+    void changeStatusTransitionsWithinTenantWithoutLoadingPost() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        PostService service = new PostService(repository, () -> now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+        PostDto created = service.create(
+            new CreatePostCommand("app-1", "Hello", "hello", "content", ContentStatus.DRAFT),
+            List.of("app-1", "app-2")
+        );
+        repository.findByIdCalls = 0;
+
+        PostDto published = service.changeStatus(new ChangeStatusCommand(created.getId(), "app-1", ContentStatus.PUBLISHED), List.of("app-1", "app-2"));
+
+        assertThat(published.getStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(published.getPublishedAt()).isEqualTo(now);
+        assertThat(repository.findByIdCalls).isZero();
+        assertThrows(NotFoundException.class,
+            () -> service.changeStatus(new ChangeStatusCommand(created.getId(), "app-2", ContentStatus.ARCHIVED), List.of("app-1", "app-2")));
+    }
+
+    @Test
+    void changeStatusesReportsResultPerRequestedId() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        PostService service = new PostService(repository, () -> now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+        PostDto first = service.create(new CreatePostCommand("app-1", "First", "first", "content", ContentStatus.DRAFT), List.of("app-1"));
+        PostDto second = service.create(new CreatePostCommand("app-1", "Second", "second", "content", ContentStatus.PUBLISHED), List.of("app-1"));
+
+        List<StatusChangeResultDto> results = service.changeStatuses(
+            new BulkChangeStatusCommand("app-1", List.of(first.getId(), "missing", second.getId(), first.getId()), ContentStatus.ARCHIVED),
+            List.of("app-1")
+        );
+
+        assertThat(results).extracting(StatusChangeResultDto::id).containsExactly(first.getId(), "missing", second.getId());
+        assertThat(results).extracting(StatusChangeResultDto::outcome)
+            .containsExactly(StatusChangeOutcome.UPDATED, StatusChangeOutcome.NOT_FOUND, StatusChangeOutcome.UPDATED);
+        assertThat(results.get(2).previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(results.get(2).publishedAt()).isNull();
+    }
+
+    @Test
+    void scheduleStoresWindowAndRejectsUnpublishBeforePublish() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        PostService service = new PostService(repository, () -> now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+        PostDto created = service.create(new CreatePostCommand("app-1", "Later", "later", "content", ContentStatus.DRAFT), List.of("app-1"));
+        Instant publishAt = now.plusSeconds(3600);
+
+        PostDto scheduled = service.schedule(new ScheduleCommand(created.getId(), "app-1", publishAt, publishAt.plusSeconds(60)), List.of("app-1"));
+
+        assertThat(scheduled.getStatus()).isEqualTo(ContentStatus.DRAFT);
+        assertThat(scheduled.getPublishAt()).isEqualTo(publishAt);
+        assertThat(scheduled.getUnpublishAt()).isEqualTo(publishAt.plusSeconds(60));
+        assertThrows(BadRequestException.class,
+            () -> service.schedule(new ScheduleCommand(created.getId(), "app-1", publishAt, publishAt), List.of("app-1")));
+    }
+
+    @Test
+    void listWithoutCountSkipsTotalAndReportsHasNext() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        PostService service = new PostService(repository, Instant::now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+
+        PageResult<PostDto> result = service.list("app-1", ContentStatus.PUBLISHED, new PageRequest(0, 10, CountMode.NONE));
+
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(repository.countQueries).isZero();
+    }
+
+    @Test
+    void listWithEstimatedCountUsesCountCache() {
+        InMemoryPostRepository repository = new InMemoryPostRepository();
+        PostService service = new PostService(repository, Instant::now, IDS, new ContentMapper(), new InMemorySlugCache(), new UncachedCountCache());
+
+        PageResult<PostDto> result = service.list("app-1", ContentStatus.PUBLISHED, new PageRequest(0, 10, CountMode.ESTIMATED));
+
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+        assertThat(result.getTotalPages()).isEqualTo(5);
+        assertThat(result.isTotalEstimated()).isTrue();
+        assertThat(repository.countQueries).isEqualTo(1);
+    }
+
+    private static class UncachedCountCache implements ContentCountCache {
+        @Override
+        public long get(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState,
+                        LongSupplier loader) {
+            return loader.getAsLong();
+        }
+
+        @Override
+        public void recordCreated(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState) {
+        }
+
+        @Override
+        public void recordMoved(ContentType type, String fromApplicationId, ContentStatus fromStatus,
+                                String toApplicationId, ContentStatus toStatus, ProcessingState processingState) {
+        }
+
+        @Override
+        public void recordProcessed(ContentType type, String applicationId, ContentStatus status,
+                                    ProcessingState fromState, ProcessingState toState) {
+        }
+    }
+
+    private static class InMemorySlugCache implements SlugCache<PostDto> {
+        private final Map<String, PostDto> store = new HashMap<>();
+
+        @Override
+        public String name() {
+            return "posts-by-slug";
+        }
+
+        @Override
+        public PostDto get(String applicationId, String slug, Supplier<PostDto> loader) {
+            return store.computeIfAbsent(applicationId + "/" + slug, key -> loader.get());
+        }
+
+        @Override
+        public void invalidate(String applicationId, String slug) {
+            store.remove(applicationId + "/" + slug);
+        }
+
+        @Override
+        public CacheStatistics statistics() {
+            return new CacheStatistics(name(), store.size(), 0, 0, 0);
+        }
+    }
+
     private static class InMemoryPostRepository implements PostRepository {
         private final List<Post> store = new ArrayList<>();
+        private int slugLookups;
+        private int countQueries;
+        private int findByIdCalls;
+
+        @Override
+        public Post insert(Post post) {
+            return save(post);
+        }
+
+        @Override
+        public List<Post> insertAll(List<Post> posts) {
+            posts.forEach(this::save);
+            return posts;
+        }
 
         @Override
         public Post save(Post post) {
@@ -70,13 +293,71 @@ class PostServiceTest {
             return post;
         }
 
+        @Override
+        public Optional<StatusTransition<Post>> transitionStatus(String id, String applicationId, ContentStatus status, Instant now) {
+            return store.stream()
+                .filter(post -> post.getId().equals(id) && post.getApplicationId().equals(applicationId))
+                .findFirst()
+                .map(existing -> {
+                    Instant publishedAt = status != ContentStatus.PUBLISHED ? null
+                        : existing.getStatus() != ContentStatus.PUBLISHED ? now : existing.getPublishedAt();
+                    Post updated = new Post(existing.getId(), existing.getApplicationId(), existing.getTitle(), existing.getSlug(),
+                        existing.getContent(), status, publishedAt, existing.getPublishAt(), existing.getUnpublishAt(),
+                        existing.getCreatedAt(), now);
+                    return new StatusTransition<>(save(updated), existing.getStatus());
+                });
+        }
+
+        @Override
+        public List<StatusTransition<ContentSummary>> transitionStatuses(String applicationId, Collection<String> ids,
+                                                                         ContentStatus status, Instant now) {
+            return ids.stream()
+                .flatMap(id -> transitionStatus(id, applicationId, status, now).stream())
+                .map(transition -> new StatusTransition<>(new ContentSummary(transition.content().getId(),
+                    transition.content().getApplicationId(), transition.content().getTitle(), transition.content().getSlug(),
+                    transition.content().getStatus(), transition.content().getPublishedAt(), transition.content().getUpdatedAt(), null),
+                    transition.previousStatus()))
+                .toList();
+        }
+
+        @Override
+        public Optional<Post> updateSchedule(String id, String applicationId, Instant publishAt, Instant unpublishAt, Instant now) {
+            return store.stream()
+                .filter(existing -> existing.getId().equals(id) && existing.getApplicationId().equals(applicationId))
+                .findFirst()
+                .map(existing -> save(new Post(existing.getId(), existing.getApplicationId(), existing.getTitle(), existing.getSlug(),
+                    existing.getContent(), existing.getStatus(), existing.getPublishedAt(), publishAt, unpublishAt,
+                    existing.getCreatedAt(), now)));
+        }
+
+        @Override
+        public List<ScheduledTransition<ContentSummary>> publishDue(Instant now, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<ScheduledTransition<ContentSummary>> unpublishDue(Instant now, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void streamByApplicationId(String applicationId, Instant updatedSince, Consumer<Post> consumer) {
+            store.stream()
+                .filter(post -> post.getApplicationId().equals(applicationId))
+                .filter(post -> updatedSince == null || !post.getUpdatedAt().isBefore(updatedSince))
+                .sorted(Comparator.comparing(Post::getUpdatedAt).thenComparing(Post::getId))
+                .forEach(consumer);
+        }
+
         @Override
         public Optional<Post> findById(String id) {
+            findByIdCalls++;
             return store.stream().filter(post -> post.getId().equals(id)).findFirst();
         }
 
         @Override
         public Optional<Post> findByApplicationIdAndSlug(String applicationId, String slug) {
+            slugLookups++;
             return store.stream()
                 .filter(post -> post.getApplicationId().equals(applicationId) && post.getSlug().equals(slug))
                 .findFirst();
@@ -91,5 +372,27 @@ class PostServiceTest {
         public PageSlice<Post> findByApplicationId(String applicationId, int page, int size) {
             return new PageSlice<>(List.of(), 0, 0, page, size);
         }
+
+        @Override
+        public ContentSlice<Post> findSliceByApplicationIdAndStatus(String applicationId, ContentStatus status, int page, int size) {
+            return new ContentSlice<>(List.of(), page, size, true);
+        }
+
+        @Override
+        public ContentSlice<Post> findSliceByApplicationId(String applicationId, int page, int size) {
+            return new ContentSlice<>(List.of(), page, size, true);
+        }
+
+        @Override
+        public long countByApplicationIdAndStatus(String applicationId, ContentStatus status) {
+            countQueries++;
+            return 42;
+        }
+
+        @Override
+        public long countByApplicationId(String applicationId) {
+            countQueries++;
+            return 42;
+        }
     }
 }
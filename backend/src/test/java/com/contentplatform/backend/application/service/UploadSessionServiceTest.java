@@ -0,0 +1,110 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.UploadSessionRepository;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import com.contentplatform.backend.domain.model.UploadSession;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import com.contentplatform.backend.domain.value.UploadSessionState;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UploadSessionServiceTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    private final UploadSessionRepository sessionRepository = mock(UploadSessionRepository.class);
+    private final MediaStoragePort storage = mock(MediaStoragePort.class);
+    private final VideoRepository videoRepository = mock(VideoRepository.class);
+    private final ContentCountCache countCache = mock(ContentCountCache.class);
+    private final UploadSessionService service = new UploadSessionService(
+        sessionRepository,
+        storage,
+        videoRepository,
+        () -> NOW,
+        () -> "video-1",
+        new ContentMapper(),
+        countCache,
+        8 * 1024 * 1024,
+        3600
+    );
+
+    @Test
+    void completeRetryAfterVideoWasSavedReturnsExistingVideo() {
+        UploadSession session = session("session-1", UploadSessionState.OPEN, NOW);
+        Video existing = new Video("video-1", "app-1", "Clip", null, ContentStatus.DRAFT, null, null, null,
+            session.getObjectKey(), "video/mp4", 10, ProcessingState.READY, NOW, NOW);
+        when(sessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        when(videoRepository.findByObjectKey(session.getObjectKey())).thenReturn(Optional.of(existing));
+
+        VideoDto video = service.complete("session-1", List.of("app-1"));
+
+        assertThat(video.getId()).isEqualTo("video-1");
+        ArgumentCaptor<UploadSession> saved = ArgumentCaptor.forClass(UploadSession.class);
+        verify(sessionRepository).save(saved.capture());
+        assertThat(saved.getValue().getState()).isEqualTo(UploadSessionState.COMPLETED);
+        assertThat(saved.getValue().getVideoId()).isEqualTo("video-1");
+        verify(videoRepository, never()).insert(any());
+        verifyNoInteractions(storage, countCache);
+    }
+
+    @Test
+    void uploadChunkRecordsActivityOnTheSession() {
+        UploadSession session = session("session-1", UploadSessionState.OPEN, NOW.minusSeconds(7200));
+        when(sessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        when(storage.uploadPart(any(), any(), anyInt(), any(), anyLong())).thenReturn("etag-1");
+
+        service.uploadChunk("session-1", 1, new ByteArrayInputStream(new byte[10]), 10, List.of("app-1"));
+
+        verify(sessionRepository).touch("session-1", NOW);
+    }
+
+    @Test
+    void expireAbandonedMarksIdleSessionsExpiredBeforeAbortingTheirUploads() {
+        Instant cutoff = NOW.minusSeconds(3600);
+        UploadSession stale = session("session-1", UploadSessionState.OPEN, NOW.minusSeconds(7200));
+        UploadSession orphaned = session("session-2", UploadSessionState.OPEN, NOW.minusSeconds(7200));
+        UploadSession resumed = session("session-3", UploadSessionState.OPEN, NOW.minusSeconds(7200));
+        when(sessionRepository.findOpenUpdatedBefore(cutoff, 10)).thenReturn(List.of(stale, orphaned, resumed));
+        when(sessionRepository.expire("session-1", cutoff, NOW)).thenReturn(true);
+        when(sessionRepository.expire("session-2", cutoff, NOW)).thenReturn(true);
+        when(sessionRepository.expire("session-3", cutoff, NOW)).thenReturn(false);
+        doThrow(new IllegalStateException("NoSuchUpload")).when(storage).abortMultipartUpload(orphaned.getObjectKey(), "upload-session-2");
+
+        assertThat(service.expireAbandoned(10)).isEqualTo(3);
+
+        InOrder inOrder = inOrder(sessionRepository, storage);
+        inOrder.verify(sessionRepository).expire("session-1", cutoff, NOW);
+        inOrder.verify(storage).abortMultipartUpload(stale.getObjectKey(), "upload-session-1");
+        verify(storage).abortMultipartUpload(orphaned.getObjectKey(), "upload-session-2");
+        verify(storage, never()).abortMultipartUpload(resumed.getObjectKey(), "upload-session-3");
+        verify(sessionRepository, never()).save(any());
+    }
+
+    private static UploadSession session(String id, UploadSessionState state, Instant createdAt) {
+        return new UploadSession(id, "app-1", "app-1/2024/05/" + id + "-clip.mp4", "upload-" + id, "Clip", null,
+            ContentStatus.DRAFT, "video/mp4", 10, 8 * 1024 * 1024, state, null, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,237 @@
+package com.contentplatform.backend.application.service;
+
+import com.contentplatform.backend.application.dto.SubmitVideoCommand;
+import com.contentplatform.backend.application.dto.VideoProcessingJobDto;
+import com.contentplatform.backend.application.exception.ServiceUnavailableException;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.MediaProcessingQueue;
+import com.contentplatform.backend.application.port.out.MediaStagingPort;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.MediaUploadResult;
+import com.contentplatform.backend.application.port.out.StagedMedia;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import com.contentplatform.backend.infrastructure.cache.CaffeineContentCountCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VideoProcessingServiceTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+    private static final StagedMedia STAGED = new StagedMedia("/tmp/video-1.staged", 10);
+
+    private final VideoRepository videoRepository = mock(VideoRepository.class);
+    private final MediaStoragePort storage = mock(MediaStoragePort.class);
+    private final MediaStagingPort staging = mock(MediaStagingPort.class);
+    private final MediaProcessingQueue queue = mock(MediaProcessingQueue.class);
+    private final ContentCountCache countCache = new CaffeineContentCountCache(100, Duration.ofMinutes(5));
+    private final VideoProcessingService service = new VideoProcessingService(
+        videoRepository, storage, staging, queue, () -> NOW, () -> "video-1", countCache, 5, 3600, "node-a"
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(queue.hasCapacity()).thenReturn(true);
+        when(staging.stage(any())).thenReturn(STAGED);
+        when(staging.open(STAGED)).thenAnswer(invocation -> new ByteArrayInputStream(new byte[10]));
+        when(videoRepository.insertProcessing(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(videoRepository.updateProcessingState(eq("video-1"), eq(ProcessingState.PROCESSING), any(), anyLong(), any()))
+            .thenAnswer(invocation -> Optional.of(new Video("video-1", "app-1", "Clip", null, ContentStatus.PUBLISHED, NOW, null, null,
+                "app-1/2024/05/clip.mp4", "video/mp4", invocation.getArgument(3), invocation.getArgument(2), NOW, NOW)));
+        countCache.get(ContentType.VIDEO, "app-1", ContentStatus.PUBLISHED, () -> 0);
+        countCache.get(ContentType.VIDEO, "app-1", ContentStatus.PUBLISHED, ProcessingState.READY, () -> 0);
+    }
+
+    @Test
+    void submitDeletesRowAndStagedFileWhenQueueIsFull() {
+        when(queue.trySubmit(any())).thenReturn(false);
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+            () -> service.submit(command(), List.of("app-1")));
+
+        assertThat(ex.getRetryAfterSeconds()).isEqualTo(5);
+        verify(staging).discard(STAGED);
+        verify(videoRepository).deleteById("video-1");
+        verify(videoRepository, never()).save(any());
+        assertThat(adminCount()).isZero();
+    }
+
+    @Test
+    void processingMarksVideoReadyAndCountsItForPublicListsOnlyThen() {
+        Runnable[] task = new Runnable[1];
+        when(queue.trySubmit(any())).thenAnswer(invocation -> {
+            task[0] = invocation.getArgument(0);
+            return true;
+        });
+        when(storage.upload(anyString(), any(InputStream.class), anyLong(), anyString()))
+            .thenAnswer(invocation -> new MediaUploadResult(invocation.getArgument(0), 10, "video/mp4"));
+
+        VideoProcessingJobDto job = service.submit(command(), List.of("app-1"));
+
+        assertThat(job.state()).isEqualTo(ProcessingState.PROCESSING);
+        assertThat(job.objectKey()).startsWith("app-1/2024/05/").endsWith("-clip.mp4");
+        assertThat(adminCount()).isEqualTo(1);
+        assertThat(publicCount()).isZero();
+
+        task[0].run();
+
+        assertThat(processedState()).isEqualTo(ProcessingState.READY);
+        verify(videoRepository, never()).findById(anyString());
+        assertThat(adminCount()).isEqualTo(1);
+        assertThat(publicCount()).isEqualTo(1);
+        verify(staging).discard(STAGED);
+    }
+
+    @Test
+    void processingMarksVideoFailedWhenUploadFails() {
+        when(queue.trySubmit(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        });
+        when(storage.upload(anyString(), any(InputStream.class), anyLong(), anyString()))
+            .thenThrow(new IllegalStateException("Failed to upload media"));
+
+        service.submit(command(), List.of("app-1"));
+
+        assertThat(processedState()).isEqualTo(ProcessingState.FAILED);
+        assertThat(publicCount()).isZero();
+        verify(staging).discard(STAGED);
+    }
+
+    @Test
+    void recoverInterruptedFailsJobsOfThisNodeAndStaleJobsAndClearsStaging() {
+        when(videoRepository.findInterruptedProcessing("node-a", NOW.minusSeconds(3600)))
+            .thenReturn(List.of(video("video-1", ProcessingState.PROCESSING)));
+
+        assertThat(service.recoverInterrupted()).isEqualTo(1);
+
+        assertThat(processedState()).isEqualTo(ProcessingState.FAILED);
+        verify(staging).discardAll();
+    }
+
+    @Test
+    void recoveryOnOneNodeLeavesJobsRunningOnAnotherNode() {
+        SharedVideoTable table = new SharedVideoTable();
+        MediaProcessingQueue queueA = mock(MediaProcessingQueue.class);
+        Runnable[] runningOnA = new Runnable[1];
+        when(queueA.hasCapacity()).thenReturn(true);
+        when(queueA.trySubmit(any())).thenAnswer(invocation -> {
+            runningOnA[0] = invocation.getArgument(0);
+            return true;
+        });
+        when(storage.upload(anyString(), any(InputStream.class), anyLong(), anyString()))
+            .thenAnswer(invocation -> new MediaUploadResult(invocation.getArgument(0), 10, "video/mp4"));
+        VideoProcessingService nodeA = new VideoProcessingService(
+            table.repository, storage, staging, queueA, () -> NOW, () -> "video-a", countCache, 5, 3600, "node-a");
+        VideoProcessingService nodeB = new VideoProcessingService(
+            table.repository, storage, staging, mock(MediaProcessingQueue.class), () -> NOW, () -> "video-x", countCache, 5, 3600, "node-b");
+        nodeA.submit(command(), List.of("app-1"));
+        table.insert(video("video-b", ProcessingState.PROCESSING), "node-b", NOW.minusSeconds(60));
+        table.insert(video("video-gone", ProcessingState.PROCESSING), "node-gone", NOW.minusSeconds(7200));
+        table.insert(video("video-recent", ProcessingState.PROCESSING), "node-gone", NOW.minusSeconds(60));
+
+        assertThat(nodeB.recoverInterrupted()).isEqualTo(2);
+
+        assertThat(table.state("video-a")).isEqualTo(ProcessingState.PROCESSING);
+        assertThat(table.state("video-b")).isEqualTo(ProcessingState.FAILED);
+        assertThat(table.state("video-gone")).isEqualTo(ProcessingState.FAILED);
+        assertThat(table.state("video-recent")).isEqualTo(ProcessingState.PROCESSING);
+
+        runningOnA[0].run();
+
+        assertThat(table.state("video-a")).isEqualTo(ProcessingState.READY);
+    }
+
+    private ProcessingState processedState() {
+        ArgumentCaptor<ProcessingState> state = ArgumentCaptor.forClass(ProcessingState.class);
+        verify(videoRepository).updateProcessingState(eq("video-1"), eq(ProcessingState.PROCESSING), state.capture(), anyLong(), eq(NOW));
+        return state.getValue();
+    }
+
+    private long adminCount() {
+        return countCache.get(ContentType.VIDEO, "app-1", ContentStatus.PUBLISHED, () -> -1);
+    }
+
+    private long publicCount() {
+        return countCache.get(ContentType.VIDEO, "app-1", ContentStatus.PUBLISHED, ProcessingState.READY, () -> -1);
+    }
+
+    private static Video video(String id, ProcessingState state) {
+        return new Video(id, "app-1", "Clip", null, ContentStatus.PUBLISHED, NOW, null, null,
+            "app-1/2024/05/" + id + ".mp4", "video/mp4", 10, state, NOW, NOW);
+    }
+
+    private static SubmitVideoCommand command() {
+        return new SubmitVideoCommand("app-1", "Clip", null, ContentStatus.PUBLISHED, "clip.mp4", "video/mp4", target -> {
+        });
+    }
+
+    private static final class SharedVideoTable {
+        private final Map<String, Video> rows = new ConcurrentHashMap<>();
+        private final Map<String, String> nodes = new ConcurrentHashMap<>();
+        private final Map<String, Instant> updatedAt = new ConcurrentHashMap<>();
+        private final VideoRepository repository = mock(VideoRepository.class);
+
+        private SharedVideoTable() {
+            when(repository.insertProcessing(any(), anyString())).thenAnswer(invocation -> {
+                Video video = invocation.getArgument(0);
+                insert(video, invocation.getArgument(1), video.getUpdatedAt());
+                return video;
+            });
+            when(repository.findInterruptedProcessing(anyString(), any())).thenAnswer(invocation -> {
+                String node = invocation.getArgument(0);
+                Instant staleBefore = invocation.getArgument(1);
+                return rows.values().stream()
+                    .filter(video -> video.getProcessingState() == ProcessingState.PROCESSING)
+                    .filter(video -> node.equals(nodes.get(video.getId())) || updatedAt.get(video.getId()).isBefore(staleBefore))
+                    .toList();
+            });
+            when(repository.updateProcessingState(anyString(), any(), any(), anyLong(), any())).thenAnswer(invocation -> {
+                Video current = rows.get(invocation.<String>getArgument(0));
+                if (current == null || current.getProcessingState() != invocation.getArgument(1)) {
+                    return Optional.empty();
+                }
+                Video updated = new Video(current.getId(), current.getApplicationId(), current.getTitle(), current.getDescription(),
+                    current.getStatus(), current.getPublishedAt(), current.getPublishAt(), current.getUnpublishAt(),
+                    current.getObjectKey(), current.getContentType(), invocation.getArgument(3), invocation.getArgument(2),
+                    current.getCreatedAt(), invocation.getArgument(4));
+                rows.put(updated.getId(), updated);
+                updatedAt.put(updated.getId(), updated.getUpdatedAt());
+                return Optional.of(updated);
+            });
+        }
+
+        private void insert(Video video, String node, Instant lastUpdate) {
+            rows.put(video.getId(), video);
+            nodes.put(video.getId(), node);
+            updatedAt.put(video.getId(), lastUpdate);
+        }
+
+        private ProcessingState state(String id) {
+            return rows.get(id).getProcessingState();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.contentplatform.backend.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7IdGeneratorTest {
+    @Test
+    void generatesVersion7IdsInCreationOrderWithinTheSameMillisecond() {
+        Instant fixed = Instant.parse("2024-05-01T10:00:00Z");
+        UuidV7IdGenerator generator = new UuidV7IdGenerator(() -> fixed);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.newId());
+        }
+
+        UUID first = UUID.fromString(ids.get(0));
+        assertThat(first.version()).isEqualTo(7);
+        assertThat(first.variant()).isEqualTo(2);
+        assertThat(first.getMostSignificantBits() >>> 16).isEqualTo(fixed.toEpochMilli());
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+}
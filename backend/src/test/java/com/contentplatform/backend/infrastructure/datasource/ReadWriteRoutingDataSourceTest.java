@@ -0,0 +1,85 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+import com.contentplatform.backend.infrastructure.traffic.TrafficClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(Map.of(
+            DataSourceRoute.PRIMARY, database("primary"),
+            DataSourceRoute.REPLICA, database("replica"),
+            DataSourceRoute.PUBLIC, database("public"),
+            DataSourceRoute.UPLOAD, database("upload")
+        ));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        DataSourceRouteContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndEverythingElseUsesPrimary() {
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+        assertThat(currentDatabase(readWrite)).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedRequestsReadFromPrimary() {
+        DataSourceRouteContext.pinPrimary();
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void trafficClassSelectsDedicatedPools() {
+        DataSourceRouteContext.setTrafficClass(TrafficClass.PUBLIC);
+        assertThat(currentDatabase(readOnly)).isEqualTo("public");
+
+        DataSourceRouteContext.setTrafficClass(TrafficClass.UPLOAD);
+        assertThat(currentDatabase(readOnly)).isEqualTo("upload");
+        assertThat(currentDatabase(readWrite)).isEqualTo("upload");
+    }
+
+    private String currentDatabase(TransactionTemplate transaction) {
+        return transaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists marker (name varchar(16))");
+        jdbcTemplate.execute("delete from marker");
+        jdbcTemplate.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
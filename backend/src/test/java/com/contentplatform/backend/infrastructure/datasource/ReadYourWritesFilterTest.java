@@ -0,0 +1,114 @@
+package com.contentplatform.backend.infrastructure.datasource;
+
+import com.contentplatform.backend.infrastructure.security.JwtAuthenticationToken;
+import com.contentplatform.backend.infrastructure.security.JwtUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-05-01T12:00:00Z"));
+    private final ReadYourWritesFilter writerNode = new ReadYourWritesFilter(now::get, 5, "", "shared-jwt-secret");
+    private final ReadYourWritesFilter readerNode = new ReadYourWritesFilter(now::get, 5, "", "shared-jwt-secret");
+    private final AtomicBoolean pinned = new AtomicBoolean();
+    private final FilterChain chain = (request, response) -> pinned.set(DataSourceRouteContext.isPrimaryPinned());
+
+    @BeforeEach
+    void authenticate() {
+        authenticateAs("user-1");
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        DataSourceRouteContext.clear();
+    }
+
+    @Test
+    void readOnAnotherNodeUsesPrimaryWithinWindowAfterWrite() throws Exception {
+        String token = write();
+
+        now.set(now.get().plusSeconds(4));
+
+        assertThat(readPinned(token)).isTrue();
+        assertThat(DataSourceRouteContext.isPrimaryPinned()).isFalse();
+    }
+
+    @Test
+    void readAcceptsTokenFromCookie() throws Exception {
+        String token = write();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/posts");
+        request.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, token));
+
+        readerNode.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(pinned).isTrue();
+    }
+
+    @Test
+    void readUsesReplicaOnceWindowHasPassed() throws Exception {
+        String token = write();
+
+        now.set(now.get().plusSeconds(5));
+
+        assertThat(readPinned(token)).isFalse();
+    }
+
+    @Test
+    void readIgnoresTokensWithoutValidSignature() throws Exception {
+        String token = write();
+
+        assertThat(readPinned(token.substring(0, token.indexOf('.')) + ".forged")).isFalse();
+        assertThat(readPinned(now.get().plusSeconds(3600).toEpochMilli() + token.substring(token.indexOf('.')))).isFalse();
+
+        authenticateAs("user-2");
+        assertThat(readPinned(token)).isFalse();
+    }
+
+    @Test
+    void failedWriteDoesNotIssueToken() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writerNode.doFilter(new MockHttpServletRequest("PUT", "/api/v1/admin/posts/post-1"), response,
+            (request, servletResponse) -> ((HttpServletResponse) servletResponse).setStatus(409));
+
+        assertThat(response.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER)).isNull();
+        assertThat(response.getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE)).isNull();
+    }
+
+    private String write() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writerNode.doFilter(new MockHttpServletRequest("POST", "/api/v1/admin/posts"), response, chain);
+        assertThat(pinned).isTrue();
+        String token = response.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER);
+        assertThat(token).isNotBlank();
+        assertThat(response.getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE).getValue()).isEqualTo(token);
+        return token;
+    }
+
+    private boolean readPinned(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/posts");
+        request.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, token);
+        readerNode.doFilter(request, new MockHttpServletResponse(), chain);
+        return pinned.get();
+    }
+
+    private static void authenticateAs(String subject) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new JwtAuthenticationToken(new JwtUser(subject, subject + "@example.com", List.of("app-1")))
+        );
+    }
+}
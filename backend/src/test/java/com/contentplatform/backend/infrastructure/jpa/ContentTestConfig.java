@@ -0,0 +1,90 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.ArticleDto;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.port.out.CacheStatistics;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import com.contentplatform.backend.application.port.out.SlugCache;
+import com.contentplatform.backend.application.port.out.TimeProvider;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@TestConfiguration
+class ContentTestConfig {
+    @Bean
+    TimeProvider timeProvider() {
+        return Instant::now;
+    }
+
+    @Bean
+    IdGenerator idGenerator() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    @Bean
+    ContentCountCache contentCountCache() {
+        return new ContentCountCache() {
+            @Override
+            public long get(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState,
+                            LongSupplier loader) {
+                return loader.getAsLong();
+            }
+
+            @Override
+            public void recordCreated(ContentType type, String applicationId, ContentStatus status, ProcessingState processingState) {
+            }
+
+            @Override
+            public void recordMoved(ContentType type, String fromApplicationId, ContentStatus fromStatus,
+                                    String toApplicationId, ContentStatus toStatus, ProcessingState processingState) {
+            }
+
+            @Override
+            public void recordProcessed(ContentType type, String applicationId, ContentStatus status,
+                                        ProcessingState fromState, ProcessingState toState) {
+            }
+        };
+    }
+
+    @Bean
+    SlugCache<PostDto> postSlugCache() {
+        return uncached("posts-by-slug");
+    }
+
+    @Bean
+    SlugCache<ArticleDto> articleSlugCache() {
+        return uncached("articles-by-slug");
+    }
+
+    private static <T> SlugCache<T> uncached(String name) {
+        return new SlugCache<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public T get(String applicationId, String slug, Supplier<T> loader) {
+                return loader.get();
+            }
+
+            @Override
+            public void invalidate(String applicationId, String slug) {
+            }
+
+            @Override
+            public CacheStatistics statistics() {
+                return new CacheStatistics(name, 0, 0, 0, 0);
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.infrastructure.jpa.entity.PostEntity;
+import com.contentplatform.backend.infrastructure.jpa.repository.PostJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(JdbcBatchingTest.Config.class)
+class JdbcBatchingTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+    private static final List<String> EXECUTED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private PostJpaRepository repository;
+
+    @BeforeEach
+    void clearStatements() {
+        EXECUTED.clear();
+    }
+
+    @Test
+    void insertsOfOneFlushAreSentAsOneJdbcBatchWhileDynamicUpdatesStayPerRow() {
+        List<String> ids = IntStream.range(0, 5).mapToObj(index -> UUID.randomUUID().toString()).toList();
+
+        repository.saveAll(ids.stream().map(id -> post(id, "Draft").markNew()).toList());
+        repository.flush();
+
+        assertThat(EXECUTED).containsExactly("executeBatch:insert:5");
+
+        EXECUTED.clear();
+        repository.saveAll(ids.stream().map(id -> post(id, "Published")).toList());
+        repository.flush();
+
+        assertThat(EXECUTED).containsExactly(
+            "executeUpdate:update", "executeUpdate:update", "executeUpdate:update", "executeUpdate:update", "executeUpdate:update");
+    }
+
+    private static PostEntity post(String id, String title) {
+        return new PostEntity(id, "app-1", title, "slug-" + id, "content", ContentStatus.DRAFT, null, null, null, NOW, NOW);
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? recording(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource recording(DataSource dataSource) {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? recording(connection) : result;
+                });
+        }
+
+        private static Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                        return recording(statement, ((String) args[0]).trim().split("\\s+")[0].toLowerCase());
+                    }
+                    return result;
+                });
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String verb) {
+            int[] batched = new int[1];
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "addBatch" -> batched[0]++;
+                        case "executeBatch" -> {
+                            EXECUTED.add("executeBatch:" + verb + ":" + batched[0]);
+                            batched[0] = 0;
+                        }
+                        case "executeUpdate" -> EXECUTED.add("executeUpdate:" + verb);
+                        default -> {
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
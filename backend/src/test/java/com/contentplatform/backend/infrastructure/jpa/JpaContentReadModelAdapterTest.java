@@ -0,0 +1,113 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaContentReadModelAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaContentReadModelAdapterTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Autowired
+    private JpaContentReadModelAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplications() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-search', 'Search') on conflict do nothing");
+        jdbcTemplate.update("insert into applications (id, name) values ('app-search-other', 'Other') on conflict do nothing");
+        jdbcTemplate.update("delete from posts where application_id in ('app-search', 'app-search-other')");
+        jdbcTemplate.update("delete from articles where application_id in ('app-search', 'app-search-other')");
+    }
+
+    @Test
+    void searchPostsRanksTitleMatchesFirstWithinApplicationAndStatus() {
+        String inContent = insert("posts", "app-search", "Weekly notes", "A short guide to kafka consumers", ContentStatus.PUBLISHED);
+        String inTitle = insert("posts", "app-search", "Kafka consumers", "Tuning tips", ContentStatus.PUBLISHED);
+        insert("posts", "app-search", "Kafka draft", "kafka consumers", ContentStatus.DRAFT);
+        insert("posts", "app-search-other", "Kafka consumers", "kafka consumers", ContentStatus.PUBLISHED);
+        insert("posts", "app-search", "Unrelated", "Nothing to see", ContentStatus.PUBLISHED);
+
+        ContentSlice<ContentSummaryReadModel> result = adapter.searchPosts("app-search", ContentStatus.PUBLISHED, "kafka consumers", 0, 10, 7);
+
+        assertThat(result.items()).extracting(ContentSummaryReadModel::id).containsExactly(inTitle, inContent);
+        assertThat(result.items().get(1).excerpt()).isEqualTo("A short");
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void searchPostsSupportsWebSearchSyntax() {
+        String phrase = insert("posts", "app-search", "Release", "the new release train ships weekly", ContentStatus.PUBLISHED);
+        String scattered = insert("posts", "app-search", "Train", "release notes for the train", ContentStatus.PUBLISHED);
+        String excluded = insert("posts", "app-search", "Release train", "release train delayed", ContentStatus.PUBLISHED);
+
+        assertThat(adapter.searchPosts("app-search", ContentStatus.PUBLISHED, "\"release train\"", 0, 10, 20).items())
+            .extracting(ContentSummaryReadModel::id)
+            .containsExactlyInAnyOrder(phrase, excluded);
+        assertThat(adapter.searchPosts("app-search", ContentStatus.PUBLISHED, "release -delayed", 0, 10, 20).items())
+            .extracting(ContentSummaryReadModel::id)
+            .containsExactlyInAnyOrder(phrase, scattered);
+        assertThat(adapter.searchPosts("app-search", ContentStatus.PUBLISHED, "weekly or delayed", 0, 10, 20).items())
+            .extracting(ContentSummaryReadModel::id)
+            .containsExactlyInAnyOrder(phrase, excluded);
+        assertThat(adapter.searchPosts("app-search", ContentStatus.PUBLISHED, "\"unbalanced", 0, 10, 20).items())
+            .isEmpty();
+    }
+
+    @Test
+    void searchArticlesPagesWithHasNext() {
+        for (int index = 0; index < 3; index++) {
+            insert("articles", "app-search", "Observability " + index, "tracing and metrics", ContentStatus.PUBLISHED);
+        }
+        insert("articles", "app-search", "Observability draft", "tracing", ContentStatus.DRAFT);
+
+        ContentSlice<ContentSummaryReadModel> first = adapter.searchArticles("app-search", ContentStatus.PUBLISHED, "tracing", 0, 2, 20);
+        ContentSlice<ContentSummaryReadModel> second = adapter.searchArticles("app-search", ContentStatus.PUBLISHED, "tracing", 1, 2, 20);
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.items()).extracting(ContentSummaryReadModel::id)
+            .doesNotContainAnyElementsOf(first.items().stream().map(ContentSummaryReadModel::id).toList());
+    }
+
+    private String insert(String table, String applicationId, String title, String content, ContentStatus status) {
+        String id = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.from(NOW);
+        jdbcTemplate.update("""
+                insert into %s (id, application_id, title, slug, content, status, published_at, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """.formatted(table),
+            id, applicationId, title, id, content, status.name(), status == ContentStatus.PUBLISHED ? now : null, now, now);
+        return id;
+    }
+}
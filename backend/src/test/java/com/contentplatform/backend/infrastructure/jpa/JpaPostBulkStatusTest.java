@@ -0,0 +1,105 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.BulkChangeStatusCommand;
+import com.contentplatform.backend.application.dto.StatusChangeOutcome;
+import com.contentplatform.backend.application.dto.StatusChangeResultDto;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.out.StatusTransition;
+import com.contentplatform.backend.application.service.PostService;
+import com.contentplatform.backend.domain.model.ContentSummary;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaPostRepositoryAdapter.class, PostService.class, ContentMapper.class, ContentTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaPostBulkStatusTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+    private static final List<String> ALLOWED = List.of("app-1");
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JpaPostRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplication() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-1', 'App') on conflict do nothing");
+    }
+
+    @Test
+    void changeStatusesUpdatesEveryChunkAndReportsPreviousStatus() {
+        List<String> ids = PostRows.insert(jdbcTemplate, "app-1", "chunked", 501, ContentStatus.DRAFT, NOW);
+        jdbcTemplate.update("update posts set status = 'PUBLISHED', published_at = ? where id = ?",
+            Timestamp.from(NOW), ids.get(0));
+        List<String> requested = new ArrayList<>(ids);
+        requested.add("missing-post");
+
+        List<StatusChangeResultDto> results = postService.changeStatuses(
+            new BulkChangeStatusCommand("app-1", requested, ContentStatus.PUBLISHED), ALLOWED);
+
+        assertThat(results).hasSize(502);
+        assertThat(results.get(0).previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(results.get(0).publishedAt()).isEqualTo(NOW);
+        assertThat(results.subList(1, 501))
+            .allSatisfy(result -> {
+                assertThat(result.outcome()).isEqualTo(StatusChangeOutcome.UPDATED);
+                assertThat(result.previousStatus()).isEqualTo(ContentStatus.DRAFT);
+                assertThat(result.status()).isEqualTo(ContentStatus.PUBLISHED);
+                assertThat(result.publishedAt()).isNotNull();
+            });
+        assertThat(results.get(501)).isEqualTo(StatusChangeResultDto.notFound("missing-post"));
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from posts where slug like 'chunked-%' and status = 'PUBLISHED'", Integer.class))
+            .isEqualTo(501);
+    }
+
+    @Test
+    void transitionStatusesIgnoresRowsOfOtherApplications() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-2', 'Other') on conflict do nothing");
+        List<String> own = PostRows.insert(jdbcTemplate, "app-1", "bulk-own", 2, ContentStatus.PUBLISHED, NOW);
+        List<String> foreign = PostRows.insert(jdbcTemplate, "app-2", "bulk-foreign", 1, ContentStatus.PUBLISHED, NOW);
+
+        List<StatusTransition<ContentSummary>> transitions = adapter.transitionStatuses(
+            "app-1", List.of(own.get(0), own.get(1), foreign.get(0)), ContentStatus.ARCHIVED, NOW);
+
+        assertThat(transitions)
+            .extracting(transition -> transition.content().getId())
+            .containsExactlyInAnyOrderElementsOf(own);
+        assertThat(transitions).allSatisfy(transition -> {
+            assertThat(transition.previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+            assertThat(transition.content().getPublishedAt()).isNull();
+            assertThat(transition.content().getUpdatedAt()).isEqualTo(NOW);
+        });
+        assertThat(jdbcTemplate.queryForObject("select status from posts where id = ?", String.class, foreign.get(0)))
+            .isEqualTo("PUBLISHED");
+    }
+}
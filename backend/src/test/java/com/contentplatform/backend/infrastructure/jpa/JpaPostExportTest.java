@@ -0,0 +1,70 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest(properties = "app.export.fetch-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaPostRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaPostExportTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Autowired
+    private JpaPostRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplication() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-export', 'Export') on conflict do nothing");
+    }
+
+    @Test
+    void streamByApplicationIdFollowsUpdatedAtOrderAcrossFetches() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-2', 'Other') on conflict do nothing");
+        List<String> ids = PostRows.insert(jdbcTemplate, "app-export", "export", 5, ContentStatus.DRAFT, NOW);
+        PostRows.insert(jdbcTemplate, "app-2", "export-foreign", 1, ContentStatus.DRAFT, NOW);
+        Instant since = NOW.plusSeconds(3600);
+        for (int index = 0; index < ids.size(); index++) {
+            jdbcTemplate.update("update posts set updated_at = ? where id = ?",
+                Timestamp.from(since.plusSeconds(ids.size() - index)), ids.get(index));
+        }
+        jdbcTemplate.update("update posts set updated_at = ? where id = ?", Timestamp.from(since.minusSeconds(1)), ids.get(0));
+        List<String> exported = new ArrayList<>();
+        List<Boolean> readOnly = new ArrayList<>();
+
+        adapter.streamByApplicationId("app-export", since, post -> {
+            exported.add(post.getId());
+            readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        });
+
+        assertThat(exported).containsExactly(ids.get(4), ids.get(3), ids.get(2), ids.get(1));
+        assertThat(readOnly).containsOnly(true);
+    }
+}
@@ -0,0 +1,109 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.ImportErrorDto;
+import com.contentplatform.backend.application.dto.ImportItem;
+import com.contentplatform.backend.application.dto.ImportReportDto;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.service.ContentImportService;
+import com.contentplatform.backend.application.service.PostService;
+import com.contentplatform.backend.domain.model.Post;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaPostRepositoryAdapter.class, JpaArticleRepositoryAdapter.class, PostService.class, ContentImportService.class,
+    ContentMapper.class, ContentTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaPostImportTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+    private static final List<String> ALLOWED = List.of("app-1");
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ContentImportService importService;
+
+    @Autowired
+    private JpaPostRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplication() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-1', 'App') on conflict do nothing");
+    }
+
+    @Test
+    void insertAllSkipsConflictingSlugs() {
+        postService.create(new CreatePostCommand("app-1", "Hello", "conflict-existing", "content", ContentStatus.DRAFT), ALLOWED);
+        Post fresh = newPost("app-1", "conflict-fresh");
+        Post existing = newPost("app-1", "conflict-existing");
+        Post repeated = newPost("app-1", "conflict-fresh");
+
+        List<Post> inserted = adapter.insertAll(List.of(fresh, existing, repeated));
+
+        assertThat(inserted).containsExactly(fresh);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from posts where slug in ('conflict-existing', 'conflict-fresh')", Integer.class))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void importReportsEachRejectedLineAndKeepsTheRestOfTheChunk() {
+        List<String> allowed = List.of("app-1", "app-unknown");
+
+        ImportReportDto report = importService.importPosts(Stream.of(
+            ImportItem.of(1, new CreatePostCommand("app-1", "One", "import-one", "content", ContentStatus.PUBLISHED)),
+            ImportItem.of(2, new CreatePostCommand("app-unknown", "Orphan", "import-orphan", "content", ContentStatus.DRAFT)),
+            ImportItem.failed(3, "Malformed JSON"),
+            ImportItem.of(4, new CreatePostCommand("app-1", "Again", "import-one", "content", ContentStatus.DRAFT)),
+            ImportItem.of(5, new CreatePostCommand("app-2", "Foreign", "import-foreign", "content", ContentStatus.DRAFT)),
+            ImportItem.of(6, new CreatePostCommand("app-1", "Two", "import-two", "content", ContentStatus.DRAFT))
+        ), allowed);
+
+        assertThat(report.received()).isEqualTo(6);
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.errors()).containsExactlyInAnyOrder(
+            new ImportErrorDto(2, "Rejected by database"),
+            new ImportErrorDto(3, "Malformed JSON"),
+            new ImportErrorDto(4, "Slug already exists"),
+            new ImportErrorDto(5, "Application access denied")
+        );
+        assertThat(jdbcTemplate.queryForList("select slug from posts where slug like 'import-%' order by slug", String.class))
+            .containsExactly("import-one", "import-two");
+        assertThat(jdbcTemplate.queryForObject("select title from posts where slug = 'import-one'", String.class))
+            .isEqualTo("One");
+    }
+
+    private Post newPost(String applicationId, String slug) {
+        return new Post(UUID.randomUUID().toString(), applicationId, "Imported", slug, "content", ContentStatus.DRAFT,
+            null, null, null, NOW, NOW);
+    }
+}
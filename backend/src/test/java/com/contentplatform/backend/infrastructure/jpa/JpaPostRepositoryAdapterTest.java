@@ -0,0 +1,62 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.dto.UpdatePostCommand;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.service.PostService;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.contentplatform.backend.infrastructure.jpa.RecordingStatementInspector"
+})
+@Import({JpaPostRepositoryAdapter.class, PostService.class, ContentMapper.class, ContentTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaPostRepositoryAdapterTest {
+    private static final List<String> ALLOWED = List.of("app-1");
+
+    @Autowired
+    private PostService postService;
+
+    @BeforeEach
+    void clearStatements() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void createIssuesSingleInsertWithoutSelect() {
+        postService.create(new CreatePostCommand("app-1", "Hello", "hello", "content", ContentStatus.DRAFT), ALLOWED);
+
+        assertThat(RecordingStatementInspector.STATEMENTS)
+            .singleElement()
+            .satisfies(sql -> assertThat(sql).startsWith("insert into posts"));
+    }
+
+    @Test
+    void updateWritesOnlyChangedColumns() {
+        PostDto created = postService.create(new CreatePostCommand("app-1", "Hello", "hello-update", "content", ContentStatus.DRAFT), ALLOWED);
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        postService.update(new UpdatePostCommand(created.getId(), "app-1", "Hello again", "hello-update", "content", ContentStatus.DRAFT), ALLOWED);
+
+        assertThat(RecordingStatementInspector.STATEMENTS).hasSize(2);
+        assertThat(RecordingStatementInspector.STATEMENTS.get(0)).startsWith("select");
+        assertThat(RecordingStatementInspector.STATEMENTS.get(1))
+            .startsWith("update posts set")
+            .contains("title=")
+            .doesNotContain("content=", "slug=", "created_at=");
+    }
+}
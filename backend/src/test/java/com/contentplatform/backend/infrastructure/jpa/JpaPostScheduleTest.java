@@ -0,0 +1,109 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.port.out.ScheduledTransition;
+import com.contentplatform.backend.domain.model.ContentSummary;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaPostRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaPostScheduleTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Autowired
+    private JpaPostRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplication() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-1', 'App') on conflict do nothing");
+    }
+
+    @Test
+    void publishDueSkipsRowsLockedByAnotherTransaction() throws Exception {
+        List<String> ids = PostRows.insert(jdbcTemplate, "app-1", "due", 3, ContentStatus.DRAFT, NOW);
+        for (int index = 0; index < ids.size(); index++) {
+            jdbcTemplate.update("update posts set publish_at = ? where id = ?", Timestamp.from(NOW.minusSeconds(60 - index)), ids.get(index));
+        }
+
+        List<ScheduledTransition<ContentSummary>> fired;
+        try (Connection locker = dataSource.getConnection()) {
+            locker.setAutoCommit(false);
+            try (PreparedStatement lock = locker.prepareStatement("select id from posts where id = ? for update")) {
+                lock.setString(1, ids.get(0));
+                lock.executeQuery().close();
+            }
+            fired = adapter.publishDue(NOW, 10);
+            locker.rollback();
+        }
+        List<ScheduledTransition<ContentSummary>> retried = adapter.publishDue(NOW, 10);
+
+        assertThat(fired).extracting(transition -> transition.content().getId()).containsExactly(ids.get(1), ids.get(2));
+        assertThat(fired).allSatisfy(transition -> {
+            assertThat(transition.previousStatus()).isEqualTo(ContentStatus.DRAFT);
+            assertThat(transition.content().getStatus()).isEqualTo(ContentStatus.PUBLISHED);
+            assertThat(transition.content().getPublishedAt()).isEqualTo(NOW);
+        });
+        assertThat(fired.get(0).scheduledAt()).isEqualTo(NOW.minusSeconds(59));
+        assertThat(retried).extracting(transition -> transition.content().getId()).containsExactly(ids.get(0));
+        assertThat(adapter.publishDue(NOW, 10)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from posts where slug like 'due-%' and publish_at is null", Integer.class))
+            .isEqualTo(3);
+    }
+
+    @Test
+    void unpublishDueArchivesPublishedRowsAndLeavesFutureSchedules() {
+        List<String> published = PostRows.insert(jdbcTemplate, "app-1", "expiring", 2, ContentStatus.PUBLISHED, NOW);
+        List<String> draft = PostRows.insert(jdbcTemplate, "app-1", "expiring-draft", 1, ContentStatus.DRAFT, NOW);
+        jdbcTemplate.update("update posts set unpublish_at = ? where id in (?, ?)", Timestamp.from(NOW.minusSeconds(1)), published.get(0), draft.get(0));
+        jdbcTemplate.update("update posts set unpublish_at = ? where id = ?", Timestamp.from(NOW.plusSeconds(60)), published.get(1));
+
+        List<ScheduledTransition<ContentSummary>> fired = adapter.unpublishDue(NOW, 10);
+
+        assertThat(fired).hasSize(2);
+        assertThat(fired).filteredOn(transition -> transition.content().getId().equals(published.get(0)))
+            .singleElement()
+            .satisfies(transition -> {
+                assertThat(transition.previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+                assertThat(transition.content().getStatus()).isEqualTo(ContentStatus.ARCHIVED);
+                assertThat(transition.content().getPublishedAt()).isNull();
+            });
+        assertThat(fired).filteredOn(transition -> transition.content().getId().equals(draft.get(0)))
+            .singleElement()
+            .satisfies(transition -> assertThat(transition.content().getStatus()).isEqualTo(ContentStatus.DRAFT));
+        assertThat(jdbcTemplate.queryForObject("select status from posts where id = ?", String.class, published.get(1)))
+            .isEqualTo("PUBLISHED");
+    }
+}
@@ -0,0 +1,104 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.dto.ChangeStatusCommand;
+import com.contentplatform.backend.application.dto.CreatePostCommand;
+import com.contentplatform.backend.application.dto.PostDto;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.out.StatusTransition;
+import com.contentplatform.backend.application.service.PostService;
+import com.contentplatform.backend.domain.model.Post;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.contentplatform.backend.infrastructure.jpa.RecordingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaPostRepositoryAdapter.class, PostService.class, ContentMapper.class, ContentTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaPostStatusTransitionTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+    private static final List<String> ALLOWED = List.of("app-1");
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JpaPostRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplication() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-1', 'App') on conflict do nothing");
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void changeStatusDoesNotRewriteContent() {
+        PostDto created = postService.create(new CreatePostCommand("app-1", "Hello", "hello-status", "content", ContentStatus.DRAFT), ALLOWED);
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        PostDto published = postService.changeStatus(new ChangeStatusCommand(created.getId(), "app-1", ContentStatus.PUBLISHED), ALLOWED);
+
+        assertThat(RecordingStatementInspector.STATEMENTS).isEmpty();
+        assertThat(published.getStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(published.getPublishedAt()).isNotNull();
+        assertThat(published.getContent()).isEqualTo("content");
+        assertThat(jdbcTemplate.queryForMap("select title, content, status from posts where id = ?", created.getId()))
+            .containsEntry("title", "Hello")
+            .containsEntry("content", "content")
+            .containsEntry("status", "PUBLISHED");
+    }
+
+    @Test
+    void transitionStatusReturnsUpdatedRowAndPreviousStatus() {
+        PostDto created = postService.create(new CreatePostCommand("app-1", "Hello", "hello-returning", "content", ContentStatus.DRAFT), ALLOWED);
+
+        StatusTransition<Post> published = adapter.transitionStatus(created.getId(), "app-1", ContentStatus.PUBLISHED, NOW).orElseThrow();
+        StatusTransition<Post> republished = adapter.transitionStatus(created.getId(), "app-1", ContentStatus.PUBLISHED, NOW.plusSeconds(60)).orElseThrow();
+        StatusTransition<Post> archived = adapter.transitionStatus(created.getId(), "app-1", ContentStatus.ARCHIVED, NOW.plusSeconds(120)).orElseThrow();
+
+        assertThat(published.previousStatus()).isEqualTo(ContentStatus.DRAFT);
+        assertThat(published.content().getStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(published.content().getPublishedAt()).isEqualTo(NOW);
+        assertThat(published.content().getTitle()).isEqualTo("Hello");
+        assertThat(published.content().getContent()).isEqualTo("content");
+        assertThat(republished.previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(republished.content().getPublishedAt()).isEqualTo(NOW);
+        assertThat(republished.content().getUpdatedAt()).isEqualTo(NOW.plusSeconds(60));
+        assertThat(archived.previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(archived.content().getPublishedAt()).isNull();
+    }
+
+    @Test
+    void transitionStatusIgnoresRowsOfOtherApplications() {
+        PostDto created = postService.create(new CreatePostCommand("app-1", "Hello", "hello-tenant", "content", ContentStatus.DRAFT), ALLOWED);
+
+        assertThat(adapter.transitionStatus(created.getId(), "app-2", ContentStatus.PUBLISHED, NOW)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("select status from posts where id = ?", String.class, created.getId()))
+            .isEqualTo("DRAFT");
+    }
+}
@@ -0,0 +1,69 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.domain.model.UploadSession;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.UploadSessionState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaUploadSessionRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaUploadSessionRepositoryAdapterTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Autowired
+    private JpaUploadSessionRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplication() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-uploads', 'Uploads') on conflict do nothing");
+    }
+
+    @Test
+    void sessionsExpireByLastActivityRatherThanCreation() {
+        Instant cutoff = NOW.minusSeconds(3600);
+        UploadSession active = adapter.save(session(NOW.minusSeconds(7200)));
+        UploadSession idle = adapter.save(session(NOW.minusSeconds(7200)));
+        adapter.touch(active.getId(), NOW.minusSeconds(60));
+
+        assertThat(adapter.findOpenUpdatedBefore(cutoff, 1000)).extracting(UploadSession::getId)
+            .contains(idle.getId())
+            .doesNotContain(active.getId());
+        assertThat(adapter.expire(active.getId(), cutoff, NOW)).isFalse();
+        assertThat(adapter.expire(idle.getId(), cutoff, NOW)).isTrue();
+        assertThat(adapter.expire(idle.getId(), cutoff, NOW)).isFalse();
+        assertThat(adapter.findById(idle.getId()).orElseThrow().getState()).isEqualTo(UploadSessionState.EXPIRED);
+        assertThat(adapter.findById(active.getId()).orElseThrow().getState()).isEqualTo(UploadSessionState.OPEN);
+    }
+
+    private static UploadSession session(Instant createdAt) {
+        String id = UUID.randomUUID().toString();
+        return new UploadSession(id, "app-uploads", "app-uploads/2024/05/" + id + "-clip.mp4", "upload-" + id, "Clip", null,
+            ContentStatus.DRAFT, "video/mp4", 10, 8 * 1024 * 1024, UploadSessionState.OPEN, null, createdAt, createdAt);
+    }
+}
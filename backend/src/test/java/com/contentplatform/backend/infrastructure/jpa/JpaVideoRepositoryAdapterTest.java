@@ -0,0 +1,137 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.application.port.out.StatusTransition;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ProcessingState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresPostgres
+@DataJpaTest(properties = "app.export.fetch-size=1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaVideoRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaVideoRepositoryAdapterTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    @Autowired
+    private JpaVideoRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeEach
+    void createApplications() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-1', 'App') on conflict do nothing");
+        jdbcTemplate.update("insert into applications (id, name) values ('app-2', 'Other') on conflict do nothing");
+    }
+
+    @Test
+    void transitionStatusesReturnsFullVideosOfTheApplicationOnly() {
+        String draft = insertVideo("app-1", ContentStatus.DRAFT, ProcessingState.PROCESSING);
+        String published = insertVideo("app-1", ContentStatus.PUBLISHED, ProcessingState.READY);
+        String foreign = insertVideo("app-2", ContentStatus.DRAFT, ProcessingState.READY);
+
+        List<StatusTransition<Video>> transitions = adapter.transitionStatuses(
+            "app-1", List.of(draft, published, foreign), ContentStatus.PUBLISHED, NOW.plusSeconds(60));
+
+        assertThat(transitions).hasSize(2);
+        StatusTransition<Video> fromDraft = transitions.stream()
+            .filter(transition -> transition.content().getId().equals(draft))
+            .findFirst()
+            .orElseThrow();
+        StatusTransition<Video> republished = transitions.stream()
+            .filter(transition -> transition.content().getId().equals(published))
+            .findFirst()
+            .orElseThrow();
+        assertThat(fromDraft.previousStatus()).isEqualTo(ContentStatus.DRAFT);
+        assertThat(fromDraft.content().getPublishedAt()).isEqualTo(NOW.plusSeconds(60));
+        assertThat(fromDraft.content().getProcessingState()).isEqualTo(ProcessingState.PROCESSING);
+        assertThat(fromDraft.content().getObjectKey()).isEqualTo("videos/app-1/" + draft + ".mp4");
+        assertThat(fromDraft.content().getContentType()).isEqualTo("video/mp4");
+        assertThat(fromDraft.content().getSizeBytes()).isEqualTo(1024);
+        assertThat(fromDraft.content().getDescription()).isEqualTo("description");
+        assertThat(fromDraft.content().getCreatedAt()).isEqualTo(NOW);
+        assertThat(republished.previousStatus()).isEqualTo(ContentStatus.PUBLISHED);
+        assertThat(republished.content().getPublishedAt()).isEqualTo(NOW);
+        assertThat(jdbcTemplate.queryForObject("select status from videos where id = ?", String.class, foreign))
+            .isEqualTo("DRAFT");
+    }
+
+    @Test
+    void streamByApplicationIdExportsReadyVideosOrderedByUpdatedAtThenId() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-export', 'Export') on conflict do nothing");
+        String processing = insertVideo("app-export", ContentStatus.DRAFT, ProcessingState.PROCESSING);
+        List<String> ready = Stream.of(
+                insertVideo("app-export", ContentStatus.PUBLISHED, ProcessingState.READY),
+                insertVideo("app-export", ContentStatus.DRAFT, ProcessingState.READY),
+                insertVideo("app-export", ContentStatus.ARCHIVED, ProcessingState.READY)
+            )
+            .sorted()
+            .toList();
+        jdbcTemplate.update("update videos set updated_at = ? where id = ?", Timestamp.from(NOW.minusSeconds(60)), ready.get(2));
+        List<String> exported = new ArrayList<>();
+
+        adapter.streamByApplicationId("app-export", null, video -> exported.add(video.getId()));
+
+        assertThat(exported).containsExactly(ready.get(2), ready.get(0), ready.get(1)).doesNotContain(processing);
+    }
+
+    @Test
+    void findInterruptedProcessingReturnsOwnJobsAndStaleJobsOfOtherNodes() {
+        jdbcTemplate.update("insert into applications (id, name) values ('app-recovery', 'Recovery') on conflict do nothing");
+        Video runningElsewhere = adapter.insertProcessing(processingVideo("app-recovery", NOW), "node-a");
+        Video own = adapter.insertProcessing(processingVideo("app-recovery", NOW), "node-b");
+        Video abandoned = adapter.insertProcessing(processingVideo("app-recovery", NOW.minusSeconds(7200)), "node-gone");
+        adapter.save(own);
+
+        List<Video> interrupted = adapter.findInterruptedProcessing("node-b", NOW.minusSeconds(3600));
+
+        assertThat(interrupted).extracting(Video::getId)
+            .contains(own.getId(), abandoned.getId())
+            .doesNotContain(runningElsewhere.getId());
+    }
+
+    private static Video processingVideo(String applicationId, Instant updatedAt) {
+        String id = UUID.randomUUID().toString();
+        return new Video(id, applicationId, "Video", null, ContentStatus.DRAFT, null, null, null,
+            "videos/" + applicationId + "/" + id + ".mp4", "video/mp4", 1024L, ProcessingState.PROCESSING, updatedAt, updatedAt);
+    }
+
+    private String insertVideo(String applicationId, ContentStatus status, ProcessingState processingState) {
+        String id = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.from(NOW);
+        jdbcTemplate.update("""
+                insert into videos (id, application_id, title, description, status, published_at, object_key, content_type,
+                                    size_bytes, processing_state, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+            id, applicationId, "Video", "description", status.name(), status == ContentStatus.PUBLISHED ? now : null,
+            "videos/" + applicationId + "/" + id + ".mp4", "video/mp4", 1024L, processingState.name(), now, now);
+        return id;
+    }
+}
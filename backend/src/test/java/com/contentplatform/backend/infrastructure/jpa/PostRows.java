@@ -0,0 +1,33 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import com.contentplatform.backend.domain.value.ContentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class PostRows {
+    private PostRows() {
+    }
+
+    static List<String> insert(JdbcTemplate jdbcTemplate, String applicationId, String slugPrefix, int count, ContentStatus status,
+                               Instant createdAt) {
+        List<String> ids = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        Timestamp now = Timestamp.from(createdAt);
+        for (int index = 0; index < count; index++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            rows.add(new Object[] {id, applicationId, "Post " + index, slugPrefix + "-" + index, "content", status.name(),
+                status == ContentStatus.PUBLISHED ? now : null, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+            insert into posts (id, application_id, title, slug, content, status, published_at, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+        return ids;
+    }
+}
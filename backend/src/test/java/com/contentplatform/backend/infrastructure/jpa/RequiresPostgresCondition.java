@@ -0,0 +1,21 @@
+package com.contentplatform.backend.infrastructure.jpa;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.testcontainers.DockerClientFactory;
+
+class RequiresPostgresCondition implements ExecutionCondition {
+    static final String REQUIRED_PARAMETER = "postgres.tests.required";
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getConfigurationParameter(REQUIRED_PARAMETER).map(Boolean::parseBoolean).orElse(false)) {
+            return ConditionEvaluationResult.enabled(REQUIRED_PARAMETER + " is set");
+        }
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            return ConditionEvaluationResult.enabled("Docker is available");
+        }
+        return ConditionEvaluationResult.disabled("Docker is not available; set -D" + REQUIRED_PARAMETER + "=true to fail instead");
+    }
+}
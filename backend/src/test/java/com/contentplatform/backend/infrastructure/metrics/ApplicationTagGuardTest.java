@@ -0,0 +1,77 @@
+package com.contentplatform.backend.infrastructure.metrics;
+
+import com.contentplatform.backend.application.port.out.ApplicationRepository;
+import com.contentplatform.backend.infrastructure.security.JwtAuthenticationToken;
+import com.contentplatform.backend.infrastructure.security.JwtUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicationTagGuardTest {
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void acceptsApplicationIdsThatExist() {
+        when(applicationRepository.existsById("app-1")).thenReturn(true);
+        ApplicationTagGuard guard = guard(10);
+
+        assertThat(guard.tagValue("app-1")).isEqualTo("app-1");
+        assertThat(guard.tagValue("made-up")).isEqualTo(ApplicationTagGuard.OTHER);
+        assertThat(guard.tagValue(null)).isEqualTo(ApplicationTagGuard.NONE);
+    }
+
+    @Test
+    void acceptsApplicationIdsOfTheAuthenticatedUserWithoutLookup() {
+        SecurityContextHolder.getContext().setAuthentication(
+            new JwtAuthenticationToken(new JwtUser("user-1", "admin@example.com", List.of("app-2")))
+        );
+        ApplicationTagGuard guard = guard(10);
+
+        assertThat(guard.tagValue("app-2")).isEqualTo("app-2");
+        verify(applicationRepository, never()).existsById("app-2");
+    }
+
+    @Test
+    void reportsOtherOnceMaximumValuesAreTaken() {
+        when(applicationRepository.existsById(anyString())).thenReturn(true);
+        ApplicationTagGuard guard = guard(1);
+
+        assertThat(guard.tagValue("app-1")).isEqualTo("app-1");
+        assertThat(guard.tagValue("app-2")).isEqualTo(ApplicationTagGuard.OTHER);
+        assertThat(guard.tagValue("app-1")).isEqualTo("app-1");
+        verify(applicationRepository, never()).existsById("app-2");
+    }
+
+    @Test
+    void remembersUnknownApplicationIdsInsteadOfLookingThemUpAgain() {
+        ApplicationTagGuard guard = guard(10);
+
+        assertThat(guard.tagValue("made-up")).isEqualTo(ApplicationTagGuard.OTHER);
+        assertThat(guard.tagValue("made-up")).isEqualTo(ApplicationTagGuard.OTHER);
+        assertThat(guard.tagValue("made-up")).isEqualTo(ApplicationTagGuard.OTHER);
+
+        verify(applicationRepository, times(1)).existsById("made-up");
+    }
+
+    private ApplicationTagGuard guard(int maximumValues) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("applicationRepository", applicationRepository));
+        return new ApplicationTagGuard(beans.getBeanProvider(ApplicationRepository.class), maximumValues, 100, 60);
+    }
+}
@@ -0,0 +1,62 @@
+package com.contentplatform.backend.infrastructure.metrics;
+
+import com.contentplatform.backend.application.exception.ForbiddenException;
+import com.contentplatform.backend.application.port.out.ApplicationRepository;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.service.MediaService;
+import com.contentplatform.backend.application.service.StreamUploader;
+import com.contentplatform.backend.infrastructure.security.HmacUploadTicketSigner;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsAspectTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+
+    @Test
+    void timesUseCaseWithOperationApplicationAndExceptionTags() {
+        when(applicationRepository.existsById("app-1")).thenReturn(true);
+        MediaService service = proxy();
+
+        service.requestUpload("app-1", "image", "a.png", List.of("app-1"));
+        assertThrows(ForbiddenException.class, () -> service.requestUpload("forged", "image", "a.png", List.of("app-1")));
+
+        Timer success = registry.find("content.usecase")
+            .tags("operation", "MediaService.requestUpload", "applicationId", "app-1", "exception", "none", "type", "none")
+            .timer();
+        Timer failure = registry.find("content.usecase")
+            .tags("operation", "MediaService.requestUpload", "applicationId", ApplicationTagGuard.OTHER, "exception", "ForbiddenException")
+            .timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(failure).isNotNull();
+        assertThat(failure.count()).isEqualTo(1);
+    }
+
+    private MediaService proxy() {
+        MediaStoragePort storage = mock(MediaStoragePort.class);
+        when(storage.getPresignedUploadUrl(anyString(), anyInt())).thenReturn("http://upload");
+        MediaService target = new MediaService(storage, Instant::now, new HmacUploadTicketSigner("", "test-jwt-secret"),
+            "media", "http://localhost:9000", 900, new StreamUploader(storage, 1024));
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("applicationRepository", applicationRepository));
+        ApplicationTagGuard guard = new ApplicationTagGuard(beans.getBeanProvider(ApplicationRepository.class), 10, 100, 60);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MetricsAspect(registry, guard));
+        return factory.getProxy();
+    }
+}
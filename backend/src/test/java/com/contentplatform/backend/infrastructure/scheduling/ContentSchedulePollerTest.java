@@ -0,0 +1,72 @@
+package com.contentplatform.backend.infrastructure.scheduling;
+
+import com.contentplatform.backend.application.dto.ScheduleAction;
+import com.contentplatform.backend.application.dto.ScheduledFiringDto;
+import com.contentplatform.backend.application.port.in.ContentSchedulingUseCase;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.domain.value.ContentType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContentSchedulePollerTest {
+    private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+    private final ContentSchedulingUseCase schedulingUseCase = mock(ContentSchedulingUseCase.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ContentSchedulePoller poller = new ContentSchedulePoller(schedulingUseCase, registry, 2);
+
+    @Test
+    void drainsUntilBatchIsNotFullAndRecordsLag() {
+        when(schedulingUseCase.fireDue(any(), any(), any(Integer.class))).thenReturn(List.of());
+        when(schedulingUseCase.fireDue(ContentType.POST, ScheduleAction.PUBLISH, 2)).thenReturn(
+            List.of(firing("post-1", 30), firing("post-2", 10)),
+            List.of(firing("post-3", 20))
+        );
+
+        poller.poll();
+
+        verify(schedulingUseCase, times(2)).fireDue(ContentType.POST, ScheduleAction.PUBLISH, 2);
+        verify(schedulingUseCase).fireDue(ContentType.VIDEO, ScheduleAction.UNPUBLISH, 2);
+        Timer lag = registry.get("content.schedule.lag").tags("type", "post", "action", "publish").timer();
+        assertThat(lag.count()).isEqualTo(3);
+        assertThat(lag.max(TimeUnit.SECONDS)).isEqualTo(30);
+        DistributionSummary batch = registry.get("content.schedule.batch.size").tags("type", "post", "action", "publish").summary();
+        assertThat(batch.count()).isEqualTo(2);
+        assertThat(batch.totalAmount()).isEqualTo(3);
+        assertThat(registry.get("content.schedule.batch.size").tags("type", "article", "action", "publish").summary().count())
+            .isZero();
+    }
+
+    @Test
+    void failureOfOneTypeDoesNotStopOthers() {
+        when(schedulingUseCase.fireDue(any(), any(), any(Integer.class))).thenReturn(List.of());
+        when(schedulingUseCase.fireDue(ContentType.POST, ScheduleAction.PUBLISH, 2))
+            .thenThrow(new IllegalStateException("database unavailable"));
+        when(schedulingUseCase.fireDue(ContentType.ARTICLE, ScheduleAction.PUBLISH, 2))
+            .thenReturn(List.of(firing("article-1", 5)));
+
+        poller.poll();
+
+        verify(schedulingUseCase).fireDue(ContentType.ARTICLE, ScheduleAction.PUBLISH, 2);
+        verify(schedulingUseCase).fireDue(ContentType.POST, ScheduleAction.UNPUBLISH, 2);
+        assertThat(registry.get("content.schedule.lag").tags("type", "article", "action", "publish").timer().count())
+            .isEqualTo(1);
+    }
+
+    private static ScheduledFiringDto firing(String id, long lagSeconds) {
+        return new ScheduledFiringDto(id, "app-1", ContentStatus.DRAFT, ContentStatus.PUBLISHED, NOW.minusSeconds(lagSeconds), NOW);
+    }
+}
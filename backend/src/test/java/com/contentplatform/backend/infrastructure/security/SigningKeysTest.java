@@ -0,0 +1,40 @@
+package com.contentplatform.backend.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SigningKeysTest {
+    private static final String JWT_SECRET = "jwt-secret-jwt-secret-jwt-secret";
+
+    @Test
+    void derivesADistinctKeyPerPurposeWhenNoSecretIsConfigured() {
+        byte[] ticket = SigningKeys.forPurpose("", "ticket", JWT_SECRET, "upload-ticket").getEncoded();
+        byte[] other = SigningKeys.forPurpose(null, "other", JWT_SECRET, "other").getEncoded();
+
+        assertThat(ticket).isNotEqualTo(other).isNotEqualTo(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        assertThat(SigningKeys.forPurpose("", "ticket", JWT_SECRET, "upload-ticket").getEncoded()).isEqualTo(ticket);
+    }
+
+    @Test
+    void usesAnExplicitSecretAsIs() {
+        assertThat(SigningKeys.forPurpose("ticket-secret", "ticket", JWT_SECRET, "upload-ticket").getEncoded())
+            .isEqualTo("ticket-secret".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rejectsDefaultAndReusedSecrets() {
+        assertThatIllegalStateException()
+            .isThrownBy(() -> SigningKeys.forPurpose("", "ticket", "change-me-please-change-me-please", "upload-ticket"))
+            .withMessageContaining("app.jwt.secret");
+        assertThatIllegalStateException()
+            .isThrownBy(() -> SigningKeys.forPurpose("change-me", "ticket", JWT_SECRET, "upload-ticket"))
+            .withMessageContaining("ticket");
+        assertThatIllegalStateException()
+            .isThrownBy(() -> SigningKeys.forPurpose(JWT_SECRET, "ticket", JWT_SECRET, "upload-ticket"))
+            .withMessageContaining("must differ");
+    }
+}
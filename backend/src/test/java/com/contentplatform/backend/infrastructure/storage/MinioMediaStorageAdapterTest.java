@@ -0,0 +1,39 @@
+package com.contentplatform.backend.infrastructure.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MinioMediaStorageAdapterTest {
+    @Test
+    void presignedUrlsAreCachedPerExpiry() throws Exception {
+        MinioClient minioClient = mock(MinioClient.class);
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+            .thenAnswer(invocation -> {
+                GetPresignedObjectUrlArgs args = invocation.getArgument(0);
+                return "https://storage/" + args.object() + "?expiry=" + args.expiry();
+            });
+        MinioMediaStorageAdapter adapter = new MinioMediaStorageAdapter(minioClient, null, new SimpleMeterRegistry(), "media", 100, 60, 8388608);
+
+        String longLived = adapter.getPresignedUrl("videos/a.mp4", 3600);
+        String shortLived = adapter.getPresignedUrl("videos/a.mp4", 120);
+        Map<String, String> batch = adapter.getPresignedUrls(List.of("videos/a.mp4", "videos/b.mp4"), 120);
+
+        assertThat(longLived).endsWith("expiry=3600");
+        assertThat(shortLived).endsWith("expiry=120");
+        assertThat(batch).containsEntry("videos/a.mp4", shortLived)
+            .containsEntry("videos/b.mp4", "https://storage/videos/b.mp4?expiry=120");
+        verify(minioClient, times(3)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+    }
+}
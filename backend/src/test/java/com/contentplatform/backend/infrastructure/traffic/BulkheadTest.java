@@ -0,0 +1,65 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(TrafficClass.UPLOAD, 1, 0, 5_000, 30, registry);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        long started = System.nanoTime();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1_000);
+        assertThat(rejectedCount("upload")).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsQueuedRequestAfterMaxWait() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(TrafficClass.PUBLIC, 1, 1, 50, 1, registry);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        long started = System.nanoTime();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(40);
+        assertThat(rejectedCount("public")).isEqualTo(1.0);
+        assertThat(registry.get("http.bulkhead.queued").tag("class", "public").gauge().value()).isZero();
+    }
+
+    @Test
+    void queuedRequestProceedsWhenPermitIsReleased() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(TrafficClass.ADMIN, 1, 1, 5_000, 5, registry);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.tryAcquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        while (registry.get("http.bulkhead.queued").tag("class", "admin").gauge().value() == 0) {
+            Thread.onSpinWait();
+        }
+        bulkhead.release();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(rejectedCount("admin")).isZero();
+        assertThat(registry.get("http.bulkhead.active").tag("class", "admin").gauge().value()).isEqualTo(1.0);
+    }
+
+    private double rejectedCount(String trafficClass) {
+        return registry.get("http.bulkhead.rejected").tag("class", trafficClass).counter().count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+import com.contentplatform.backend.interfaces.web.error.GlobalExceptionHandler;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.sql.Connection;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConnectionPoolExhaustionTest {
+    private HikariDataSource dataSource;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:pool-exhaustion;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(250);
+        dataSource = new HikariDataSource(config);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PoolController(dataSource))
+            .setControllerAdvice(new GlobalExceptionHandler(2))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void exhaustedPoolAnswersServiceUnavailableWithRetryAfter() throws Exception {
+        try (Connection held = dataSource.getConnection()) {
+            mockMvc.perform(get("/transactional"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.message").value("Database is busy"));
+            mockMvc.perform(get("/jdbc"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+        }
+
+        mockMvc.perform(get("/transactional")).andExpect(status().isOk());
+    }
+
+    @RestController
+    static class PoolController {
+        private final TransactionTemplate transactionTemplate;
+        private final JdbcTemplate jdbcTemplate;
+
+        PoolController(HikariDataSource dataSource) {
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        @GetMapping("/transactional")
+        Integer transactional() {
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select 1", Integer.class));
+        }
+
+        @GetMapping("/jdbc")
+        Integer jdbc() {
+            return jdbcTemplate.queryForObject("select 1", Integer.class);
+        }
+    }
+}
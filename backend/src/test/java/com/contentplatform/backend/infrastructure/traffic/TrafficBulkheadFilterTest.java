@@ -0,0 +1,86 @@
+package com.contentplatform.backend.infrastructure.traffic;
+
+import com.contentplatform.backend.interfaces.web.error.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrafficBulkheadFilterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Bulkhead publicBulkhead;
+    private TrafficBulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        publicBulkhead = new Bulkhead(TrafficClass.PUBLIC, 1, 0, 0, 7, registry);
+        List<Bulkhead> bulkheads = List.of(
+            publicBulkhead,
+            new Bulkhead(TrafficClass.ADMIN, 1, 0, 0, 5, registry),
+            new Bulkhead(TrafficClass.UPLOAD, 1, 0, 0, 30, registry)
+        );
+        filter = new TrafficBulkheadFilter(bulkheads, exceptionResolver());
+    }
+
+    @Test
+    void respondsWithServiceUnavailableAndRetryAfterWhenFull() throws Exception {
+        assertThat(publicBulkhead.tryAcquire()).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            throw new AssertionError("Request should not reach the handler");
+        };
+
+        filter.doFilter(request("/api/v1/public/posts"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+        assertThat(registry.get("http.bulkhead.rejected").tag("class", "public").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void releasesPermitWhenSynchronousRequestFinishes() throws Exception {
+        filter.doFilter(request("/api/v1/public/posts"), new MockHttpServletResponse(), (request, response) -> { });
+
+        assertThat(publicBulkhead.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void holdsPermitUntilAsyncRequestCompletes() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/public/exports");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, response) -> servletRequest.startAsync());
+
+        assertThat(publicBulkhead.tryAcquire()).isFalse();
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertThat(publicBulkhead.tryAcquire()).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static ExceptionHandlerExceptionResolver exceptionResolver() {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.registerBean("globalExceptionHandler", GlobalExceptionHandler.class, () -> new GlobalExceptionHandler(1));
+        context.refresh();
+        ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setApplicationContext(context);
+        resolver.getMessageConverters().add(new MappingJackson2HttpMessageConverter());
+        resolver.afterPropertiesSet();
+        return resolver;
+    }
+}
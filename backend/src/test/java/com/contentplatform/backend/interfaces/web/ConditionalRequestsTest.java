@@ -0,0 +1,43 @@
+package com.contentplatform.backend.interfaces.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void collectionIgnoresIfModifiedSinceWhenAnItemLeftThePage() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/public/app-1/posts");
+        request.addHeader("If-Modified-Since", UPDATED_AT.plusSeconds(60).toEpochMilli());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = ConditionalRequests.isNotModified(new ServletWebRequest(request, response),
+            List.of("post-1"), id -> id, id -> UPDATED_AT, 1L, 1, false);
+
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader("ETag")).isNotNull();
+        assertThat(response.getHeader("Last-Modified")).isNull();
+    }
+
+    @Test
+    void collectionMatchesOnEntityTag() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        ConditionalRequests.isNotModified(new ServletWebRequest(new MockHttpServletRequest("GET", "/posts"), first),
+            List.of("post-1", "post-2"), id -> id, id -> UPDATED_AT, 2L, 1, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+
+        boolean notModified = ConditionalRequests.isNotModified(new ServletWebRequest(request, new MockHttpServletResponse()),
+            List.of("post-1", "post-2"), id -> id, id -> UPDATED_AT, 2L, 1, false);
+
+        assertThat(notModified).isTrue();
+    }
+}
@@ -42,7 +42,7 @@ class PublicContentControllerIT {
     @Test
     void listPostsReturnsOnlyPublishedContent() throws Exception {
         String applicationId = "app-1";
-        applicationRepository.save(new ApplicationEntity(applicationId, "Demo App"));
+        applicationRepository.save(new ApplicationEntity(applicationId, "Demo App", null));
 
         postRepository.save(new PostEntity(
             "post-1",
@@ -52,6 +52,8 @@ class PublicContentControllerIT {
             "content",
             ContentStatus.PUBLISHED,
             Instant.parse("2024-01-01T00:00:00Z"),
+            null,
+            null,
             Instant.parse("2024-01-01T00:00:00Z"),
             Instant.parse("2024-01-01T00:00:00Z")
         ));
@@ -64,6 +66,8 @@ class PublicContentControllerIT {
             "content",
             ContentStatus.DRAFT,
             null,
+            null,
+            null,
             Instant.parse("2024-01-02T00:00:00Z"),
             Instant.parse("2024-01-02T00:00:00Z")
         ));
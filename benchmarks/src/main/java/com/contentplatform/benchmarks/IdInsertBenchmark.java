@@ -0,0 +1,132 @@
+package com.contentplatform.benchmarks;
+
+import com.contentplatform.backend.application.port.out.IdGenerator;
+import com.contentplatform.backend.infrastructure.config.RandomUuidIdGenerator;
+import com.contentplatform.backend.infrastructure.config.UuidV7IdGenerator;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class IdInsertBenchmark {
+    private static final String SCHEMA = "id_benchmark";
+    private static final String TABLE = "posts";
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final String INSERT_SQL = """
+        insert into posts (id, application_id, title, slug, content, status, created_at, updated_at)
+        values (?, ?, ?, ?, ?, 'DRAFT', ?, ?)
+        """;
+
+    @Param({"random", "uuid-v7"})
+    public String strategy;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private IdGenerator idGenerator;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/content_platform"));
+        config.setUsername(System.getProperty("benchmark.db.user", "content"));
+        config.setPassword(System.getProperty("benchmark.db.password", "content"));
+        config.setSchema(SCHEMA);
+        config.setMaximumPoolSize(2);
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        idGenerator = "random".equals(strategy) ? new RandomUuidIdGenerator() : new UuidV7IdGenerator(Instant::now);
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch(RelationSizes sizes) {
+        return jdbcTemplate.batchUpdate(INSERT_SQL, nextBatch(batchSize));
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RelationSizes {
+        public long primaryKeyIndexBytes;
+        public long heapBytes;
+
+        @TearDown(Level.Iteration)
+        public void measure(IdInsertBenchmark benchmark) {
+            primaryKeyIndexBytes = benchmark.relationSize(TABLE + "_pkey");
+            heapBytes = benchmark.relationSize(TABLE);
+        }
+    }
+
+    private long relationSize(String relation) {
+        Long bytes = jdbcTemplate.queryForObject("select pg_relation_size(?::regclass)", Long.class, relation);
+        return bytes == null ? 0 : bytes;
+    }
+
+    private void seed() {
+        jdbcTemplate.execute("create schema if not exists " + SCHEMA);
+        jdbcTemplate.execute("drop table if exists " + TABLE);
+        jdbcTemplate.execute("""
+            create table posts (
+                id varchar(36) primary key,
+                application_id varchar(36) not null,
+                title varchar(255) not null,
+                slug varchar(255) not null,
+                content text not null,
+                status varchar(16) not null,
+                created_at timestamptz not null,
+                updated_at timestamptz not null
+            )
+            """);
+        for (int inserted = 0; inserted < rows; inserted += SEED_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, nextBatch(Math.min(SEED_BATCH_SIZE, rows - inserted)));
+        }
+        jdbcTemplate.execute("vacuum analyze " + TABLE);
+    }
+
+    private List<Object[]> nextBatch(int size) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long n = sequence++;
+            batch.add(new Object[] {idGenerator.newId(), "app-" + (n % 10), "Post " + n, "post-" + n, "Body " + n, now, now});
+        }
+        return batch;
+    }
+}
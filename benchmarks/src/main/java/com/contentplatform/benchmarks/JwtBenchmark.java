@@ -0,0 +1,56 @@
+package com.contentplatform.benchmarks;
+
+import com.contentplatform.backend.domain.model.AdminUser;
+import com.contentplatform.backend.infrastructure.security.JwtTokenProvider;
+import com.contentplatform.backend.infrastructure.security.JwtUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtTokenProvider tokenProvider;
+    private AdminUser adminUser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider("benchmark-secret-benchmark-secret-benchmark", 120, verifiedCacheSize);
+        adminUser = new AdminUser(
+            "6a3d2f0e-5c1b-4f7e-8d9a-0b1c2d3e4f50",
+            "admin@example.com",
+            "$2a$10$abcdefghijklmnopqrstuv",
+            List.of(Fixtures.APPLICATION_ID, "7b4e3a1f-6d2c-4a8f-9e0b-1c2d3e4f5a61")
+        );
+        token = tokenProvider.generate(adminUser);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generate(adminUser);
+    }
+
+    @Benchmark
+    public JwtUser parse() {
+        return tokenProvider.parse(token);
+    }
+}
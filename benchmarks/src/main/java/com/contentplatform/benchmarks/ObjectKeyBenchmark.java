@@ -0,0 +1,72 @@
+package com.contentplatform.benchmarks;
+
+import com.contentplatform.backend.application.dto.UploadTicketDto;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.out.ContentCountCache;
+import com.contentplatform.backend.application.port.out.MediaStoragePort;
+import com.contentplatform.backend.application.port.out.UploadTicketSigner;
+import com.contentplatform.backend.application.port.out.VideoRepository;
+import com.contentplatform.backend.application.service.MediaService;
+import com.contentplatform.backend.application.service.VideoService;
+import com.contentplatform.backend.infrastructure.security.HmacUploadTicketSigner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectKeyBenchmark {
+    private static final String FILE_NAME = "Quarterly product update final cut.mp4";
+    private static final long MAX_STREAM_BYTES = 5L * 1024 * 1024 * 1024;
+
+    private VideoService videoService;
+    private MediaService mediaService;
+    private List<String> allowedApplicationIds;
+
+    @Setup
+    public void setUp() {
+        MediaStoragePort storage = Stubs.of(MediaStoragePort.class, Map.of(
+            "getPresignedUploadUrl", args -> Fixtures.PRESIGNED_URL
+        ));
+        UploadTicketSigner signer = new HmacUploadTicketSigner("benchmark-secret");
+        videoService = new VideoService(
+            Stubs.of(VideoRepository.class, Map.of()),
+            storage,
+            () -> Fixtures.NOW,
+            () -> UUID.randomUUID().toString(),
+            signer,
+            new ContentMapper(),
+            Stubs.of(ContentCountCache.class, Map.of()),
+            900,
+            MAX_STREAM_BYTES
+        );
+        mediaService = new MediaService(storage, () -> Fixtures.NOW, signer, "media", "http://localhost:9000", 900, MAX_STREAM_BYTES);
+        allowedApplicationIds = List.of(Fixtures.APPLICATION_ID);
+    }
+
+    @Benchmark
+    public UploadTicketDto videoObjectKey() {
+        return videoService.requestUpload(Fixtures.APPLICATION_ID, FILE_NAME, allowedApplicationIds);
+    }
+
+    @Benchmark
+    public UploadTicketDto mediaObjectKey() {
+        return mediaService.requestUpload(Fixtures.APPLICATION_ID, "video", FILE_NAME, allowedApplicationIds);
+    }
+}
@@ -0,0 +1,47 @@
+package com.contentplatform.benchmarks;
+
+import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
+import com.contentplatform.backend.interfaces.web.response.PageResponse;
+import com.contentplatform.backend.interfaces.web.response.PostResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+    @Param({"10", "50", "100"})
+    private int pageSize;
+
+    @Param({"500", "5000"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<PostResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Fixtures.objectMapper();
+        page = new WebMapper().toPostPage(Fixtures.postPage(pageSize, contentLength));
+    }
+
+    @Benchmark
+    public byte[] serializePostPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,143 @@
+package com.contentplatform.benchmarks;
+
+import com.contentplatform.backend.application.dto.ContentSummaryReadModel;
+import com.contentplatform.backend.application.port.out.ContentSlice;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.infrastructure.jpa.JpaContentReadModelAdapter;
+import com.contentplatform.backend.infrastructure.jpa.repository.ArticleJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.PostJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.VideoJpaRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    private static final String SCHEMA = "search_benchmark";
+    private static final String APPLICATION_ID = "app-0";
+    private static final int TENANTS = 10;
+    private static final int PAGE_SIZE = 10;
+    private static final int EXCERPT_LENGTH = 200;
+    private static final String SUBSTRING_SQL = """
+        select p.id, p.title, p.slug, p.published_at, left(p.content, ?) as excerpt
+        from posts p
+        where p.application_id = ? and p.status = 'PUBLISHED' and (p.title ilike ? or p.content ilike ?)
+        order by p.published_at desc
+        limit ?
+        """;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"zeppelin", "release notes"})
+    public String query;
+
+    private HikariDataSource dataSource;
+    private JpaContentReadModelAdapter adapter;
+    private JdbcTemplate jdbcTemplate;
+    private String pattern;
+
+    @Setup
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/content_platform"));
+        config.setUsername(System.getProperty("benchmark.db.user", "content"));
+        config.setPassword(System.getProperty("benchmark.db.password", "content"));
+        config.setSchema(SCHEMA);
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+        adapter = new JpaContentReadModelAdapter(
+            Stubs.of(PostJpaRepository.class, Map.of()),
+            Stubs.of(ArticleJpaRepository.class, Map.of()),
+            Stubs.of(VideoJpaRepository.class, Map.of()),
+            new NamedParameterJdbcTemplate(jdbcTemplate)
+        );
+        pattern = "%" + query.split(" ")[0] + "%";
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public ContentSlice<ContentSummaryReadModel> indexedSearch() {
+        return adapter.searchPosts(APPLICATION_ID, ContentStatus.PUBLISHED, query, 0, PAGE_SIZE, EXCERPT_LENGTH);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> substringScan() {
+        return jdbcTemplate.queryForList(SUBSTRING_SQL, EXCERPT_LENGTH, APPLICATION_ID, pattern, pattern, PAGE_SIZE + 1);
+    }
+
+    private void seed() {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .schemas(SCHEMA)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        if (jdbcTemplate.queryForObject("select count(*) from posts", Long.class) == rows) {
+            return;
+        }
+        jdbcTemplate.execute("truncate table applications cascade");
+        jdbcTemplate.update("""
+            insert into applications (id, name)
+            select 'app-' || i, 'Application ' || i
+            from generate_series(0, ? - 1) i
+            """, TENANTS);
+        jdbcTemplate.update("""
+            insert into posts (id, application_id, title, slug, content, status, published_at, created_at, updated_at)
+            select md5(i::text)::uuid::text,
+                   'app-' || (i % ?),
+                   initcap(words[1 + (i * 7) % cardinality(words)] || ' ' || words[1 + (i * 13) % cardinality(words)]),
+                   'post-' || i,
+                   (select string_agg(words[1 + floor(random() * cardinality(words))::int], ' ')
+                    from generate_series(1, 40 + i % 40))
+                       || case when i % 1000 = 0 then ' zeppelin' else '' end,
+                   case when i % 5 = 0 then 'DRAFT' else 'PUBLISHED' end,
+                   now() - i * interval '1 minute',
+                   now() - i * interval '1 minute',
+                   now() - i * interval '1 minute'
+            from generate_series(1, ?) i, (select ?::text[] as words) vocabulary
+            """, TENANTS, rows, vocabulary());
+        jdbcTemplate.execute("analyze posts");
+    }
+
+    private static String vocabulary() {
+        List<String> words = new ArrayList<>(List.of(
+            "release", "notes", "platform", "video", "article", "update", "guide", "weekly", "product", "team",
+            "launch", "design", "mobile", "search", "cache", "latency", "storage", "upload", "editor", "draft"
+        ));
+        for (int i = 0; words.size() < 500; i++) {
+            words.add("topic" + i);
+        }
+        return "{" + String.join(",", words) + "}";
+    }
+}
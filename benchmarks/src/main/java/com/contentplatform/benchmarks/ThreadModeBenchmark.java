@@ -0,0 +1,71 @@
+package com.contentplatform.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1000)
+@Fork(1)
+public class ThreadModeBenchmark {
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200"})
+    private int platformThreads;
+
+    @Param({"10"})
+    private long blockingMillis;
+
+    @Param({"false", "true"})
+    private boolean pinned;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = mode.equals("virtual")
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(platformThreads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object request() throws Exception {
+        return executor.submit(this::handle).get();
+    }
+
+    private Object handle() throws InterruptedException {
+        Object connection = new Object();
+        if (pinned) {
+            synchronized (connection) {
+                Thread.sleep(blockingMillis);
+            }
+        } else {
+            Thread.sleep(blockingMillis);
+        }
+        return connection;
+    }
+}
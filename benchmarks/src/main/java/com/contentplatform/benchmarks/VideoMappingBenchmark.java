@@ -0,0 +1,124 @@
+package com.contentplatform.benchmarks;
+
+import com.contentplatform.backend.application.dto.PageResult;
+import com.contentplatform.backend.application.dto.VideoDto;
+import com.contentplatform.backend.application.dto.VideoReadModel;
+import com.contentplatform.backend.application.mapper.ContentMapper;
+import com.contentplatform.backend.application.port.out.PageSlice;
+import com.contentplatform.backend.domain.model.Video;
+import com.contentplatform.backend.domain.value.ContentStatus;
+import com.contentplatform.backend.infrastructure.jpa.JpaContentReadModelAdapter;
+import com.contentplatform.backend.infrastructure.jpa.JpaVideoRepositoryAdapter;
+import com.contentplatform.backend.infrastructure.jpa.entity.VideoEntity;
+import com.contentplatform.backend.infrastructure.jpa.repository.ArticleJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.PostJpaRepository;
+import com.contentplatform.backend.infrastructure.jpa.repository.VideoJpaRepository;
+import com.contentplatform.backend.interfaces.web.mapper.WebMapper;
+import com.contentplatform.backend.interfaces.web.response.PageResponse;
+import com.contentplatform.backend.interfaces.web.response.VideoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VideoMappingBenchmark {
+    @Param({"10", "50", "100"})
+    private int pageSize;
+
+    private JpaVideoRepositoryAdapter adapter;
+    private JpaContentReadModelAdapter readModelAdapter;
+    private ContentMapper contentMapper;
+    private WebMapper webMapper;
+    private ObjectMapper objectMapper;
+    private List<Video> videos;
+    private PageResult<VideoDto> dtoPage;
+
+    @Setup
+    public void setUp() {
+        List<VideoEntity> entities = Fixtures.videoEntities(pageSize);
+        List<VideoReadModel> readModels = entities.stream()
+            .map(entity -> new VideoReadModel(entity.getId(), entity.getApplicationId(), entity.getTitle(), entity.getDescription(),
+                entity.getStatus(), entity.getPublishedAt(), entity.getObjectKey(), entity.getContentType(), entity.getSizeBytes(),
+                entity.getCreatedAt(), entity.getUpdatedAt()))
+            .toList();
+        VideoJpaRepository repository = Stubs.of(VideoJpaRepository.class, Map.of(
+            "findByApplicationIdAndStatus", args -> new PageImpl<>(entities, (Pageable) args[2], 1000),
+            "findReadModelsByApplicationIdAndStatus", args -> new PageImpl<>(readModels, (Pageable) args[2], 1000)
+        ));
+        adapter = new JpaVideoRepositoryAdapter(repository, null, 500);
+        readModelAdapter = new JpaContentReadModelAdapter(
+            Stubs.of(PostJpaRepository.class, Map.of()),
+            Stubs.of(ArticleJpaRepository.class, Map.of()),
+            repository,
+            null
+        );
+        contentMapper = new ContentMapper();
+        webMapper = new WebMapper();
+        objectMapper = Fixtures.objectMapper();
+        videos = loadPage().items();
+        dtoPage = toDtoPage(loadPage());
+    }
+
+    @Benchmark
+    public PageSlice<Video> entityToDomain() {
+        return loadPage();
+    }
+
+    @Benchmark
+    public List<VideoDto> domainToDto() {
+        return videos.stream().map(contentMapper::toVideoDto).toList();
+    }
+
+    @Benchmark
+    public PageResponse<VideoResponse> dtoToResponse() {
+        return webMapper.toVideoPage(dtoPage, video -> Fixtures.PRESIGNED_URL);
+    }
+
+    @Benchmark
+    public byte[] fullChain() throws Exception {
+        PageResponse<VideoResponse> response = webMapper.toVideoPage(toDtoPage(loadPage()), video -> Fixtures.PRESIGNED_URL);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] readModelChain() throws Exception {
+        PageSlice<VideoReadModel> slice = readModelAdapter.findVideos(Fixtures.APPLICATION_ID, ContentStatus.PUBLISHED, 0, pageSize);
+        List<VideoReadModel> items = slice.items().stream().map(video -> video.withPresignedUrl(Fixtures.PRESIGNED_URL)).toList();
+        PageResult<VideoReadModel> page = new PageResult<>(items, slice.totalElements(), slice.totalPages(), slice.page(), slice.size());
+        return objectMapper.writeValueAsBytes(webMapper.toPage(page));
+    }
+
+    private PageSlice<Video> loadPage() {
+        return adapter.findByApplicationIdAndStatus(Fixtures.APPLICATION_ID, ContentStatus.PUBLISHED, 0, pageSize);
+    }
+
+    private PageResult<VideoDto> toDtoPage(PageSlice<Video> slice) {
+        return new PageResult<>(
+            slice.items().stream().map(contentMapper::toVideoDto).toList(),
+            slice.totalElements(),
+            slice.totalPages(),
+            slice.page(),
+            slice.size()
+        );
+    }
+}